@@ -0,0 +1,421 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.BidderPrivacyResult;
+import org.prebid.server.auction.model.DebugContext;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderDeps;
+import org.prebid.server.bidder.BidderErrorNotifier;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.bidder.BidderInstanceDeps;
+import org.prebid.server.bidder.GenericBidder;
+import org.prebid.server.bidder.HttpBidderRequestEnricher;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cache.CacheService;
+import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.deals.model.DeepDebugLog;
+import org.prebid.server.deals.model.TxnLog;
+import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.hooks.execution.HookCatalog;
+import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.identity.NoneIdGenerator;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonMerger;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.json.SharedSerializationModule;
+import org.prebid.server.log.CriteriaLogManager;
+import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.AccountMetricsVerbosity;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.model.Endpoint;
+import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.settings.model.VideoStoredDataResult;
+import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.vast.VastModifier;
+import org.prebid.server.version.PrebidVersionProvider;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Wires {@link ExchangeService} with real auction core collaborators and in-process bidders.
+ * <p>
+ * Every bidder is a {@link GenericBidder} whose endpoint is answered by {@link StubHttpClient} with a prepared
+ * OpenRTB response holding one bid per imp, so the whole request/response encoding, bid validation and response
+ * creation path is exercised without any network interaction. Only collaborators that are out of scope for the
+ * auction core (privacy enforcement, stored requests and cache) are stubbed.
+ */
+public class AuctionFixture {
+
+    private static final String ACCOUNT_ID = "benchmark-account";
+    private static final long AUCTION_TIMEOUT_MS = 60_000L;
+
+    private final int impCount;
+    private final int bidderCount;
+
+    private final Clock clock = Clock.systemUTC();
+    private final JacksonMapper mapper;
+    private final TimeoutFactory timeoutFactory = new TimeoutFactory(clock);
+
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final BidderCatalog bidderCatalog;
+    private final HttpBidderRequester httpBidderRequester;
+    private final BidResponseCreator bidResponseCreator;
+    private final ExchangeService exchangeService;
+
+    private final BidRequest bidRequest;
+    private final UidsCookie uidsCookie;
+    private final Account account;
+
+    public AuctionFixture(int impCount, int bidderCount) {
+        this(impCount, bidderCount, false);
+    }
+
+    /**
+     * Creates fixture which encodes bidder requests by dedicated mapper with {@link SharedSerializationModule}
+     * registered, the same way as it is done when {@code auction.shared-serialization.enabled} is turned on.
+     */
+    public AuctionFixture(int impCount, int bidderCount, boolean sharedSerialization) {
+        this.impCount = impCount;
+        this.bidderCount = bidderCount;
+
+        mapper = sharedSerialization
+                ? new JacksonMapper(ObjectMapperProvider.mapper(), ObjectMapperProvider.mapper().copy()
+                .registerModule(new SharedSerializationModule(10_000)))
+                : new JacksonMapper(ObjectMapperProvider.mapper());
+
+        vertx = Vertx.vertx();
+        metrics = new Metrics(new MetricRegistry(), CounterType.counter,
+                new AccountMetricsVerbosity(AccountMetricsVerbosityLevel.detailed, Collections.emptyList(),
+                        Collections.emptyList()));
+
+        final List<String> bidders = bidderNames();
+        bidderCatalog = new BidderCatalog(bidders.stream().map(this::bidderDeps).collect(Collectors.toList()));
+
+        final HttpClient httpClient = new StubHttpClient(bidders.stream()
+                .collect(Collectors.toMap(AuctionFixture::endpointUrl, this::bidderResponseBody)));
+
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient,
+                null,
+                new BidderErrorNotifier(0, false, false, 0, httpClient, metrics),
+                new HttpBidderRequestEnricher(new PrebidVersionProvider("benchmark")),
+                mapper);
+
+        final HookStageExecutor hookStageExecutor = HookStageExecutor.create(
+                null, null, new HookCatalog(Collections.emptySet()), timeoutFactory, vertx, clock, mapper);
+        final EventsService eventsService = new EventsService("http://localhost");
+
+        bidResponseCreator = new BidResponseCreator(
+                cacheService(),
+                bidderCatalog,
+                new VastModifier(bidderCatalog, eventsService, metrics),
+                eventsService,
+                storedRequestProcessor(),
+                new WinningBidComparatorFactory(),
+                new NoneIdGenerator(),
+                hookStageExecutor,
+                new NoOpCategoryMappingService(),
+                0,
+                clock,
+                mapper);
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                new StoredResponseProcessor(Mockito.mock(ApplicationSettings.class), mapper),
+                privacyEnforcementService(),
+                new FpdResolver(mapper, new JsonMerger(mapper)),
+                SchainResolver.create(null, mapper),
+                new DebugResolver(bidderCatalog, null),
+                httpBidderRequester,
+                new ResponseBidValidator(BidValidationEnforcement.skip, BidValidationEnforcement.skip, metrics,
+                        mapper, false),
+                new CurrencyConversionService(null),
+                bidResponseCreator,
+                BidResponsePostProcessor.noOp(),
+                hookStageExecutor,
+                null,
+                new HttpInteractionLogger(mapper),
+                metrics,
+                clock,
+                mapper,
+                new CriteriaLogManager(mapper),
+                new BidderLatencyTracker(clock, 1000L, 100),
+                null,
+                null);
+
+        bidRequest = bidRequest(bidders);
+        uidsCookie = uidsCookie(bidders);
+        account = Account.builder().id(ACCOUNT_ID).build();
+    }
+
+    public ExchangeService exchangeService() {
+        return exchangeService;
+    }
+
+    public HttpBidderRequester httpBidderRequester() {
+        return httpBidderRequester;
+    }
+
+    public BidResponseCreator bidResponseCreator() {
+        return bidResponseCreator;
+    }
+
+    public BidderCatalog bidderCatalog() {
+        return bidderCatalog;
+    }
+
+    public TimeoutFactory timeoutFactory() {
+        return timeoutFactory;
+    }
+
+    public Clock clock() {
+        return clock;
+    }
+
+    public List<String> bidderNames() {
+        return IntStream.range(0, bidderCount).mapToObj(i -> "bidder" + i).collect(Collectors.toList());
+    }
+
+    /**
+     * Creates a fresh {@link AuctionContext} as {@link org.prebid.server.auction.requestfactory.AuctionRequestFactory}
+     * would do it, since the context holds mutable per-auction state (errors, warnings, hook outcomes).
+     */
+    public AuctionContext auctionContext() {
+        return AuctionContext.builder()
+                .httpRequest(HttpRequestContext.builder()
+                        .headers(CaseInsensitiveMultiMap.empty())
+                        .queryParams(CaseInsensitiveMultiMap.empty())
+                        .build())
+                .uidsCookie(uidsCookie)
+                .bidRequest(bidRequest)
+                .account(account)
+                .requestTypeMetric(MetricName.openrtb2web)
+                .timeout(timeoutFactory.create(clock.millis(), AUCTION_TIMEOUT_MS))
+                .prebidErrors(new ArrayList<>())
+                .debugWarnings(new ArrayList<>())
+                .debugHttpCalls(new HashMap<>())
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction))
+                .debugContext(DebugContext.empty())
+                .txnLog(TxnLog.create())
+                .deepDebugLog(DeepDebugLog.create(false, clock))
+                .build();
+    }
+
+    public void close() {
+        vertx.close();
+    }
+
+    private BidderDeps bidderDeps(String bidder) {
+        return BidderDeps.of(Collections.singletonList(BidderInstanceDeps.builder()
+                .name(bidder)
+                .deprecatedNames(Collections.emptyList())
+                .bidderInfo(BidderInfo.create(true, true, endpointUrl(bidder), null, null,
+                        Collections.singletonList("banner"), Collections.singletonList("banner"),
+                        Collections.emptyList(), 0, true, false))
+                .usersyncer(Usersyncer.of(bidder, null, null))
+                .bidder(new GenericBidder(endpointUrl(bidder), mapper))
+                .build()));
+    }
+
+    private static String endpointUrl(String bidder) {
+        return String.format("http://%s.bidder.local/openrtb2", bidder);
+    }
+
+    private BidRequest bidRequest(List<String> bidders) {
+        final List<Imp> imps = IntStream.range(0, impCount)
+                .mapToObj(i -> imp(i, bidders))
+                .collect(Collectors.toList());
+
+        return BidRequest.builder()
+                .id("benchmark-request")
+                .imp(imps)
+                .site(Site.builder()
+                        .domain("example.com")
+                        .page("https://example.com/news/article.html")
+                        .publisher(Publisher.builder().id(ACCOUNT_ID).build())
+                        .build())
+                .device(Device.builder()
+                        .ua("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36")
+                        .ip("192.168.0.1")
+                        .language("en")
+                        .build())
+                .user(User.builder().id("benchmark-user").build())
+                .cur(Collections.singletonList("USD"))
+                .tmax(AUCTION_TIMEOUT_MS)
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().build()))
+                .build();
+    }
+
+    private Imp imp(int index, List<String> bidders) {
+        final ObjectNode bidderParams = mapper.mapper().createObjectNode();
+        bidders.forEach(bidder -> bidderParams.set(bidder, mapper.mapper().createObjectNode()
+                .put("placementId", 1000 + index)
+                .put("siteId", "site-" + bidder)));
+
+        final ObjectNode impExt = mapper.mapper().createObjectNode();
+        impExt.set("prebid", mapper.mapper().createObjectNode().set("bidder", bidderParams));
+
+        return Imp.builder()
+                .id("imp" + index)
+                .banner(Banner.builder()
+                        .format(List.of(Format.builder().w(300).h(250).build(),
+                                Format.builder().w(728).h(90).build()))
+                        .build())
+                .tagid("ad-unit-" + index)
+                .ext(impExt)
+                .build();
+    }
+
+    private byte[] bidderResponseBody(String bidder) {
+        final List<Bid> bids = IntStream.range(0, impCount)
+                .mapToObj(i -> Bid.builder()
+                        .id(bidder + "-bid" + i)
+                        .impid("imp" + i)
+                        .price(BigDecimal.valueOf(1 + Math.floorMod(bidder.hashCode() + i, 100) / 10.0))
+                        .adm("<div><script src=\"https://ads.example.com/creative.js\"></script></div>")
+                        .crid("creative-" + i)
+                        .adomain(Collections.singletonList("advertiser.com"))
+                        .w(300)
+                        .h(250)
+                        .build())
+                .collect(Collectors.toList());
+
+        return mapper.encodeToBytes(BidResponse.builder()
+                .id("benchmark-request")
+                .cur("USD")
+                .seatbid(Collections.singletonList(SeatBid.builder().seat(bidder).bid(bids).build()))
+                .build());
+    }
+
+    private UidsCookie uidsCookie(List<String> bidders) {
+        final Map<String, UidWithExpiry> uids = bidders.stream()
+                .collect(Collectors.toMap(bidder -> bidder, bidder -> UidWithExpiry.live("uid-" + bidder)));
+        return new UidsCookie(Uids.builder().uids(uids).build(), mapper);
+    }
+
+    /**
+     * Bids caching is not requested by fixture, so cache service only provides its endpoint details.
+     */
+    private static CacheService cacheService() {
+        final CacheService cacheService = Mockito.mock(CacheService.class);
+        BDDMockito.given(cacheService.getEndpointHost()).willReturn("localhost");
+        BDDMockito.given(cacheService.getEndpointPath()).willReturn("/cache");
+        BDDMockito.given(cacheService.getCachedAssetURLTemplate()).willReturn("http://localhost/cache?uuid=");
+        return cacheService;
+    }
+
+    private static StoredRequestProcessor storedRequestProcessor() {
+        final StoredRequestProcessor storedRequestProcessor = Mockito.mock(StoredRequestProcessor.class);
+        BDDMockito.given(storedRequestProcessor.videoStoredDataResult(
+                        ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyList(),
+                        ArgumentMatchers.anyList(),
+                        ArgumentMatchers.any()))
+                .willReturn(Future.succeededFuture(VideoStoredDataResult.empty()));
+        return storedRequestProcessor;
+    }
+
+    /**
+     * Privacy enforcement is out of the auction core scope, so here it just passes user and device through untouched.
+     */
+    private static PrivacyEnforcementService privacyEnforcementService() {
+        final PrivacyEnforcementService privacyEnforcementService = Mockito.mock(PrivacyEnforcementService.class);
+        BDDMockito.given(privacyEnforcementService.mask(
+                        ArgumentMatchers.any(),
+                        ArgumentMatchers.anyMap(),
+                        ArgumentMatchers.anyList(),
+                        ArgumentMatchers.any()))
+                .willAnswer(invocation -> {
+                    final AuctionContext auctionContext = invocation.getArgument(0);
+                    final Map<String, User> bidderToUser = invocation.getArgument(1);
+                    final List<String> bidders = invocation.getArgument(2);
+                    return Future.succeededFuture(bidders.stream()
+                            .map(bidder -> BidderPrivacyResult.builder()
+                                    .requestBidder(bidder)
+                                    .user(bidderToUser.get(bidder))
+                                    .device(auctionContext.getBidRequest().getDevice())
+                                    .build())
+                            .collect(Collectors.toList()));
+                });
+        return privacyEnforcementService;
+    }
+
+    /**
+     * Answers every bidder call immediately with the prepared response for its endpoint.
+     */
+    private static class StubHttpClient implements HttpClient {
+
+        private final Map<String, byte[]> urlToResponseBody;
+
+        StubHttpClient(Map<String, byte[]> urlToResponseBody) {
+            this.urlToResponseBody = urlToResponseBody;
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
+                                                  long timeoutMs) {
+            return respond(url);
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                                  long timeoutMs) {
+            return respond(url);
+        }
+
+        private Future<HttpClientResponse> respond(String url) {
+            final byte[] body = urlToResponseBody.get(url);
+            return body != null
+                    ? Future.succeededFuture(HttpClientResponse.ofBytes(200, MultiMap.caseInsensitiveMultiMap(), body))
+                    : Future.succeededFuture(HttpClientResponse.ofBytes(204, MultiMap.caseInsensitiveMultiMap(), null));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Helpers for preparing and sanity-checking benchmark state.
+ */
+public class BenchmarkUtil {
+
+    private BenchmarkUtil() {
+    }
+
+    /**
+     * Returns result of already completed {@link Future}.
+     * <p>
+     * Fixtures never touch the network, so the whole auction is completed synchronously on the calling thread.
+     */
+    public static <T> T await(Future<T> future) {
+        if (!future.isComplete()) {
+            throw new IllegalStateException("Future is expected to be completed synchronously in benchmarks");
+        }
+        if (future.failed()) {
+            throw new IllegalStateException("Benchmark fixture failed", future.cause());
+        }
+        return future.result();
+    }
+
+    public static void requireBids(AuctionContext auctionContext, int expectedBids) {
+        final BidResponse bidResponse = auctionContext.getBidResponse();
+        final int actualBids = bidResponse != null && bidResponse.getSeatbid() != null
+                ? bidResponse.getSeatbid().stream()
+                .map(SeatBid::getBid)
+                .filter(Objects::nonNull)
+                .mapToInt(List::size)
+                .sum()
+                : 0;
+
+        if (actualBids != expectedBids) {
+            throw new IllegalStateException(String.format(
+                    "Expected %d bids in auction response, but got %d. Errors: %s", expectedBids, actualBids,
+                    auctionContext.getPrebidErrors()));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.BidResponse;
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRequestCacheInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures final auction stage: building {@link BidResponse} by {@link BidResponseCreator} from already
+ * collected and validated bidder responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidResponseCreatorBenchmark {
+
+    @Param({"1", "5"})
+    private int impCount;
+
+    @Param({"5", "20"})
+    private int bidderCount;
+
+    private AuctionFixture fixture;
+    private BidResponseCreator bidResponseCreator;
+    private List<AuctionParticipation> auctionParticipations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new AuctionFixture(impCount, bidderCount);
+        bidResponseCreator = fixture.bidResponseCreator();
+
+        auctionParticipations = BenchmarkUtil.await(fixture.exchangeService().holdAuction(fixture.auctionContext()))
+                .getAuctionParticipations();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Future<BidResponse> create() {
+        final AuctionContext auctionContext = fixture.auctionContext();
+        return bidResponseCreator.create(
+                auctionParticipations,
+                auctionContext,
+                BidRequestCacheInfo.noCache(),
+                Collections.emptyMap());
+    }
+}
@@ -0,0 +1,65 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExchangeService#holdAuction(AuctionContext)} end-to-end: bidder request preparation
+ * (makeAuctionParticipation), bidder request encoding and response decoding, bid validation and adjustment
+ * (validateAndAdjustBids) and final response creation by {@link BidResponseCreator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExchangeServiceBenchmark {
+
+    @Param({"1", "5"})
+    private int impCount;
+
+    @Param({"5", "20"})
+    private int bidderCount;
+
+    @Param({"false", "true"})
+    private boolean sharedSerialization;
+
+    private AuctionFixture fixture;
+    private ExchangeService exchangeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new AuctionFixture(impCount, bidderCount, sharedSerialization);
+        exchangeService = fixture.exchangeService();
+
+        // fail fast if fixture is misconfigured instead of measuring failed futures
+        final AuctionContext result = BenchmarkUtil.await(exchangeService.holdAuction(fixture.auctionContext()));
+        BenchmarkUtil.requireBids(result, impCount * bidderCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Future<AuctionContext> holdAuction() {
+        return exchangeService.holdAuction(fixture.auctionContext());
+    }
+}
@@ -0,0 +1,73 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.bidder.Bidder;
+import org.prebid.server.bidder.HttpBidderRequester;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.model.CaseInsensitiveMultiMap;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single bidder interaction stage of the auction: {@link Bidder#makeHttpRequests} (request encoding),
+ * HTTP call against in-process stub and {@link Bidder#makeBids} (response decoding).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpBidderRequesterBenchmark {
+
+    @Param({"1", "5"})
+    private int impCount;
+
+    private AuctionFixture fixture;
+    private HttpBidderRequester httpBidderRequester;
+    private Bidder<?> bidder;
+    private BidderRequest bidderRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new AuctionFixture(impCount, 1);
+        httpBidderRequester = fixture.httpBidderRequester();
+
+        // take bidder request exactly as it was prepared by exchange for the bidder
+        final AuctionParticipation auctionParticipation = BenchmarkUtil.await(
+                        fixture.exchangeService().holdAuction(fixture.auctionContext()))
+                .getAuctionParticipations().get(0);
+        bidderRequest = auctionParticipation.getBidderRequest();
+        bidder = fixture.bidderCatalog().bidderByName(bidderRequest.getBidder());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Future<BidderSeatBid> requestBids() {
+        return httpBidderRequester.requestBids(
+                bidder,
+                bidderRequest,
+                fixture.timeoutFactory().create(fixture.clock().millis(), 60_000L),
+                CaseInsensitiveMultiMap.empty(),
+                false);
+    }
+}
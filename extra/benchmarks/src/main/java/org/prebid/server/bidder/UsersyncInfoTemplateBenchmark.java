@@ -0,0 +1,75 @@
+package org.prebid.server.bidder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures usersync infos creation for all bidders of a single /cookie_sync request
+ * by {@link UsersyncInfoAssembler} compared with precompiled {@link UsersyncInfoTemplate}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsersyncInfoTemplateBenchmark {
+
+    @Param({"10", "100"})
+    private int bidderCount;
+
+    private final Privacy privacy = Privacy.of("1",
+            "CPBCa-mPBCa-mAAAAAENA0CAAEAAAAAAACiQAaQAwAAgAgABoAAAAAA", Ccpa.of("1YNN"), null);
+
+    private List<Usersyncer.UsersyncMethod> usersyncMethods;
+    private List<UsersyncInfoTemplate> usersyncInfoTemplates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        usersyncMethods = new ArrayList<>();
+        usersyncInfoTemplates = new ArrayList<>();
+        for (int i = 0; i < bidderCount; i++) {
+            final Usersyncer.UsersyncMethod usersyncMethod = Usersyncer.UsersyncMethod.of(
+                    i % 2 == 0 ? "redirect" : "iframe",
+                    "https://sync.bidder" + i + ".com/getuid?gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}"
+                            + "&us_privacy={{us_privacy}}&redir=",
+                    "https://prebid.example.com/setuid?bidder=bidder" + i + "&gdpr={{gdpr}}"
+                            + "&gdpr_consent={{gdpr_consent}}&us_privacy={{us_privacy}}&uid=$UID",
+                    false);
+            usersyncMethods.add(usersyncMethod);
+            usersyncInfoTemplates.add(UsersyncInfoTemplate.of(usersyncMethod));
+        }
+    }
+
+    @Benchmark
+    public void assembler(Blackhole blackhole) {
+        for (Usersyncer.UsersyncMethod usersyncMethod : usersyncMethods) {
+            blackhole.consume(UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacy).assemble());
+        }
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        final UsersyncInfoTemplate.PrivacyParams privacyParams = UsersyncInfoTemplate.PrivacyParams.of(privacy);
+        for (UsersyncInfoTemplate usersyncInfoTemplate : usersyncInfoTemplates) {
+            blackhole.consume(usersyncInfoTemplate.assemble(privacyParams));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.prebid.server.cookie;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures uids cookie decoding and encoding by {@link UidsCookieCodec} compared with {@link JacksonMapper},
+ * and {@link UidsCookieService#parseUids} of the same cookie with and without parsed uids cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UidsCookieCodecBenchmark {
+
+    @Param({"3", "20"})
+    private int familyCount;
+
+    private final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private UidsCookieCodec codec;
+    private UidsCookieService uncachedService;
+    private UidsCookieService cachedService;
+
+    private Uids uids;
+    private byte[] json;
+    private Map<String, String> cookies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new UidsCookieCodec(mapper);
+        uncachedService = createService(0);
+        cachedService = createService(1000);
+
+        final ZonedDateTime expires = ZonedDateTime.now().plusDays(14);
+        final Map<String, UidWithExpiry> uidsMap = new LinkedHashMap<>();
+        for (int i = 0; i < familyCount; i++) {
+            uidsMap.put("bidder" + i, new UidWithExpiry("J5VLCWQP-26-CWFT-" + i, expires));
+        }
+        uids = Uids.builder().uids(uidsMap).optout(false).bday(ZonedDateTime.now()).build();
+        json = mapper.encodeToBytes(uids);
+        cookies = Collections.singletonMap("uids", Base64.getUrlEncoder().encodeToString(json));
+    }
+
+    private UidsCookieService createService(int uidsCacheSize) {
+        return new UidsCookieService("trp_optout", "true", null, null, null, 90, 0, uidsCacheSize, mapper);
+    }
+
+    @Benchmark
+    public Uids decodeJackson() {
+        return mapper.decodeValue(json, Uids.class);
+    }
+
+    @Benchmark
+    public Uids decodeCodec() {
+        return codec.decode(json);
+    }
+
+    @Benchmark
+    public byte[] encodeJackson() {
+        return mapper.encodeToBytes(uids);
+    }
+
+    @Benchmark
+    public byte[] encodeCodec() {
+        return codec.encode(uids);
+    }
+
+    @Benchmark
+    public Uids parseUidsUncached() {
+        return uncachedService.parseUids(cookies);
+    }
+
+    @Benchmark
+    public Uids parseUidsCached() {
+        return cachedService.parseUids(cookies);
+    }
+}
@@ -0,0 +1,128 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatchException;
+import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link JsonMerger} with the former {@link JsonMergePatch} based merging of incoming request
+ * with already parsed stored request, as it is done by {@link org.prebid.server.auction.StoredRequestProcessor},
+ * and of two objects, as it is done for default request and bidder configs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMergerBenchmark {
+
+    @Param({"1", "5"})
+    private int impCount;
+
+    private final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+    private final JsonMerger jsonMerger = new JsonMerger(mapper);
+
+    private BidRequest bidRequest;
+    private BidRequest storedBidRequest;
+    private JsonNode storedBidRequestNode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bidRequest = BidRequest.builder()
+                .id("benchmark-request")
+                .imp(IntStream.range(0, impCount).mapToObj(JsonMergerBenchmark::imp).collect(Collectors.toList()))
+                .device(Device.builder()
+                        .ua("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36")
+                        .ip("192.168.0.1")
+                        .build())
+                .user(User.builder().id("benchmark-user").build())
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .storedrequest(ExtStoredRequest.of("stored-request"))
+                        .build()))
+                .build();
+
+        storedBidRequest = BidRequest.builder()
+                .site(Site.builder()
+                        .domain("example.com")
+                        .page("https://example.com/news/article.html")
+                        .publisher(Publisher.builder().id("benchmark-account").build())
+                        .build())
+                .device(Device.builder().language("en").build())
+                .cur(Collections.singletonList("USD"))
+                .tmax(1000L)
+                .ext(ExtRequest.of(ExtRequestPrebid.builder().debug(0).build()))
+                .build();
+        storedBidRequestNode = mapper.mapper().valueToTree(storedBidRequest);
+    }
+
+    @Benchmark
+    public BidRequest storedRequestJsonMergePatch() throws JsonPatchException, JsonProcessingException {
+        final JsonNode originNode = mapper.mapper().valueToTree(bidRequest);
+        return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originNode).apply(storedBidRequestNode),
+                BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest storedRequestJsonMerger() {
+        return jsonMerger.merge(bidRequest, storedBidRequestNode, "stored-request", BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest objectsJsonMergePatch() throws JsonPatchException, JsonProcessingException {
+        final JsonNode originNode = mapper.mapper().valueToTree(bidRequest);
+        final JsonNode mergingNode = mapper.mapper().valueToTree(storedBidRequest);
+        return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originNode).apply(mergingNode), BidRequest.class);
+    }
+
+    @Benchmark
+    public BidRequest objectsJsonMerger() {
+        return jsonMerger.merge(bidRequest, storedBidRequest, BidRequest.class);
+    }
+
+    private static Imp imp(int index) {
+        final ObjectNode impExt = ObjectMapperProvider.mapper().createObjectNode();
+        impExt.set("prebid", impExt.objectNode().set("storedrequest", impExt.objectNode().put("id", "imp" + index)));
+
+        return Imp.builder()
+                .id("imp" + index)
+                .banner(Banner.builder()
+                        .format(List.of(Format.builder().w(300).h(250).build(),
+                                Format.builder().w(728).h(90).build()))
+                        .build())
+                .tagid("ad-unit-" + index)
+                .ext(impExt)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures metrics submitted by a single auction: request, account and per-bidder counters, timers and histograms.
+ * <p>
+ * Runs in several threads, since exponentially decaying reservoir takes a lock on each update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final String ACCOUNT_ID = "benchmark-account";
+
+    @Param({"false", "true"})
+    private boolean hdrHistogram;
+
+    @Param({"5", "20"})
+    private int bidderCount;
+
+    private Metrics metrics;
+    private List<String> bidders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final MetricRegistry metricRegistry = hdrHistogram ? new HdrHistogramMetricRegistry(60) : new MetricRegistry();
+        metrics = new Metrics(metricRegistry, CounterType.flushingCounter, new AccountMetricsVerbosity(
+                AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.singletonList(ACCOUNT_ID)));
+        bidders = IntStream.range(0, bidderCount).mapToObj(i -> "bidder" + i).collect(Collectors.toList());
+
+        // metric holders are created once, not-thread-safe maps must not be modified while benchmark is running
+        auction();
+    }
+
+    @Benchmark
+    public void auction() {
+        metrics.updateRequestTypeMetric(MetricName.openrtb2web, MetricName.ok);
+        metrics.updateAccountRequestMetrics(ACCOUNT_ID, MetricName.openrtb2web);
+        metrics.updateRequestBidderCardinalityMetric(bidders.size());
+
+        for (String bidder : bidders) {
+            metrics.updateAdapterRequestTypeAndNoCookieMetrics(bidder, MetricName.openrtb2web, false);
+            metrics.updateAdapterResponseTime(bidder, ACCOUNT_ID, 120);
+            metrics.updateAdapterRequestGotbidsMetrics(bidder, ACCOUNT_ID);
+            metrics.updateAdapterBidMetrics(bidder, ACCOUNT_ID, 1500L, true, "banner");
+        }
+
+        metrics.updateRequestTimeMetric(MetricName.request_time, 150L);
+    }
+}
@@ -0,0 +1,93 @@
+package org.prebid.server.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BidderParamValidator} validation of bidder params of all imps of a single request,
+ * with and without validation results cache.
+ * <p>
+ * Each request brings its own params nodes equal to ones of previous requests, as it happens for stored requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BidderParamValidatorBenchmark {
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    @Param({"1", "5"})
+    private int impCount;
+
+    private final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+    private BidderParamValidator bidderParamValidator;
+    private List<Map<String, JsonNode>> impsBidderParams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final BidderCatalog bidderCatalog = Mockito.mock(BidderCatalog.class);
+        Mockito.when(bidderCatalog.names()).thenReturn(Set.of("rubicon", "appnexus", "openx", "pubmatic", "ix"));
+        Mockito.when(bidderCatalog.bidderInfoByName(Mockito.anyString()))
+                .thenReturn(BidderInfo.create(true, true, null, null, null, Collections.singletonList("banner"),
+                        Collections.singletonList("banner"), Collections.emptyList(), 0, true, false));
+
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper, cacheSize);
+
+        impsBidderParams = new ArrayList<>();
+        for (int i = 0; i < impCount; i++) {
+            final Map<String, JsonNode> bidderParams = new LinkedHashMap<>();
+            bidderParams.put("rubicon", object().put("accountId", 1001).put("siteId", 2001).put("zoneId", 3000 + i));
+            bidderParams.put("appnexus", object().put("placementId", 10_000 + i).put("reserve", 0.5));
+            bidderParams.put("openx", object().put("unit", "53900" + i).put("delDomain", "example-d.openx.net"));
+            bidderParams.put("pubmatic", object().put("publisherId", "156209").put("adSlot", "slot" + i + "@300x250"));
+            bidderParams.put("ix", object().put("siteId", "56900" + i));
+            impsBidderParams.add(bidderParams);
+        }
+    }
+
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        for (final Map<String, JsonNode> bidderParams : impsBidderParams) {
+            for (final Map.Entry<String, JsonNode> bidderAndParams : bidderParams.entrySet()) {
+                // each request is parsed anew, so its params are equal but not the same nodes
+                final JsonNode params = bidderAndParams.getValue().deepCopy();
+                blackhole.consume(bidderParamValidator.validate(bidderAndParams.getKey(), params));
+            }
+        }
+    }
+
+    private ObjectNode object() {
+        return mapper.mapper().createObjectNode();
+    }
+}
@@ -0,0 +1,117 @@
+package org.prebid.server.vertx.http;
+
+import com.codahale.metrics.MetricRegistry;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.server.metric.AccountMetricsVerbosity;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures overhead of {@link CircuitBreakerSecuredHttpClient} on bidders fan-out of a single auction: circuit
+ * breaker lookup by request URL and execution of the request under circuit breaker control.
+ * <p>
+ * Wrapped HTTP client responds immediately, requests are sent from event loop as it is done by the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CircuitBreakerSecuredHttpClientBenchmark {
+
+    private static final Future<HttpClientResponse> RESPONSE =
+            Future.succeededFuture(HttpClientResponse.of(200, MultiMap.caseInsensitiveMultiMap(), "{}"));
+
+    @Param({"false", "true"})
+    private boolean circuitBreaker;
+
+    @Param({"20"})
+    private int bidderCount;
+
+    private Vertx vertx;
+    private Context context;
+    private HttpClient httpClient;
+    private List<String> urls;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+
+        final HttpClient wrappedHttpClient = new RespondingHttpClient();
+        final Metrics metrics = new Metrics(new MetricRegistry(), CounterType.flushingCounter,
+                new AccountMetricsVerbosity(
+                        AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList()));
+        httpClient = circuitBreaker
+                ? new CircuitBreakerSecuredHttpClient(
+                vertx, wrappedHttpClient, metrics, 5, 60000L, 300000L, 24, Clock.systemUTC())
+                : wrappedHttpClient;
+
+        urls = IntStream.range(0, bidderCount)
+                .mapToObj(i -> String.format("https://bidder%d.prebid.org/openrtb2?tk_xint=%d", i, i))
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Benchmark
+    public Object auction() throws Exception {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> {
+            final List<Future> responses = new ArrayList<>(urls.size());
+            for (String url : urls) {
+                responses.add(httpClient.request(HttpMethod.POST, url, null, "{}", 1000L));
+            }
+            CompositeFuture.all(responses).onComplete(result::complete);
+        });
+        return result.get(1, TimeUnit.SECONDS);
+    }
+
+    private static class RespondingHttpClient implements HttpClient {
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
+                                                  long timeoutMs) {
+            return RESPONSE;
+        }
+
+        @Override
+        public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                                  long timeoutMs) {
+            return RESPONSE;
+        }
+    }
+}
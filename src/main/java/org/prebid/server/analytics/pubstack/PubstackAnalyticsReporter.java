@@ -19,6 +19,8 @@ import org.prebid.server.analytics.pubstack.model.PubstackConfig;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.Initializable;
 import org.prebid.server.vertx.http.HttpClient;
@@ -26,6 +28,7 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +42,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     private static final String EVENT_REPORT_ENDPOINT_PATH = "/intake";
     private static final String CONFIG_URL_SUFFIX = "/bootstrap?scopeId=";
     private static final Map<String, EventType> CLASS_TO_EVENT_TYPE;
+    private static final Map<EventType, MetricName> EVENT_TYPE_TO_METRIC_NAME;
 
     static {
         CLASS_TO_EVENT_TYPE = new HashMap<>();
@@ -47,6 +51,13 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
         CLASS_TO_EVENT_TYPE.put(VideoEvent.class.getName(), EventType.video);
         CLASS_TO_EVENT_TYPE.put(SetuidEvent.class.getName(), EventType.setuid);
         CLASS_TO_EVENT_TYPE.put(CookieSyncEvent.class.getName(), EventType.cookiesync);
+
+        EVENT_TYPE_TO_METRIC_NAME = new EnumMap<>(EventType.class);
+        EVENT_TYPE_TO_METRIC_NAME.put(EventType.auction, MetricName.event_auction);
+        EVENT_TYPE_TO_METRIC_NAME.put(EventType.amp, MetricName.event_amp);
+        EVENT_TYPE_TO_METRIC_NAME.put(EventType.video, MetricName.event_video);
+        EVENT_TYPE_TO_METRIC_NAME.put(EventType.setuid, MetricName.event_setuid);
+        EVENT_TYPE_TO_METRIC_NAME.put(EventType.cookiesync, MetricName.event_cookie_sync);
     }
 
     private final long configurationRefreshDelay;
@@ -61,6 +72,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
     public PubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                      HttpClient httpClient,
                                      JacksonMapper jacksonMapper,
+                                     Metrics metrics,
                                      Vertx vertx) {
         this.configurationRefreshDelay =
                 Objects.requireNonNull(pubstackAnalyticsProperties.getConfigurationRefreshDelayMs());
@@ -69,7 +81,8 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.eventHandlers = createEventHandlers(pubstackAnalyticsProperties, httpClient, jacksonMapper, vertx);
+        this.eventHandlers = createEventHandlers(pubstackAnalyticsProperties, httpClient, jacksonMapper,
+                Objects.requireNonNull(metrics), vertx);
         this.pubstackConfig = PubstackConfig.of(pubstackAnalyticsProperties.getScopeId(),
                 pubstackAnalyticsProperties.getEndpoint(), Collections.emptyMap());
     }
@@ -78,6 +91,7 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
             PubstackAnalyticsProperties pubstackAnalyticsProperties,
             HttpClient httpClient,
             JacksonMapper jacksonMapper,
+            Metrics metrics,
             Vertx vertx) {
         return Arrays.stream(EventType.values())
                 .collect(Collectors.toMap(Function.identity(),
@@ -85,8 +99,10 @@ public class PubstackAnalyticsReporter implements AnalyticsReporter, Initializab
                                 pubstackAnalyticsProperties,
                                 false,
                                 buildEventEndpointUrl(pubstackAnalyticsProperties.getEndpoint(), eventType),
+                                EVENT_TYPE_TO_METRIC_NAME.get(eventType),
                                 jacksonMapper,
                                 httpClient,
+                                metrics,
                                 vertx)));
     }
 
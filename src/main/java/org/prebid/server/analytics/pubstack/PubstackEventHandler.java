@@ -1,8 +1,8 @@
 package org.prebid.server.analytics.pubstack;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
@@ -10,157 +10,157 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.prebid.server.analytics.pubstack.model.PubstackAnalyticsProperties;
-import org.prebid.server.exception.PreBidException;
+import org.prebid.server.analytics.pubstack.model.PubstackEvent;
+import org.prebid.server.analytics.sink.AnalyticsBatchBuffer;
+import org.prebid.server.analytics.sink.RingBuffer;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Predicate;
-import java.util.zip.GZIPOutputStream;
-
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Buffers events of a single type and reports them to Pubstack in batches.
+ * <p>
+ * Events are serialized to bytes on the calling thread and put to bounded {@link RingBuffer}, so the caller
+ * never waits for a lock. All the rest happens on the handler's own {@link Context}: events are taken from
+ * the ring buffer and compressed into the current gzipped {@link AnalyticsBatchBuffer} one by one,
+ * and the batch is sent when it exceeds size or count threshold or report TTL expires.
+ * <p>
+ * Events which don't fit into the ring buffer are dropped and counted in analytics reporter metrics.
+ */
 public class PubstackEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PubstackEventHandler.class);
-    private static final String SCOPE_FIELD_NAME = "scope";
+    private static final String ANALYTICS_CODE = "pubstack";
     private static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
     private static final String GZIP = "gzip";
-    private static final String NEW_LINE = "\n";
 
     private volatile boolean enabled;
     private volatile String endpoint;
     private volatile String scopeId;
-    private final long maxByteSize;
-    private final long maxEventCount;
     private final long reportTtlMillis;
     private final long timeoutMs;
+    private final MetricName eventType;
     private final Vertx vertx;
     private final JacksonMapper jacksonMapper;
     private final HttpClient httpClient;
+    private final Metrics metrics;
 
-    private final ReentrantLock lockOnSend;
-    private final AtomicReference<Queue<String>> events;
+    private final Context context;
+    private final RingBuffer<byte[]> events;
+    private final AtomicBoolean drainScheduled;
     private final MultiMap headers;
-    private final AtomicLong byteSize;
+
+    // accessed only on handler's context
+    private final AnalyticsBatchBuffer batch;
     private volatile long reportTimerId;
 
     public PubstackEventHandler(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                 boolean enabled,
                                 String endpoint,
+                                MetricName eventType,
                                 JacksonMapper jacksonMapper,
                                 HttpClient httpClient,
+                                Metrics metrics,
                                 Vertx vertx) {
         this.enabled = enabled;
         this.endpoint = HttpUtil.validateUrl(endpoint);
         this.scopeId = pubstackAnalyticsProperties.getScopeId();
-        this.maxByteSize = pubstackAnalyticsProperties.getSizeBytes();
-        this.maxEventCount = pubstackAnalyticsProperties.getCount();
         this.reportTtlMillis = pubstackAnalyticsProperties.getReportTtlMs();
         this.timeoutMs = pubstackAnalyticsProperties.getTimeoutMs();
+        this.eventType = Objects.requireNonNull(eventType);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.metrics = Objects.requireNonNull(metrics);
         this.vertx = Objects.requireNonNull(vertx);
 
-        this.lockOnSend = new ReentrantLock();
-        this.events = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        this.context = vertx.getOrCreateContext();
+        this.events = new RingBuffer<>(pubstackAnalyticsProperties.getCapacity());
+        this.drainScheduled = new AtomicBoolean();
         this.headers = makeHeaders();
-        this.byteSize = new AtomicLong();
+        // Pubstack batch is sent when thresholds are exceeded, not just reached
+        this.batch = new AnalyticsBatchBuffer(
+                pubstackAnalyticsProperties.getSizeBytes() + 1L, pubstackAnalyticsProperties.getCount() + 1L, true);
         if (enabled) {
-            this.reportTimerId = setReportTtlTimer();
+            context.runOnContext(ignored -> reportTimerId = setReportTtlTimer());
         }
     }
 
     public <T> void handle(T event) {
         if (enabled) {
-            buffer(event);
-            reportEventsOnCondition(byteSize -> byteSize.get() > maxByteSize, byteSize);
-            reportEventsOnCondition(eventsReference -> eventsReference.get().size() > maxEventCount, events);
+            if (events.offer(jacksonMapper.encodeToBytes(PubstackEvent.of(event, scopeId)))) {
+                scheduleDrain();
+            } else {
+                metrics.updateAnalyticEventMetric(ANALYTICS_CODE, eventType, MetricName.dropped);
+            }
         }
     }
 
     public void reportEvents() {
         if (enabled) {
-            reportEventsOnCondition(events -> events.get().size() > 0, events);
+            context.runOnContext(ignored -> {
+                drain();
+                if (!batch.isEmpty()) {
+                    sendEvents();
+                }
+            });
         }
     }
 
     public void updateConfig(boolean enabled, String endpoint, String scopeId) {
-        updateTimerOnEnabling(enabled);
+        final boolean wasEnabled = this.enabled;
+        context.runOnContext(ignored -> updateTimerOnEnabling(wasEnabled, enabled));
         this.enabled = enabled;
         this.endpoint = endpoint;
         this.scopeId = scopeId;
     }
 
-    private <T> void buffer(T event) {
-        final ObjectNode eventNode = jacksonMapper.mapper().valueToTree(event);
-        eventNode.put(SCOPE_FIELD_NAME, scopeId);
-        final String jsonEvent = jacksonMapper.encodeToString(eventNode);
-        events.get().add(jsonEvent);
-        byteSize.getAndAdd(jsonEvent.getBytes().length);
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            context.runOnContext(ignored -> drain());
+        }
     }
 
-    private <T> boolean reportEventsOnCondition(Predicate<T> conditionToSend, T conditionValue) {
-        boolean requestWasSent = false;
-        if (conditionToSend.test(conditionValue)) {
-            lockOnSend.lock();
+    /**
+     * Moves all buffered events to the current batch, sending batch each time it reaches threshold.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+
+        byte[] event;
+        while ((event = events.poll()) != null) {
             try {
-                if (conditionToSend.test(conditionValue)) {
-                    requestWasSent = true;
-                    sendEvents(events);
+                batch.append(event);
+                if (batch.isFull()) {
+                    sendEvents();
                 }
             } catch (Exception exception) {
                 logger.error("[pubstack] Failed to send analytics report to endpoint {0} with a reason {1}",
                         endpoint, exception.getMessage());
-            } finally {
-                lockOnSend.unlock();
             }
         }
-        return requestWasSent;
     }
 
-    private void sendEvents(AtomicReference<Queue<String>> events) {
+    private void sendEvents() {
         final String url = HttpUtil.validateUrl(endpoint);
-        final Queue<String> copyToSend = events.getAndSet(new ConcurrentLinkedQueue<>());
+        final byte[] gzippedEvents = batch.finish().getContent();
 
         resetReportEventsConditions();
 
-        httpClient.request(HttpMethod.POST, url, headers, toGzippedBytes(copyToSend), timeoutMs)
+        httpClient.request(HttpMethod.POST, url, headers, gzippedEvents, timeoutMs)
                 .onComplete(this::handleReportResponse);
     }
 
     private void resetReportEventsConditions() {
-        byteSize.set(0);
         vertx.cancelTimer(reportTimerId);
         reportTimerId = setReportTtlTimer();
     }
 
-    private static byte[] toGzippedBytes(Queue<String> events) {
-        return gzip(String.join(NEW_LINE, events));
-    }
-
-    private static byte[] gzip(String value) {
-        try (ByteArrayOutputStream obj = new ByteArrayOutputStream(); GZIPOutputStream gzip = new GZIPOutputStream(
-                obj)) {
-
-            gzip.write(value.getBytes(StandardCharsets.UTF_8));
-            gzip.finish();
-
-            return obj.toByteArray();
-        } catch (IOException e) {
-            throw new PreBidException(String.format("[pubstack] failed to compress, skip the events : %s",
-                    e.getMessage()));
-        }
-    }
-
     private void handleReportResponse(AsyncResult<HttpClientResponse> result) {
         if (result.failed()) {
             logger.error("[pubstack] Failed to send events to endpoint {0} with a reason: {1}",
@@ -179,16 +179,24 @@ public class PubstackEventHandler {
     }
 
     private void sendOnTimer() {
-        final boolean requestWasSent = reportEventsOnCondition(events -> events.get().size() > 0, events);
-        if (!requestWasSent) {
-            setReportTtlTimer();
+        drain();
+        if (!batch.isEmpty()) {
+            try {
+                sendEvents();
+            } catch (Exception exception) {
+                logger.error("[pubstack] Failed to send analytics report to endpoint {0} with a reason {1}",
+                        endpoint, exception.getMessage());
+                reportTimerId = setReportTtlTimer();
+            }
+        } else {
+            reportTimerId = setReportTtlTimer();
         }
     }
 
-    private void updateTimerOnEnabling(boolean enabled) {
-        if (this.enabled && !enabled) {
+    private void updateTimerOnEnabling(boolean wasEnabled, boolean enabled) {
+        if (wasEnabled && !enabled) {
             vertx.cancelTimer(reportTimerId);
-        } else if (!this.enabled && enabled) {
+        } else if (!wasEnabled && enabled) {
             reportTimerId = setReportTtlTimer();
         }
     }
@@ -19,6 +19,8 @@ public class PubstackAnalyticsProperties {
 
     Integer count;
 
+    Integer capacity;
+
     Long reportTtlMs;
 
     Long timeoutMs;
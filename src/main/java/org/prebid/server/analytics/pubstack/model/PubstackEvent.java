@@ -0,0 +1,18 @@
+package org.prebid.server.analytics.pubstack.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Analytics event as it is reported to Pubstack: fields of the event itself followed by the scope.
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class PubstackEvent {
+
+    @JsonUnwrapped
+    Object event;
+
+    String scope;
+}
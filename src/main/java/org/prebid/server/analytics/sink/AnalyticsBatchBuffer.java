@@ -0,0 +1,102 @@
+package org.prebid.server.analytics.sink;
+
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+import org.prebid.server.exception.PreBidException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Current batch of encoded analytics events separated by new line, compressed as events are appended if needed.
+ * <p>
+ * Batch is full once it reaches max size of events before compression or max number of events.
+ * <p>
+ * Not thread-safe, must be accessed only by a single context of its owner.
+ */
+public class AnalyticsBatchBuffer {
+
+    private static final int NEW_LINE = '\n';
+
+    private final long maxSizeBytes;
+    private final long maxEvents;
+    private final boolean gzip;
+
+    private ByteArrayOutputStream content;
+    private OutputStream output;
+    private long sizeBytes;
+    private int eventCount;
+
+    public AnalyticsBatchBuffer(long maxSizeBytes, long maxEvents, boolean gzip) {
+        this.maxSizeBytes = maxSizeBytes;
+        this.maxEvents = maxEvents;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Appends encoded event to the batch, drops the whole batch if it can't be compressed.
+     */
+    public void append(byte[] event) {
+        try {
+            if (output == null) {
+                content = new ByteArrayOutputStream();
+                output = gzip ? new GZIPOutputStream(content) : content;
+            } else {
+                output.write(NEW_LINE);
+            }
+
+            output.write(event);
+        } catch (IOException e) {
+            discard();
+            throw new PreBidException(String.format("Failed to compress analytics events: %s", e.getMessage()));
+        }
+
+        sizeBytes += event.length;
+        eventCount++;
+    }
+
+    public boolean isFull() {
+        return sizeBytes >= maxSizeBytes || eventCount >= maxEvents;
+    }
+
+    public boolean isEmpty() {
+        return eventCount == 0;
+    }
+
+    /**
+     * Completes the batch and starts the new one.
+     */
+    public AnalyticsBatch finish() {
+        try {
+            // closing also releases native resources of gzip deflater
+            output.close();
+            return AnalyticsBatch.of(content.toByteArray(), eventCount, gzip);
+        } catch (IOException e) {
+            throw new PreBidException(String.format("Failed to compress analytics events: %s", e.getMessage()));
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Drops the batch and starts the new one.
+     */
+    public void discard() {
+        if (output != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                // batch is dropped anyway
+            }
+        }
+        reset();
+    }
+
+    private void reset() {
+        content = null;
+        output = null;
+        sizeBytes = 0;
+        eventCount = 0;
+    }
+}
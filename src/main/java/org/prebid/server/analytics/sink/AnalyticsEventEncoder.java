@@ -0,0 +1,12 @@
+package org.prebid.server.analytics.sink;
+
+/**
+ * Encodes analytics event to a single record of a batch.
+ * <p>
+ * Encoded record must not contain new line characters since they separate records in batch.
+ */
+@FunctionalInterface
+public interface AnalyticsEventEncoder {
+
+    byte[] encode(Object event);
+}
@@ -0,0 +1,14 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.Future;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+
+/**
+ * Destination of analytics events batches.
+ * <p>
+ * Implementation note: this method is executed on Vert.x event loop thread so it must never use blocking API.
+ */
+public interface AnalyticsSinkTarget {
+
+    Future<Void> send(AnalyticsBatch batch);
+}
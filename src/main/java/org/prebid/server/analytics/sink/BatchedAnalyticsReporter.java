@@ -0,0 +1,37 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.Future;
+import org.prebid.server.analytics.AnalyticsReporter;
+
+import java.util.Objects;
+
+/**
+ * {@link AnalyticsReporter} handing events over to {@link BatchedAnalyticsSink},
+ * so reporting doesn't add encoding or network latency to the request being processed.
+ */
+public class BatchedAnalyticsReporter implements AnalyticsReporter {
+
+    private final String name;
+    private final BatchedAnalyticsSink sink;
+
+    public BatchedAnalyticsReporter(String name, BatchedAnalyticsSink sink) {
+        this.name = Objects.requireNonNull(name);
+        this.sink = Objects.requireNonNull(sink);
+    }
+
+    @Override
+    public <T> Future<Void> processEvent(T event) {
+        sink.accept(event);
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public int vendorId() {
+        return 0;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+}
@@ -0,0 +1,197 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+import org.prebid.server.analytics.sink.model.BatchedAnalyticsSinkProperties;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects analytics events into batches and sends them to {@link AnalyticsSinkTarget}.
+ * <p>
+ * {@link #accept(Object)} only puts event to bounded {@link RingBuffer}, so it can be called on event loop
+ * without adding latency to the request. Events are encoded and compressed in ordered blocking tasks of the sink's
+ * {@link Context}, i.e. one at a time on worker thread, and ready batches are sent from the sink's context.
+ * <p>
+ * Batch is sent when it reaches max size or max number of events, or on periodic flush every linger interval.
+ * Events which don't fit into the ring buffer are dropped and counted in analytics reporter metrics.
+ */
+public class BatchedAnalyticsSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchedAnalyticsSink.class);
+
+    private final String name;
+    private final AnalyticsEventEncoder encoder;
+    private final AnalyticsSinkTarget target;
+    private final Metrics metrics;
+
+    private final Context context;
+    private final RingBuffer<Object> events;
+    private final AtomicBoolean drainScheduled;
+
+    // accessed only by ordered blocking tasks of the sink's context
+    private final AnalyticsBatchBuffer batch;
+
+    public BatchedAnalyticsSink(String name,
+                                BatchedAnalyticsSinkProperties properties,
+                                AnalyticsEventEncoder encoder,
+                                AnalyticsSinkTarget target,
+                                Metrics metrics,
+                                Vertx vertx) {
+
+        this(name, properties, new AnalyticsBatchBuffer(
+                        positive(properties.getMaxBatchSizeBytes(), "max batch size"),
+                        positive(properties.getMaxBatchEvents(), "max batch events"),
+                        properties.isGzip()),
+                encoder, target, metrics, vertx);
+    }
+
+    BatchedAnalyticsSink(String name,
+                         BatchedAnalyticsSinkProperties properties,
+                         AnalyticsBatchBuffer batch,
+                         AnalyticsEventEncoder encoder,
+                         AnalyticsSinkTarget target,
+                         Metrics metrics,
+                         Vertx vertx) {
+
+        this.name = Objects.requireNonNull(name);
+        this.batch = Objects.requireNonNull(batch);
+        this.encoder = Objects.requireNonNull(encoder);
+        this.target = Objects.requireNonNull(target);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        final long lingerMs = positive(properties.getLingerMs(), "linger");
+        this.context = vertx.getOrCreateContext();
+        this.events = new RingBuffer<>(properties.getCapacity());
+        this.drainScheduled = new AtomicBoolean();
+
+        context.runOnContext(ignored -> vertx.setPeriodic(lingerMs, timerId -> flush()));
+    }
+
+    private static long positive(long value, String property) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(String.format("Analytics sink %s must be positive", property));
+        }
+        return value;
+    }
+
+    /**
+     * Accepts event for reporting, can be called from any thread.
+     */
+    public void accept(Object event) {
+        if (events.offer(event)) {
+            scheduleDrain();
+        } else {
+            metrics.updateAnalyticReporterMetric(name, MetricName.dropped);
+        }
+    }
+
+    /**
+     * Sends all accepted events, even if the current batch is not full.
+     */
+    public void flush() {
+        context.executeBlocking((Promise<List<AnalyticsBatch>> promise) -> promise.complete(encodeEvents(true)),
+                true, this::sendBatches);
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            context.executeBlocking((Promise<List<AnalyticsBatch>> promise) -> promise.complete(encodeEvents(false)),
+                    true, this::sendBatches);
+        }
+    }
+
+    /**
+     * Moves all buffered events to the current batch and returns batches completed along the way.
+     */
+    private List<AnalyticsBatch> encodeEvents(boolean flush) {
+        drainScheduled.set(false);
+
+        List<AnalyticsBatch> batches = null;
+        Object event;
+        while ((event = events.poll()) != null) {
+            final byte[] encodedEvent;
+            try {
+                encodedEvent = encoder.encode(event);
+            } catch (Exception e) {
+                logger.warn("Analytics sink {0} failed to encode event: {1}", name, e.getMessage());
+                continue;
+            }
+
+            batches = appendEvent(batches, encodedEvent);
+        }
+
+        if (flush && !batch.isEmpty()) {
+            batches = finishBatch(batches);
+        }
+        return batches != null ? batches : Collections.emptyList();
+    }
+
+    /**
+     * Appends event to the current batch, completes the batch if it is full.
+     * <p>
+     * Failure to compress the batch drops only its own events, so batches completed before and remaining events
+     * are still processed.
+     */
+    private List<AnalyticsBatch> appendEvent(List<AnalyticsBatch> batches, byte[] encodedEvent) {
+        try {
+            batch.append(encodedEvent);
+        } catch (PreBidException e) {
+            handleBatchError(e);
+            return batches;
+        }
+
+        return batch.isFull() ? finishBatch(batches) : batches;
+    }
+
+    private List<AnalyticsBatch> finishBatch(List<AnalyticsBatch> batches) {
+        try {
+            return addBatch(batches, batch.finish());
+        } catch (PreBidException e) {
+            handleBatchError(e);
+            return batches;
+        }
+    }
+
+    private void handleBatchError(PreBidException exception) {
+        logger.warn("Analytics sink {0} dropped events batch: {1}", name, exception.getMessage());
+        metrics.updateAnalyticReporterMetric(name, MetricName.err);
+    }
+
+    private static List<AnalyticsBatch> addBatch(List<AnalyticsBatch> batches, AnalyticsBatch batch) {
+        final List<AnalyticsBatch> result = batches != null ? batches : new ArrayList<>();
+        result.add(batch);
+        return result;
+    }
+
+    private void sendBatches(AsyncResult<List<AnalyticsBatch>> result) {
+        if (result.failed()) {
+            logger.error("Analytics sink {0} failed to prepare events batch: {1}", name, result.cause().getMessage());
+            return;
+        }
+
+        for (final AnalyticsBatch analyticsBatch : result.result()) {
+            target.send(analyticsBatch).onComplete(sendResult -> handleSendResult(sendResult, analyticsBatch));
+        }
+    }
+
+    private void handleSendResult(AsyncResult<Void> sendResult, AnalyticsBatch analyticsBatch) {
+        if (sendResult.failed()) {
+            logger.warn("Analytics sink {0} failed to send batch of {1} events: {2}", name,
+                    analyticsBatch.getEventCount(), sendResult.cause().getMessage());
+            metrics.updateAnalyticReporterMetric(name, MetricName.err);
+        }
+    }
+}
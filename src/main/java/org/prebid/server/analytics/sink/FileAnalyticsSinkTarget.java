@@ -0,0 +1,46 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AnalyticsSinkTarget} writing each batch to a separate file of the given directory,
+ * to be used as local stand-in of a real analytics endpoint.
+ */
+public class FileAnalyticsSinkTarget implements AnalyticsSinkTarget {
+
+    private static final String NDJSON_EXTENSION = ".ndjson";
+    private static final String GZIP_EXTENSION = ".gz";
+
+    private final FileSystem fileSystem;
+    private final String directory;
+    private final Clock clock;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public FileAnalyticsSinkTarget(FileSystem fileSystem, String directory, Clock clock) {
+        this.fileSystem = Objects.requireNonNull(fileSystem);
+        this.directory = Objects.requireNonNull(directory);
+        this.clock = Objects.requireNonNull(clock);
+
+        fileSystem.mkdirsBlocking(directory);
+    }
+
+    @Override
+    public Future<Void> send(AnalyticsBatch batch) {
+        final String fileName = String.format("analytics-%d-%d%s%s", clock.millis(), sequence.incrementAndGet(),
+                NDJSON_EXTENSION, batch.isGzipped() ? GZIP_EXTENSION : "");
+
+        final Promise<Void> promise = Promise.promise();
+        fileSystem.writeFile(Paths.get(directory, fileName).toString(), Buffer.buffer(batch.getContent()), promise);
+        return promise.future();
+    }
+}
@@ -0,0 +1,52 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.util.HttpUtil;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.util.Objects;
+
+/**
+ * {@link AnalyticsSinkTarget} posting each batch to HTTP endpoint.
+ */
+public class HttpAnalyticsSinkTarget implements AnalyticsSinkTarget {
+
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final String GZIP = "gzip";
+
+    private final HttpClient httpClient;
+    private final String endpoint;
+    private final long timeoutMs;
+
+    public HttpAnalyticsSinkTarget(HttpClient httpClient, String endpoint, long timeoutMs) {
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.endpoint = HttpUtil.validateUrl(Objects.requireNonNull(endpoint));
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Future<Void> send(AnalyticsBatch batch) {
+        final MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON);
+        if (batch.isGzipped()) {
+            headers.add(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        return httpClient.request(HttpMethod.POST, endpoint, headers, batch.getContent(), timeoutMs)
+                .compose(HttpAnalyticsSinkTarget::processResponse);
+    }
+
+    private static Future<Void> processResponse(HttpClientResponse response) {
+        final int statusCode = response.getStatusCode();
+        return statusCode >= 200 && statusCode < 300
+                ? Future.succeededFuture()
+                : Future.failedFuture(new PreBidException(
+                String.format("Analytics batch was rejected with HTTP status code %d", statusCode)));
+    }
+}
@@ -0,0 +1,57 @@
+package org.prebid.server.analytics.sink;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.prebid.server.analytics.model.AmpEvent;
+import org.prebid.server.analytics.model.AuctionEvent;
+import org.prebid.server.analytics.model.CookieSyncEvent;
+import org.prebid.server.analytics.model.NotificationEvent;
+import org.prebid.server.analytics.model.SetuidEvent;
+import org.prebid.server.analytics.model.VideoEvent;
+import org.prebid.server.json.JacksonMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link AnalyticsEventEncoder} producing NDJSON records: JSON object of event fields with event type added.
+ */
+public class JsonAnalyticsEventEncoder implements AnalyticsEventEncoder {
+
+    private static final String UNKNOWN_EVENT_TYPE = "unknown";
+    private static final Map<Class<?>, String> CLASS_TO_EVENT_TYPE;
+
+    static {
+        CLASS_TO_EVENT_TYPE = new HashMap<>();
+        CLASS_TO_EVENT_TYPE.put(AuctionEvent.class, "auction");
+        CLASS_TO_EVENT_TYPE.put(AmpEvent.class, "amp");
+        CLASS_TO_EVENT_TYPE.put(VideoEvent.class, "video");
+        CLASS_TO_EVENT_TYPE.put(SetuidEvent.class, "setuid");
+        CLASS_TO_EVENT_TYPE.put(CookieSyncEvent.class, "cookie_sync");
+        CLASS_TO_EVENT_TYPE.put(NotificationEvent.class, "notification");
+    }
+
+    private final JacksonMapper mapper;
+
+    public JsonAnalyticsEventEncoder(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        final String type = CLASS_TO_EVENT_TYPE.getOrDefault(event.getClass(), UNKNOWN_EVENT_TYPE);
+        return mapper.encodeToBytes(new TypedEvent(type, event));
+    }
+
+    @AllArgsConstructor
+    @Value
+    private static class TypedEvent {
+
+        String type;
+
+        @JsonUnwrapped
+        Object event;
+    }
+}
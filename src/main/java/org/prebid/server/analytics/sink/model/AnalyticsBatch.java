@@ -0,0 +1,21 @@
+package org.prebid.server.analytics.sink.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Encoded events ready to be sent to {@link org.prebid.server.analytics.sink.AnalyticsSinkTarget}.
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class AnalyticsBatch {
+
+    /**
+     * Encoded events separated by new line, gzipped if {@link #gzipped} is true.
+     */
+    byte[] content;
+
+    int eventCount;
+
+    boolean gzipped;
+}
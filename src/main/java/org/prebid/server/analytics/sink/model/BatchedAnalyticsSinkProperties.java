@@ -0,0 +1,31 @@
+package org.prebid.server.analytics.sink.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Builder
+@Value
+public class BatchedAnalyticsSinkProperties {
+
+    /**
+     * Max number of events waiting to be encoded, events exceeding it are dropped.
+     */
+    int capacity;
+
+    /**
+     * Batch is sent once it reaches this size of encoded events before compression.
+     */
+    long maxBatchSizeBytes;
+
+    /**
+     * Batch is sent once it reaches this number of events.
+     */
+    int maxBatchEvents;
+
+    /**
+     * Max time events are kept in buffer before being sent in not yet full batch.
+     */
+    long lingerMs;
+
+    boolean gzip;
+}
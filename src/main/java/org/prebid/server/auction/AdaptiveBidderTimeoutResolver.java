@@ -0,0 +1,57 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.execution.Timeout;
+
+import java.util.Objects;
+
+/**
+ * Assigns each bidder call its own deadline based on recent bidder latency instead of the whole auction timeout.
+ * <p>
+ * Bidder timeout is configured percentile of its recent response times (see {@link BidderLatencyTracker})
+ * plus margin, but never less than configured minimum and never more than remaining auction timeout.
+ * So calls to slow tail bidders are cut early instead of holding connections and timers until the global deadline.
+ * <p>
+ * Response time of timed out call is censored by the timeout assigned to it, so percentile of such response times
+ * could only follow its own output. That's why timed out calls are not recorded by {@link BidderLatencyTracker}
+ * and bidder timeout can come down once the bidder is fast again.
+ */
+public class AdaptiveBidderTimeoutResolver {
+
+    private final BidderLatencyTracker latencyTracker;
+    private final double latencyPercentile;
+    private final long marginMs;
+    private final long minTimeoutMs;
+
+    public AdaptiveBidderTimeoutResolver(BidderLatencyTracker latencyTracker,
+                                         double latencyPercentile,
+                                         long marginMs,
+                                         long minTimeoutMs) {
+
+        if (latencyPercentile < 0 || latencyPercentile > 1) {
+            throw new IllegalArgumentException("Latency percentile should be in range [0..1]");
+        }
+        if (marginMs < 0 || minTimeoutMs < 0) {
+            throw new IllegalArgumentException("Margin and minimum timeout should be non-negative");
+        }
+
+        this.latencyTracker = Objects.requireNonNull(latencyTracker);
+        this.latencyPercentile = latencyPercentile;
+        this.marginMs = marginMs;
+        this.minTimeoutMs = minTimeoutMs;
+    }
+
+    /**
+     * Returns {@link Timeout} for the given bidder (not alias) call within the given auction timeout.
+     */
+    public Timeout resolve(String bidder, Timeout auctionTimeout) {
+        final Long expectedResponseTime = latencyTracker.responseTimePercentile(bidder, latencyPercentile);
+        if (expectedResponseTime == null) {
+            return auctionTimeout;
+        }
+
+        final long bidderTimeout = Math.max(expectedResponseTime + marginMs, minTimeoutMs);
+        final long remaining = auctionTimeout.remaining();
+
+        return bidderTimeout < remaining ? auctionTimeout.minus(remaining - bidderTimeout) : auctionTimeout;
+    }
+}
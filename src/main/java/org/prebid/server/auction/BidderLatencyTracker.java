@@ -0,0 +1,91 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import lombok.Value;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides recent response time percentiles of bidders.
+ * <p>
+ * Only response times of bidder calls completed before their timeout are recorded: response time of timed out call
+ * is censored by the timeout assigned to it (see {@link AdaptiveBidderTimeoutResolver}), so it would pin
+ * the percentile to its own cutoff. Calls the auction was completed without (see {@link EarlyAuctionCompletionPolicy})
+ * are recorded once they actually complete.
+ * Recorded values are kept in exponentially decaying reservoirs, so percentiles are biased towards the last several
+ * minutes of traffic.
+ * <p>
+ * Taking reservoir snapshot means copying and sorting it, so snapshots are cached per bidder
+ * and refreshed not more often than once per configured period.
+ */
+public class BidderLatencyTracker {
+
+    private final Clock clock;
+    private final long refreshPeriodMs;
+    private final int minSamples;
+
+    private final Map<String, Reservoir> reservoirs = new ConcurrentHashMap<>();
+    private final Map<String, TimedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public BidderLatencyTracker(Clock clock, long refreshPeriodMs, int minSamples) {
+        if (refreshPeriodMs < 0) {
+            throw new IllegalArgumentException("Refresh period should be non-negative");
+        }
+        if (minSamples <= 0) {
+            throw new IllegalArgumentException("Minimum number of samples should be positive");
+        }
+
+        this.clock = Objects.requireNonNull(clock);
+        this.refreshPeriodMs = refreshPeriodMs;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Records response time in milliseconds of the bidder (not alias) call completed before its timeout.
+     */
+    public void recordResponseTime(String bidder, int responseTime) {
+        reservoirs.computeIfAbsent(bidder, ignored -> new ExponentiallyDecayingReservoir()).update(responseTime);
+    }
+
+    /**
+     * Returns given percentile (as quantile in [0..1] range) of bidder response time in milliseconds
+     * or null if there are not enough samples collected to make any assumptions about bidder latency.
+     */
+    public Long responseTimePercentile(String bidder, double quantile) {
+        final Snapshot snapshot = snapshot(bidder);
+        return snapshot != null && snapshot.size() >= minSamples
+                ? (long) snapshot.getValue(quantile)
+                : null;
+    }
+
+    private Snapshot snapshot(String bidder) {
+        final long now = clock.millis();
+
+        final TimedSnapshot cached = snapshots.get(bidder);
+        if (cached != null && now - cached.getTimestamp() < refreshPeriodMs) {
+            return cached.getSnapshot();
+        }
+
+        final Reservoir reservoir = reservoirs.get(bidder);
+        if (reservoir == null) {
+            return null;
+        }
+
+        final Snapshot snapshot = reservoir.getSnapshot();
+        snapshots.put(bidder, TimedSnapshot.of(snapshot, now));
+        return snapshot;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class TimedSnapshot {
+
+        Snapshot snapshot;
+
+        long timestamp;
+    }
+}
@@ -0,0 +1,196 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Allows auction to be completed without waiting for all bidders.
+ * <p>
+ * Once a quorum of bidders has responded, the rest of them are awaited only while they are statistically able
+ * to respond: as soon as time elapsed for every pending bidder exceeds configured percentile of its recent
+ * response times (see {@link BidderLatencyTracker}), the auction proceeds with the responses collected so far
+ * and pending bidders are reported with timeout error.
+ * <p>
+ * Bidders without enough latency statistics are always awaited, so they can't be cut off by this policy.
+ * <p>
+ * Response time of a bidder the auction was completed without is censored at the cutoff: it is only known
+ * that the bidder would respond later. If such response time was recorded, bidder latency percentile could
+ * never rise above its own cutoff and wouldn't adapt to slowing bidder, so these responses are marked
+ * (see {@link #isCompletedEarly(BidderResponse)}) for real response time of abandoned call to be recorded instead.
+ */
+public class EarlyAuctionCompletionPolicy {
+
+    private static final BidderError EARLY_COMPLETION_ERROR =
+            BidderError.timeout("Timed out, auction was completed without waiting for the bidder");
+
+    private final Vertx vertx;
+    private final Clock clock;
+    private final BidderLatencyTracker latencyTracker;
+    private final double quorum;
+    private final double latencyPercentile;
+
+    public EarlyAuctionCompletionPolicy(Vertx vertx,
+                                        Clock clock,
+                                        BidderLatencyTracker latencyTracker,
+                                        double quorum,
+                                        double latencyPercentile) {
+
+        if (quorum < 0 || quorum > 1) {
+            throw new IllegalArgumentException("Quorum should be in range [0..1]");
+        }
+        if (latencyPercentile < 0 || latencyPercentile > 1) {
+            throw new IllegalArgumentException("Latency percentile should be in range [0..1]");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+        this.latencyTracker = Objects.requireNonNull(latencyTracker);
+        this.quorum = quorum;
+        this.latencyPercentile = latencyPercentile;
+    }
+
+    /**
+     * Returns {@link Future} of auction participations completed either when all bidder responses are received
+     * (the same as {@link CompositeFuture#join}) or when pending bidders are unlikely to respond anymore.
+     * <p>
+     * Both lists are expected to be of the same size and order.
+     */
+    public Future<List<AuctionParticipation>> await(List<AuctionParticipation> auctionParticipations,
+                                                    List<Future<AuctionParticipation>> responseFutures,
+                                                    BidderAliases aliases) {
+
+        final Promise<List<AuctionParticipation>> promise = Promise.promise();
+        final ResponsesAwaiting awaiting =
+                new ResponsesAwaiting(auctionParticipations, responseFutures, aliases, promise);
+
+        CompositeFuture.join(new ArrayList<>(responseFutures)).onComplete(awaiting::completeAll);
+        responseFutures.forEach(future -> future.onComplete(ignored -> awaiting.evaluate()));
+
+        return promise.future();
+    }
+
+    /**
+     * Returns true if given {@link BidderResponse} was made up because auction was completed without waiting
+     * for the bidder, so its response time is not the real one.
+     */
+    public static boolean isCompletedEarly(BidderResponse bidderResponse) {
+        final List<BidderError> errors = bidderResponse.getSeatBid().getErrors();
+        return errors != null && errors.contains(EARLY_COMPLETION_ERROR);
+    }
+
+    private class ResponsesAwaiting {
+
+        private final List<AuctionParticipation> auctionParticipations;
+        private final List<Future<AuctionParticipation>> responseFutures;
+        private final BidderAliases aliases;
+        private final Promise<List<AuctionParticipation>> promise;
+        private final long startTime;
+        private final int quorumSize;
+
+        private Long timerId;
+
+        ResponsesAwaiting(List<AuctionParticipation> auctionParticipations,
+                          List<Future<AuctionParticipation>> responseFutures,
+                          BidderAliases aliases,
+                          Promise<List<AuctionParticipation>> promise) {
+
+            this.auctionParticipations = auctionParticipations;
+            this.responseFutures = responseFutures;
+            this.aliases = aliases;
+            this.promise = promise;
+            this.startTime = clock.millis();
+            this.quorumSize = (int) Math.ceil(quorum * responseFutures.size());
+        }
+
+        void completeAll(AsyncResult<CompositeFuture> result) {
+            cancelTimer();
+
+            if (result.succeeded()) {
+                promise.tryComplete(result.result().list());
+            } else {
+                promise.tryFail(result.cause());
+            }
+        }
+
+        void evaluate() {
+            if (promise.future().isComplete()) {
+                return;
+            }
+
+            final long completed = responseFutures.stream().filter(Future::isComplete).count();
+            if (completed == responseFutures.size() || completed < quorumSize) {
+                return;
+            }
+
+            final long elapsed = clock.millis() - startTime;
+            long maxRemaining = 0;
+            for (int i = 0; i < responseFutures.size(); i++) {
+                if (responseFutures.get(i).isComplete()) {
+                    continue;
+                }
+
+                final Long expectedResponseTime = latencyTracker.responseTimePercentile(
+                        aliases.resolveBidder(auctionParticipations.get(i).getBidder()), latencyPercentile);
+                if (expectedResponseTime == null) {
+                    // nothing is known about the bidder, so just wait for it as usual
+                    return;
+                }
+                maxRemaining = Math.max(maxRemaining, expectedResponseTime - elapsed);
+            }
+
+            cancelTimer();
+            if (maxRemaining > 0) {
+                timerId = vertx.setTimer(maxRemaining, ignored -> evaluate());
+            } else {
+                completeEarly(elapsed);
+            }
+        }
+
+        private void completeEarly(long elapsed) {
+            final List<AuctionParticipation> result = new ArrayList<>(responseFutures.size());
+            for (int i = 0; i < responseFutures.size(); i++) {
+                final Future<AuctionParticipation> responseFuture = responseFutures.get(i);
+                if (responseFuture.failed()) {
+                    promise.tryFail(responseFuture.cause());
+                    return;
+                }
+
+                result.add(responseFuture.succeeded()
+                        ? responseFuture.result()
+                        : timedOut(auctionParticipations.get(i), elapsed));
+            }
+
+            promise.tryComplete(result);
+        }
+
+        private AuctionParticipation timedOut(AuctionParticipation auctionParticipation, long elapsed) {
+            final BidderSeatBid seatBid = BidderSeatBid.of(
+                    Collections.emptyList(),
+                    Collections.emptyList(),
+                    Collections.singletonList(EARLY_COMPLETION_ERROR));
+
+            return auctionParticipation.with(
+                    BidderResponse.of(auctionParticipation.getBidder(), seatBid, Math.toIntExact(elapsed)));
+        }
+
+        private void cancelTimer() {
+            if (timerId != null) {
+                vertx.cancelTimer(timerId);
+                timerId = null;
+            }
+        }
+    }
+}
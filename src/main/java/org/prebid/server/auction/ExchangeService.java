@@ -165,6 +165,9 @@ public class ExchangeService {
     private final Clock clock;
     private final JacksonMapper mapper;
     private final CriteriaLogManager criteriaLogManager;
+    private final BidderLatencyTracker bidderLatencyTracker;
+    private final EarlyAuctionCompletionPolicy earlyAuctionCompletionPolicy;
+    private final AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
 
     public ExchangeService(long expectedCacheTime,
                            BidderCatalog bidderCatalog,
@@ -184,7 +187,10 @@ public class ExchangeService {
                            Metrics metrics,
                            Clock clock,
                            JacksonMapper mapper,
-                           CriteriaLogManager criteriaLogManager) {
+                           CriteriaLogManager criteriaLogManager,
+                           BidderLatencyTracker bidderLatencyTracker,
+                           EarlyAuctionCompletionPolicy earlyAuctionCompletionPolicy,
+                           AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver) {
 
         if (expectedCacheTime < 0) {
             throw new IllegalArgumentException("Expected cache time should be positive");
@@ -208,6 +214,9 @@ public class ExchangeService {
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
+        this.bidderLatencyTracker = Objects.requireNonNull(bidderLatencyTracker);
+        this.earlyAuctionCompletionPolicy = earlyAuctionCompletionPolicy;
+        this.adaptiveBidderTimeoutResolver = adaptiveBidderTimeoutResolver;
     }
 
     /**
@@ -254,7 +263,9 @@ public class ExchangeService {
                 .map(auctionParticipation -> updateRequestMetric(
                         auctionParticipation, uidsCookie, aliases, publisherId, requestTypeMetric))
                 .map(bidderRequests -> maybeLogBidderInteraction(receivedContext, bidderRequests))
-                .compose(auctionParticipations -> CompositeFuture.join(
+                // send all the requests to the bidders and gathers results
+                .compose(auctionParticipations -> awaitBidderResponses(
+                        auctionParticipations,
                         auctionParticipations.stream()
                                 .map(auctionParticipation -> invokeHooksAndRequestBids(
                                         receivedContext,
@@ -262,9 +273,9 @@ public class ExchangeService {
                                         auctionTimeout(timeout, cacheInfo.isDoCaching()),
                                         aliases)
                                         .map(auctionParticipation::with))
-                                .collect(Collectors.toList())))
-                // send all the requests to the bidders and gathers results
-                .map(CompositeFuture::<AuctionParticipation>list)
+                                .collect(Collectors.toList()),
+                        publisherId,
+                        aliases))
 
                 .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
                         auctionParticipations, storedAuctionResponses, bidRequest.getImp()))
@@ -1146,6 +1157,47 @@ public class ExchangeService {
         return auctionParticipations;
     }
 
+    /**
+     * Waits for all bidder responses or, if {@link EarlyAuctionCompletionPolicy} is configured, only for those of
+     * them which are still expected to respond in time.
+     */
+    private Future<List<AuctionParticipation>> awaitBidderResponses(
+            List<AuctionParticipation> auctionParticipations,
+            List<Future<AuctionParticipation>> responseFutures,
+            String publisherId,
+            BidderAliases aliases) {
+
+        if (earlyAuctionCompletionPolicy == null) {
+            return CompositeFuture.join(new ArrayList<>(responseFutures)).map(CompositeFuture::list);
+        }
+
+        return earlyAuctionCompletionPolicy.await(auctionParticipations, responseFutures, aliases)
+                .map(result -> updateResponseTimeMetricsOfAbandonedBidders(
+                        result, responseFutures, publisherId, aliases));
+    }
+
+    /**
+     * Updates 'request_time' metric of bidders the auction was completed without once they actually respond,
+     * since response time of their made up responses is not the real one.
+     */
+    private List<AuctionParticipation> updateResponseTimeMetricsOfAbandonedBidders(
+            List<AuctionParticipation> auctionParticipations,
+            List<Future<AuctionParticipation>> responseFutures,
+            String publisherId,
+            BidderAliases aliases) {
+
+        for (int i = 0; i < auctionParticipations.size(); i++) {
+            final BidderResponse bidderResponse = auctionParticipations.get(i).getBidderResponse();
+            if (bidderResponse != null && EarlyAuctionCompletionPolicy.isCompletedEarly(bidderResponse)) {
+                final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
+                responseFutures.get(i).onSuccess(auctionParticipation -> metrics.updateAdapterResponseTime(
+                        bidder, publisherId, auctionParticipation.getBidderResponse().getResponseTime()));
+            }
+        }
+
+        return auctionParticipations;
+    }
+
     private Future<BidderResponse> invokeHooksAndRequestBids(AuctionContext auctionContext,
                                                              BidderRequest bidderRequest,
                                                              Timeout timeout,
@@ -1193,10 +1245,35 @@ public class ExchangeService {
 
         final boolean debugEnabledForBidder = debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName);
 
+        final Timeout bidderTimeout = bidderTimeout(resolvedBidderName, timeout);
         final long startTime = clock.millis();
 
-        return httpBidderRequester.requestBids(bidder, bidderRequest, timeout, requestHeaders, debugEnabledForBidder)
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)));
+        return httpBidderRequester.requestBids(
+                        bidder, bidderRequest, bidderTimeout, requestHeaders, debugEnabledForBidder)
+                .map(seatBid -> {
+                    final int responseTime = responseTime(startTime);
+                    recordBidderLatency(resolvedBidderName, seatBid, responseTime);
+                    return BidderResponse.of(bidderName, seatBid, responseTime);
+                });
+    }
+
+    /**
+     * Records response time of the bidder call unless it was timed out, since response time of timed out call
+     * is censored by the assigned timeout (see {@link BidderLatencyTracker}).
+     */
+    private void recordBidderLatency(String bidder, BidderSeatBid seatBid, int responseTime) {
+        final List<BidderError> errors = seatBid.getErrors();
+        final boolean timedOut = errors != null && errors.stream()
+                .anyMatch(error -> error.getType() == BidderError.Type.timeout);
+        if (!timedOut) {
+            bidderLatencyTracker.recordResponseTime(bidder, responseTime);
+        }
+    }
+
+    private Timeout bidderTimeout(String bidder, Timeout timeout) {
+        return adaptiveBidderTimeoutResolver != null
+                ? adaptiveBidderTimeoutResolver.resolve(bidder, timeout)
+                : timeout;
     }
 
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
@@ -1531,7 +1608,10 @@ public class ExchangeService {
         for (BidderResponse bidderResponse : bidderResponses) {
             final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
 
-            metrics.updateAdapterResponseTime(bidder, publisherId, bidderResponse.getResponseTime());
+            // response time of bidders the auction was completed without is updated once they actually respond
+            if (!EarlyAuctionCompletionPolicy.isCompletedEarly(bidderResponse)) {
+                metrics.updateAdapterResponseTime(bidder, publisherId, bidderResponse.getResponseTime());
+            }
 
             final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
             if (CollectionUtils.isEmpty(bidderBids)) {
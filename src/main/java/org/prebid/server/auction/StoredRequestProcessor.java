@@ -1,6 +1,7 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -12,6 +13,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.metric.Metrics;
@@ -21,6 +23,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 import org.prebid.server.util.ObjectUtil;
@@ -52,6 +55,7 @@ public class StoredRequestProcessor {
     private final TimeoutFactory timeoutFactory;
     private final JacksonMapper mapper;
     private final JsonMerger jsonMerger;
+    private final ParsedStoredDataCache parsedStoredDataCache;
 
     public StoredRequestProcessor(long defaultTimeout,
                                    String defaultBidRequestPath,
@@ -62,7 +66,8 @@ public class StoredRequestProcessor {
                                    Metrics metrics,
                                    TimeoutFactory timeoutFactory,
                                    JacksonMapper mapper,
-                                   JsonMerger jsonMerger) {
+                                   JsonMerger jsonMerger,
+                                   ParsedStoredDataCache parsedStoredDataCache) {
 
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
@@ -74,6 +79,7 @@ public class StoredRequestProcessor {
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
         this.mapper = Objects.requireNonNull(mapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.parsedStoredDataCache = Objects.requireNonNull(parsedStoredDataCache);
     }
 
     /**
@@ -195,9 +201,9 @@ public class StoredRequestProcessor {
     private Video parseVideoFromImp(String storedJson) {
         if (StringUtils.isNotBlank(storedJson)) {
             try {
-                final Imp imp = mapper.mapper().readValue(storedJson, Imp.class);
+                final Imp imp = mapper.mapper().treeToValue(parsedStoredDataCache.parse(storedJson), Imp.class);
                 return imp.getVideo();
-            } catch (JsonProcessingException e) {
+            } catch (DecodeException | JsonProcessingException e) {
                 return null;
             }
         }
@@ -248,10 +254,13 @@ public class StoredRequestProcessor {
                                        String storedRequestId,
                                        StoredDataResult storedDataResult) {
 
+        if (StringUtils.isBlank(storedRequestId)) {
+            return originalRequest;
+        }
+
         final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
-        return StringUtils.isNotBlank(storedRequestId)
-                ? jsonMerger.merge(originalRequest, storedRequest, storedRequestId, BidRequest.class)
-                : originalRequest;
+        return jsonMerger.merge(
+                originalRequest, parseStoredData(storedRequest, storedRequestId), storedRequestId, BidRequest.class);
     }
 
     /**
@@ -271,13 +280,23 @@ public class StoredRequestProcessor {
             final String storedRequestId = impToStoredId.get(imp);
             if (storedRequestId != null) {
                 final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
-                final Imp mergedImp = jsonMerger.merge(imp, storedImp, storedRequestId, Imp.class);
+                final Imp mergedImp = jsonMerger.merge(
+                        imp, parseStoredData(storedImp, storedRequestId), storedRequestId, Imp.class);
                 mergedImps.set(i, mergedImp);
             }
         }
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    private JsonNode parseStoredData(String storedData, String storedRequestId) {
+        try {
+            return parsedStoredDataCache.parse(storedData);
+        } catch (DecodeException e) {
+            throw new InvalidRequestException(
+                    String.format("Can't parse Json for stored request with id %s", storedRequestId));
+        }
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
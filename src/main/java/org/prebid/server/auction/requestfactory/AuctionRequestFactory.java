@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.ImplicitParametersExtractor;
@@ -113,8 +114,11 @@ public class AuctionRequestFactory {
                 .recover(ortb2RequestFactory::restoreResultFromRejection);
     }
 
+    /**
+     * Returns request body, its size is checked in bytes as received.
+     */
     private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
+        final Buffer body = routingContext.getBody();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -124,7 +128,7 @@ public class AuctionRequestFactory {
                     String.format("Request size exceeded max size of %d bytes.", maxRequestSize));
         }
 
-        return body;
+        return routingContext.getBodyAsString();
     }
 
     private Future<BidRequest> parseBidRequest(HttpRequestContext httpRequest, List<String> errors) {
@@ -10,6 +10,7 @@ import com.iab.openrtb.request.video.Pod;
 import com.iab.openrtb.request.video.PodError;
 import com.iab.openrtb.request.video.Podconfig;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -138,8 +139,11 @@ public class VideoRequestFactory {
                 .map(auctionContext -> WithPodErrors.of(auctionContext, podErrors));
     }
 
+    /**
+     * Returns request body, its size is checked in bytes as received.
+     */
     private String extractAndValidateBody(RoutingContext routingContext) {
-        final String body = routingContext.getBodyAsString();
+        final Buffer body = routingContext.getBody();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -149,7 +153,7 @@ public class VideoRequestFactory {
                     maxRequestSize));
         }
 
-        return body;
+        return routingContext.getBodyAsString();
     }
 
     private Future<WithPodErrors<BidRequest>> createBidRequest(HttpRequestContext httpRequest) {
@@ -85,7 +85,8 @@ public class HttpBidderRequester {
 
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
-        final Result<List<HttpRequest<T>>> httpRequestsWithErrors = bidder.makeHttpRequests(bidRequest);
+        final Result<List<HttpRequest<T>>> httpRequestsWithErrors =
+                mapper.encodeBidderRequests(() -> bidder.makeHttpRequests(bidRequest));
         final List<BidderError> bidderErrors = httpRequestsWithErrors.getErrors();
         final List<HttpRequest<T>> httpRequests =
                 enrichRequests(httpRequestsWithErrors.getValue(), requestHeaders, bidRequest);
@@ -230,7 +231,8 @@ public class HttpBidderRequester {
      */
     private static <T> Future<HttpCall<T>> processResponse(HttpClientResponse response, HttpRequest<T> httpRequest) {
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse = HttpResponse.ofBytes(statusCode, response.getHeaders(),
+                response.getBodyBytes());
         return Future.succeededFuture(HttpCall.success(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
@@ -0,0 +1,207 @@
+package org.prebid.server.bidder;
+
+import lombok.Value;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link Usersyncer.UsersyncMethod} compiled to the final usersync url template.
+ * <p>
+ * Usersync url and redirect url are split by privacy placeholders once, redirect url parts are URL-encoded
+ * in advance, so each request only joins prepared parts with privacy values.
+ * Result is the same as of {@link UsersyncInfoAssembler#withPrivacy(Privacy)} followed by
+ * {@link UsersyncInfoAssembler#assemble()}.
+ */
+public class UsersyncInfoTemplate {
+
+    private static final String[] PLACEHOLDERS = {
+            UsersyncInfo.GDPR_PLACEHOLDER,
+            UsersyncInfo.GDPR_CONSENT_PLACEHOLDER,
+            UsersyncInfo.US_PRIVACY_PLACEHOLDER};
+
+    private static final int NOT_ENCODED = 0;
+    private static final int ENCODED = 1;
+
+    private final Usersyncer.UsersyncMethod usersyncMethod;
+
+    /**
+     * Literal parts of url, there is always one more literal than slots.
+     */
+    private final String[] literals;
+
+    /**
+     * Privacy value slots between literals, each slot is placeholder index
+     * multiplied by two plus one if value should be encoded.
+     */
+    private final int[] slots;
+
+    private final int literalsLength;
+
+    /**
+     * Braces left in url besides placeholders can form new placeholder with adjacent value,
+     * such urls are left to {@link UsersyncInfoAssembler} to keep its exact behavior.
+     */
+    private final boolean templatable;
+
+    private UsersyncInfoTemplate(Usersyncer.UsersyncMethod usersyncMethod,
+                                 List<String> literals,
+                                 List<Integer> slots,
+                                 boolean templatable) {
+
+        this.usersyncMethod = usersyncMethod;
+        this.literals = literals.toArray(new String[0]);
+        this.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+        this.templatable = templatable;
+    }
+
+    public static UsersyncInfoTemplate of(Usersyncer.UsersyncMethod usersyncMethod) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+
+        final String usersyncUrl = StringUtils.defaultString(usersyncMethod.getUsersyncUrl());
+        final boolean usersyncUrlTemplatable = compile(usersyncUrl, ENCODED, false, literal, literals, slots);
+
+        final String redirectUrl = UsersyncUtil.enrichUsersyncUrlWithFormat(
+                StringUtils.stripToEmpty(usersyncMethod.getRedirectUrl()), usersyncMethod.getType());
+        // placeholders have no question marks, so they are counted the same way as in substituted url
+        final int queryParamsIndex = StringUtils.countMatches(redirectUrl, '?') > 1
+                ? redirectUrl.lastIndexOf('?')
+                : redirectUrl.length();
+
+        final String redirectUrlPath = redirectUrl.substring(0, queryParamsIndex);
+        final boolean pathTemplatable = compile(redirectUrlPath, ENCODED, true, literal, literals, slots);
+        final String redirectUrlQuery = redirectUrl.substring(queryParamsIndex);
+        final boolean queryTemplatable = compile(redirectUrlQuery, NOT_ENCODED, false, literal, literals, slots);
+
+        literals.add(literal.toString());
+        return new UsersyncInfoTemplate(
+                usersyncMethod, literals, slots, usersyncUrlTemplatable && pathTemplatable && queryTemplatable);
+    }
+
+    /**
+     * Appends given url part to the template being compiled: literals are URL-encoded if needed,
+     * each placeholder becomes a slot with given value encoding.
+     * <p>
+     * Returns false if url has braces besides placeholders.
+     */
+    private static boolean compile(String url,
+                                   int valueEncoding,
+                                   boolean encodeLiterals,
+                                   StringBuilder literal,
+                                   List<String> literals,
+                                   List<Integer> slots) {
+
+        final List<Integer> placeholders = new ArrayList<>();
+        final List<String> parts = splitByPlaceholders(url, placeholders);
+        boolean templatable = true;
+        for (int i = 0; i < parts.size(); i++) {
+            templatable &= StringUtils.containsNone(parts.get(i), '{', '}');
+            literal.append(encodeLiterals ? HttpUtil.encodeUrl(parts.get(i)) : parts.get(i));
+            if (i < placeholders.size()) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(placeholders.get(i) * 2 + valueEncoding);
+            }
+        }
+        return templatable;
+    }
+
+    /**
+     * Returns literal parts of url between placeholders and fills given list with indexes of found placeholders.
+     */
+    private static List<String> splitByPlaceholders(String url, List<Integer> placeholders) {
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        int index = url.indexOf("{{");
+        while (index != -1) {
+            final int placeholder = placeholderAt(url, index);
+            if (placeholder != -1) {
+                parts.add(url.substring(start, index));
+                placeholders.add(placeholder);
+                start = index + PLACEHOLDERS[placeholder].length();
+                index = url.indexOf("{{", start);
+            } else {
+                index = url.indexOf("{{", index + 1);
+            }
+        }
+        parts.add(url.substring(start));
+        return parts;
+    }
+
+    private static int placeholderAt(String url, int index) {
+        for (int i = 0; i < PLACEHOLDERS.length; i++) {
+            if (url.startsWith(PLACEHOLDERS[i], index)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns {@link UsersyncInfo} with privacy values placed into url.
+     */
+    public UsersyncInfo assemble(PrivacyParams privacyParams) {
+        if (!templatable || !privacyParams.isTemplatable()) {
+            return UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacyParams.getPrivacy()).assemble();
+        }
+
+        final String[] values = privacyParams.getValues();
+        int valuesLength = 0;
+        for (int slot : slots) {
+            valuesLength += values[slot].length();
+        }
+
+        final StringBuilder url = new StringBuilder(literalsLength + valuesLength);
+        for (int i = 0; i < slots.length; i++) {
+            url.append(literals[i]).append(values[slots[i]]);
+        }
+        url.append(literals[slots.length]);
+
+        return UsersyncInfo.of(url.toString(), usersyncMethod.getType(), usersyncMethod.isSupportCORS());
+    }
+
+    /**
+     * Privacy values of a single request prepared for all usersync url templates.
+     */
+    @Value
+    public static class PrivacyParams {
+
+        Privacy privacy;
+
+        /**
+         * Raw and URL-encoded values of each placeholder, indexed the same way as template slots.
+         */
+        String[] values;
+
+        /**
+         * Values that can form question mark or placeholder in url are left to {@link UsersyncInfoAssembler}
+         * to keep its exact behavior.
+         */
+        boolean templatable;
+
+        public static PrivacyParams of(Privacy privacy) {
+            final String[] rawValues = {
+                    ObjectUtils.defaultIfNull(privacy.getGdpr(), ""),
+                    ObjectUtils.defaultIfNull(privacy.getConsentString(), ""),
+                    ObjectUtils.defaultIfNull(privacy.getCcpa().getUsPrivacy(), "")};
+
+            final String[] values = new String[rawValues.length * 2];
+            boolean templatable = true;
+            for (int i = 0; i < rawValues.length; i++) {
+                values[i * 2 + NOT_ENCODED] = rawValues[i];
+                values[i * 2 + ENCODED] = HttpUtil.encodeUrl(rawValues[i]);
+                templatable &= StringUtils.containsNone(rawValues[i], '?', '{', '}');
+            }
+
+            return new PrivacyParams(privacy, values, templatable);
+        }
+    }
+}
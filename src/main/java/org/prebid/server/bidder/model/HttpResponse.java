@@ -1,13 +1,20 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.Value;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Bidders parsing response body should prefer {@link #getBodyBytes()}, which is exactly what was received from
+ * the server, over {@link #getBody()}, which is decoded to {@link String} lazily on demand.
  */
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class HttpResponse {
 
@@ -15,5 +22,16 @@ public class HttpResponse {
 
     MultiMap headers;
 
-    String body;
+    byte[] bodyBytes;
+
+    @Getter(lazy = true)
+    String body = bodyBytes != null ? new String(bodyBytes, StandardCharsets.UTF_8) : null;
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, body != null ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    public static HttpResponse ofBytes(int statusCode, MultiMap headers, byte[] body) {
+        return new HttpResponse(statusCode, headers, body);
+    }
 }
@@ -133,7 +133,7 @@ public class SmartyAdsBidder implements Bidder<BidRequest> {
     private List<BidderBid> extractBids(HttpCall<BidRequest> httpCall) {
         final BidResponse bidResponse;
         try {
-            bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            bidResponse = mapper.decodeValue(httpCall.getResponse().getBodyBytes(), BidResponse.class);
         } catch (DecodeException e) {
             throw new PreBidException("Bad Server Response");
         }
@@ -0,0 +1,249 @@
+package org.prebid.server.cookie;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads and writes JSON of 'uids' cookie with Jackson streaming API.
+ * <p>
+ * Cookie schema is known and small, so walking parser tokens straight into {@link Uids} avoids
+ * data binding overhead (bean introspection, intermediate buffers) on every request carrying the cookie.
+ * Produces and accepts the same JSON as {@link JacksonMapper} does for {@link Uids}.
+ */
+public class UidsCookieCodec {
+
+    private static final String UIDS_LEGACY_FIELD = "uids";
+    private static final String UIDS_FIELD = "tempUIDs";
+    private static final String OPTOUT_FIELD = "optout";
+    private static final String BDAY_FIELD = "bday";
+    private static final String UID_FIELD = "uid";
+    private static final String EXPIRES_FIELD = "expires";
+
+    // the same format as used by JacksonMapper for ZonedDateTime
+    private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd'T'HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .appendPattern("XXX")
+            .toFormatter();
+
+    private final JsonFactory jsonFactory;
+
+    public UidsCookieCodec(JacksonMapper mapper) {
+        this.jsonFactory = Objects.requireNonNull(mapper).mapper().getFactory();
+    }
+
+    /**
+     * Parses {@link Uids} from JSON bytes, returns null if JSON is null literal.
+     */
+    public Uids decode(byte[] json) throws DecodeException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            expectStartObject(token);
+
+            final Uids.UidsBuilder uidsBuilder = Uids.builder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case UIDS_LEGACY_FIELD:
+                        uidsBuilder.uidsLegacy(parseLegacyUids(parser, valueToken));
+                        break;
+                    case UIDS_FIELD:
+                        uidsBuilder.uids(parseUids(parser, valueToken));
+                        break;
+                    case OPTOUT_FIELD:
+                        uidsBuilder.optout(parseBoolean(parser, valueToken));
+                        break;
+                    case BDAY_FIELD:
+                        uidsBuilder.bday(parseDate(parser, valueToken));
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return uidsBuilder.build();
+        } catch (IOException | DateTimeException | IllegalStateException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, String> parseLegacyUids(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject(token);
+
+        final Map<String, String> uids = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String family = parser.getCurrentName();
+            uids.put(family, parseString(parser, parser.nextToken()));
+        }
+        return uids;
+    }
+
+    private static Map<String, UidWithExpiry> parseUids(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject(token);
+
+        final Map<String, UidWithExpiry> uids = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String family = parser.getCurrentName();
+            uids.put(family, parseUidWithExpiry(parser, parser.nextToken()));
+        }
+        return uids;
+    }
+
+    private static UidWithExpiry parseUidWithExpiry(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectStartObject(token);
+
+        String uid = null;
+        ZonedDateTime expires = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (UID_FIELD.equals(fieldName)) {
+                uid = parseString(parser, valueToken);
+            } else if (EXPIRES_FIELD.equals(fieldName)) {
+                expires = parseDate(parser, valueToken);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new UidWithExpiry(uid, expires);
+    }
+
+    private static String parseString(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new IllegalStateException(String.format("Unexpected token %s, expected string", token));
+        }
+        return parser.getValueAsString();
+    }
+
+    private static Boolean parseBoolean(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return token == JsonToken.VALUE_TRUE;
+            case VALUE_NUMBER_INT:
+                return parser.getIntValue() != 0;
+            case VALUE_STRING:
+                final String value = parser.getText().trim();
+                if (value.isEmpty()) {
+                    return null;
+                }
+                if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+                    return Boolean.valueOf(value);
+                }
+                return failOnBoolean(token);
+            default:
+                return failOnBoolean(token);
+        }
+    }
+
+    private static Boolean failOnBoolean(JsonToken token) {
+        throw new IllegalStateException(String.format("Unexpected token %s, expected boolean", token));
+    }
+
+    private static ZonedDateTime parseDate(JsonParser parser, JsonToken token) throws IOException {
+        final String value = parseString(parser, token);
+        return value != null ? ZonedDateTime.parse(value, FORMATTER) : null;
+    }
+
+    private static void expectStartObject(JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalStateException(String.format("Unexpected token %s, expected object", token));
+        }
+    }
+
+    /**
+     * Writes {@link Uids} to JSON bytes, omitting null properties and map values the same way as mapper does.
+     */
+    public byte[] encode(Uids uids) throws EncodeException {
+        final ByteArrayBuilder output = new ByteArrayBuilder();
+        try (JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            generator.writeStartObject();
+
+            final Map<String, String> uidsLegacy = uids.getUidsLegacy();
+            if (uidsLegacy != null) {
+                generator.writeObjectFieldStart(UIDS_LEGACY_FIELD);
+                for (Map.Entry<String, String> entry : uidsLegacy.entrySet()) {
+                    if (entry.getValue() != null) {
+                        generator.writeStringField(entry.getKey(), entry.getValue());
+                    }
+                }
+                generator.writeEndObject();
+            }
+
+            final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+            if (uidsMap != null) {
+                generator.writeObjectFieldStart(UIDS_FIELD);
+                for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+                    if (entry.getValue() != null) {
+                        generator.writeFieldName(entry.getKey());
+                        writeUidWithExpiry(generator, entry.getValue());
+                    }
+                }
+                generator.writeEndObject();
+            }
+
+            final Boolean optout = uids.getOptout();
+            if (optout != null) {
+                generator.writeBooleanField(OPTOUT_FIELD, optout);
+            }
+
+            final ZonedDateTime bday = uids.getBday();
+            if (bday != null) {
+                generator.writeStringField(BDAY_FIELD, FORMATTER.format(bday));
+            }
+
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new EncodeException(String.format("Failed to encode uids cookie: %s", e.getMessage()));
+        }
+        return output.toByteArray();
+    }
+
+    private static void writeUidWithExpiry(JsonGenerator generator, UidWithExpiry uidWithExpiry)
+            throws IOException {
+
+        generator.writeStartObject();
+        if (uidWithExpiry.getUid() != null) {
+            generator.writeStringField(UID_FIELD, uidWithExpiry.getUid());
+        }
+        if (uidWithExpiry.getExpires() != null) {
+            generator.writeStringField(EXPIRES_FIELD, FORMATTER.format(uidWithExpiry.getExpires()));
+        }
+        generator.writeEndObject();
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.cookie;
 
-import io.vertx.core.buffer.Buffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -41,6 +42,8 @@ public class UidsCookieService {
     private final long ttlSeconds;
     private final int maxCookieSizeBytes;
     private final JacksonMapper mapper;
+    private final UidsCookieCodec codec;
+    private final Cache<String, Uids> uidsCache;
 
     public UidsCookieService(String optOutCookieName,
                              String optOutCookieValue,
@@ -49,12 +52,16 @@ public class UidsCookieService {
                              String hostCookieDomain,
                              int ttlDays,
                              int maxCookieSizeBytes,
+                             int uidsCacheSize,
                              JacksonMapper mapper) {
 
         if (maxCookieSizeBytes != 0 && maxCookieSizeBytes < MIN_COOKIE_SIZE_BYTES) {
             throw new IllegalArgumentException(String.format(
                     "Configured cookie size is less than allowed minimum size of %d", maxCookieSizeBytes));
         }
+        if (uidsCacheSize < 0) {
+            throw new IllegalArgumentException("Uids cookie cache size must be non negative");
+        }
 
         this.optOutCookieName = optOutCookieName;
         this.optOutCookieValue = optOutCookieValue;
@@ -64,6 +71,8 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.mapper = Objects.requireNonNull(mapper);
+        this.codec = new UidsCookieCodec(mapper);
+        this.uidsCache = uidsCacheSize > 0 ? Caffeine.newBuilder().maximumSize(uidsCacheSize).build() : null;
     }
 
     /**
@@ -116,26 +125,58 @@ public class UidsCookieService {
 
     /**
      * Parses cookies {@link Map} and composes {@link Uids} model.
+     * <p>
+     * Returned {@link Uids} may be shared between requests with the same cookie value, so it must not be modified.
      */
     public Uids parseUids(Map<String, String> cookies) {
         if (cookies.containsKey(COOKIE_NAME)) {
             final String cookieValue = cookies.get(COOKIE_NAME);
-            try {
-                return mapper.decodeValue(Buffer.buffer(Base64.getUrlDecoder().decode(cookieValue)), Uids.class);
-            } catch (IllegalArgumentException | DecodeException e) {
-                logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
+            if (uidsCache == null) {
+                return decodeUids(cookieValue);
+            }
+
+            final Uids cachedUids = uidsCache.getIfPresent(cookieValue);
+            if (cachedUids != null) {
+                return cachedUids;
             }
+
+            final Uids uids = decodeUids(cookieValue);
+            if (uids == null) {
+                return null;
+            }
+
+            final Uids unmodifiableUids = makeUnmodifiable(uids);
+            uidsCache.put(cookieValue, unmodifiableUids);
+            return unmodifiableUids;
         }
         return null;
     }
 
+    private Uids decodeUids(String cookieValue) {
+        try {
+            return codec.decode(Base64.getUrlDecoder().decode(cookieValue));
+        } catch (IllegalArgumentException | DecodeException e) {
+            logger.debug("Could not decode or parse {0} cookie value {1}", e, COOKIE_NAME, cookieValue);
+        }
+        return null;
+    }
+
+    private static Uids makeUnmodifiable(Uids uids) {
+        final Map<String, String> uidsLegacy = uids.getUidsLegacy();
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids();
+        return uids.toBuilder()
+                .uidsLegacy(uidsLegacy != null ? Collections.unmodifiableMap(uidsLegacy) : null)
+                .uids(uidsMap != null ? Collections.unmodifiableMap(uidsMap) : null)
+                .build();
+    }
+
     /**
      * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
      * as a value.
      */
     public Cookie toCookie(UidsCookie uidsCookie) {
         UidsCookie modifiedUids = uidsCookie;
-        byte[] cookieBytes = uidsCookie.toJson().getBytes();
+        byte[] cookieBytes = codec.encode(uidsCookie.getCookieUids());
 
         while (maxCookieSizeBytes > 0 && cookieBytes.length > maxCookieSizeBytes) {
             final String familyName = modifiedUids.getCookieUids().getUids().entrySet().stream()
@@ -143,7 +184,7 @@ public class UidsCookieService {
                     .map(Map.Entry::getKey)
                     .orElse(null);
             modifiedUids = modifiedUids.deleteUid(familyName);
-            cookieBytes = modifiedUids.toJson().getBytes();
+            cookieBytes = codec.encode(modifiedUids.getCookieUids());
         }
 
         final Cookie cookie = Cookie
@@ -20,7 +20,9 @@ import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.DeliverySchedule;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.TargetingIndex;
 import org.prebid.server.exception.TargetingSyntaxException;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
@@ -78,6 +80,7 @@ public class LineItemService {
 
     protected final Map<String, LineItem> idToLineItems;
     protected volatile boolean isPlannerResponsive;
+    private volatile LineItemsIndex lineItemsIndex;
 
     public LineItemService(int maxDealsPerBidder,
                            TargetingService targetingService,
@@ -98,6 +101,7 @@ public class LineItemService {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
 
         idToLineItems = new ConcurrentHashMap<>();
+        lineItemsIndex = LineItemsIndex.empty();
     }
 
     /**
@@ -118,9 +122,7 @@ public class LineItemService {
      * Returns true when account has at least one active {@link LineItem} in the given time.
      */
     public boolean accountHasDeals(String account, ZonedDateTime now) {
-        return StringUtils.isNotEmpty(account)
-                && idToLineItems.values().stream().anyMatch(lineItem -> Objects.equals(lineItem.getAccountId(), account)
-                && lineItem.isActive(now));
+        return StringUtils.isNotEmpty(account) && lineItemsIndex.hasActiveLineItems(account, now);
     }
 
     /**
@@ -137,11 +139,9 @@ public class LineItemService {
      * taking into account Line Items’ targeting and delivery progress by the given time.
      */
     protected MatchLineItemsResult findMatchingLineItems(AuctionContext auctionContext, Imp imp, ZonedDateTime now) {
-        final List<LineItem> matchedLineItems = getPreMatchedLineItems(auctionContext.getAccount().getId(),
-                imp, extractAliases(auctionContext.getBidRequest()))
-                .stream()
-                .filter(lineItem -> isTargetingMatched(lineItem, imp, auctionContext))
-                .collect(Collectors.toList());
+        final List<LineItem> preMatchedLineItems = getPreMatchedLineItems(auctionContext.getAccount().getId(),
+                imp, extractAliases(auctionContext.getBidRequest()));
+        final List<LineItem> matchedLineItems = filterByTargeting(preMatchedLineItems, auctionContext, imp);
         return MatchLineItemsResult.of(postProcessMatchedLineItems(matchedLineItems, auctionContext, imp, now));
     }
 
@@ -167,20 +167,33 @@ public class LineItemService {
 
             removeInactiveLineItems(planResponse, now);
             lineItemsMetaData.forEach(lineItemMetaData -> updateLineItem(lineItemMetaData, now));
+            rebuildLineItemsIndex();
         }
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
         idToLineItems.entrySet().removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
+        rebuildLineItemsIndex();
         logger.info("Line Items with ids {0} were removed", String.join(", ", lineItemIds));
     }
 
     public void invalidateLineItems() {
         final String lineItemsToRemove = String.join(", ", idToLineItems.keySet());
         idToLineItems.clear();
+        rebuildLineItemsIndex();
         logger.info("Line Items with ids {0} were removed", lineItemsToRemove);
     }
 
+    /**
+     * Rebuilds {@link LineItemsIndex} of currently tracked {@link LineItem}s and replaces the previous one at once.
+     * <p>
+     * Line Items updated concurrently with rebuild are not skipped by {@link TargetingIndex} until next rebuild,
+     * since index recognizes their targeting definitions as not indexed.
+     */
+    private void rebuildLineItemsIndex() {
+        lineItemsIndex = LineItemsIndex.build(new ArrayList<>(idToLineItems.values()));
+    }
+
     private boolean isExpired(ZonedDateTime now, ZonedDateTime endTime) {
         return now.isAfter(endTime);
     }
@@ -274,12 +287,23 @@ public class LineItemService {
     }
 
     /**
-     * Returns true if collection of bidder codes contains bidder or it's alias value.
+     * Returns {@link LineItem} sources matching given bidder codes considering aliases: bidder codes themselves,
+     * bidders they are aliases of and aliases of these bidder codes.
      */
-    private boolean containBidderCodeConsideringAliases(List<String> bidders, String bidder,
-                                                        Map<String, String> aliases) {
-        return bidders.contains(bidder) || bidders.contains(aliases.get(bidder))
-                || bidders.stream().anyMatch(bidderCode -> bidder.equals(aliases.get(bidderCode)));
+    private static Set<String> lineItemSourcesConsideringAliases(List<String> bidders, Map<String, String> aliases) {
+        final Set<String> sources = new HashSet<>(bidders);
+        for (final String bidder : bidders) {
+            final String aliasedBidder = aliases.get(bidder);
+            if (aliasedBidder != null) {
+                sources.add(aliasedBidder);
+            }
+        }
+        aliases.forEach((alias, aliasedBidder) -> {
+            if (bidders.contains(aliasedBidder)) {
+                sources.add(alias);
+            }
+        });
+        return sources;
     }
 
     /**
@@ -290,9 +314,7 @@ public class LineItemService {
             return Collections.emptyList();
         }
 
-        final List<LineItem> accountsLineItems = idToLineItems.values().stream()
-                .filter(lineItem -> lineItem.getAccountId().equals(accountId))
-                .collect(Collectors.toList());
+        final List<LineItem> accountsLineItems = lineItemsIndex.accountLineItems(accountId);
 
         if (accountsLineItems.isEmpty()) {
             criteriaLogManager.log(logger, accountId,
@@ -305,8 +327,10 @@ public class LineItemService {
                 .distinct()
                 .collect(Collectors.toList());
 
+        final Set<String> sources = lineItemSourcesConsideringAliases(bidders, aliases);
+
         return accountsLineItems.stream()
-                .filter(lineItem -> containBidderCodeConsideringAliases(bidders, lineItem.getSource(), aliases))
+                .filter(lineItem -> sources.contains(lineItem.getSource()))
                 .collect(Collectors.toList());
     }
 
@@ -324,12 +348,37 @@ public class LineItemService {
         return aliases != null ? aliases : Collections.emptyMap();
     }
 
+    /**
+     * Returns {@link LineItem}s which {@link TargetingDefinition} matches to {@link Imp}.
+     * <p>
+     * All Line Items are evaluated against the same {@link RequestContext}, so request attributes are
+     * extracted only once, and those which could not match according to {@link TargetingIndex}
+     * are not evaluated at all.
+     */
+    private List<LineItem> filterByTargeting(List<LineItem> lineItems, AuctionContext auctionContext, Imp imp) {
+        if (lineItems.isEmpty()) {
+            return lineItems;
+        }
+
+        final RequestContext requestContext = targetingService.createRequestContext(auctionContext, imp);
+        final TargetingIndex.Candidates candidates = lineItemsIndex.getTargetingIndex().candidates(requestContext);
+
+        return lineItems.stream()
+                .filter(lineItem -> isTargetingMatched(lineItem, imp, auctionContext, requestContext, candidates))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns true if {@link LineItem}s {@link TargetingDefinition} matches to {@link Imp}.
      * <p>
      * Updates deep debug log with matching information.
      */
-    private boolean isTargetingMatched(LineItem lineItem, Imp imp, AuctionContext auctionContext) {
+    private boolean isTargetingMatched(LineItem lineItem,
+                                       Imp imp,
+                                       AuctionContext auctionContext,
+                                       RequestContext requestContext,
+                                       TargetingIndex.Candidates candidates) {
+
         final TargetingDefinition targetingDefinition = lineItem.getTargetingDefinition();
         final String accountId = auctionContext.getAccount().getId();
         final String source = lineItem.getSource();
@@ -341,8 +390,8 @@ public class LineItemService {
             return false;
         }
 
-        final boolean matched = targetingService.matchesTargeting(auctionContext, imp,
-                lineItem.getTargetingDefinition());
+        final boolean matched = candidates.mayMatch(lineItemId, targetingDefinition)
+                && targetingService.matchesTargeting(requestContext, targetingDefinition);
         if (matched) {
             deepDebug(auctionContext, Category.targeting,
                     String.format("Line Item %s targeting matched imp with id %s", lineItemId, imp.getId()),
@@ -0,0 +1,141 @@
+package org.prebid.server.deals;
+
+import lombok.Value;
+import org.prebid.server.deals.lineitem.LineItem;
+import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.TargetingIndex;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of {@link LineItem}s indexed by account, which allows to find account's line items
+ * without scanning all of them.
+ * <p>
+ * Active windows of account's line items are merged into sorted non-overlapping intervals,
+ * so checking whether account has active line items at the given time is a binary search.
+ */
+class LineItemsIndex {
+
+    private static final LineItemsIndex EMPTY = new LineItemsIndex(
+            Collections.emptyMap(), Collections.emptyMap(), TargetingIndex.empty());
+
+    private final Map<String, List<LineItem>> accountToLineItems;
+    private final Map<String, List<ActiveWindow>> accountToActiveWindows;
+    private final TargetingIndex targetingIndex;
+
+    private LineItemsIndex(Map<String, List<LineItem>> accountToLineItems,
+                           Map<String, List<ActiveWindow>> accountToActiveWindows,
+                           TargetingIndex targetingIndex) {
+
+        this.accountToLineItems = accountToLineItems;
+        this.accountToActiveWindows = accountToActiveWindows;
+        this.targetingIndex = targetingIndex;
+    }
+
+    static LineItemsIndex empty() {
+        return EMPTY;
+    }
+
+    static LineItemsIndex build(Collection<LineItem> lineItems) {
+        final Map<String, List<LineItem>> accountToLineItems = new HashMap<>();
+        final Map<String, TargetingDefinition> lineItemIdToTargeting = new HashMap<>();
+        for (final LineItem lineItem : lineItems) {
+            if (lineItem.getAccountId() != null) {
+                accountToLineItems.computeIfAbsent(lineItem.getAccountId(), key -> new ArrayList<>()).add(lineItem);
+            }
+            lineItemIdToTargeting.put(lineItem.getLineItemId(), lineItem.getTargetingDefinition());
+        }
+
+        final Map<String, List<ActiveWindow>> accountToActiveWindows = new HashMap<>();
+        accountToLineItems.forEach((accountId, accountLineItems) ->
+                accountToActiveWindows.put(accountId, mergedActiveWindows(accountLineItems)));
+
+        return new LineItemsIndex(accountToLineItems, accountToActiveWindows,
+                TargetingIndex.build(lineItemIdToTargeting));
+    }
+
+    /**
+     * Returns {@link LineItem}s of the given account.
+     */
+    List<LineItem> accountLineItems(String accountId) {
+        return accountToLineItems.getOrDefault(accountId, Collections.emptyList());
+    }
+
+    /**
+     * Returns true if the given account has at least one {@link LineItem} active at the given time.
+     */
+    boolean hasActiveLineItems(String accountId, ZonedDateTime now) {
+        final List<ActiveWindow> windows = accountToActiveWindows.get(accountId);
+        if (windows == null) {
+            return false;
+        }
+
+        final Instant instant = now.toInstant();
+
+        // looking for the last window started not after the given time
+        int low = 0;
+        int high = windows.size() - 1;
+        ActiveWindow candidate = null;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final ActiveWindow window = windows.get(middle);
+            if (window.getStart().isAfter(instant)) {
+                high = middle - 1;
+            } else {
+                candidate = window;
+                low = middle + 1;
+            }
+        }
+
+        return candidate != null && instant.isBefore(candidate.getEnd());
+    }
+
+    TargetingIndex getTargetingIndex() {
+        return targetingIndex;
+    }
+
+    private static List<ActiveWindow> mergedActiveWindows(List<LineItem> lineItems) {
+        final List<ActiveWindow> windows = new ArrayList<>();
+        for (final LineItem lineItem : lineItems) {
+            final ZonedDateTime start = lineItem.getStartTimeStamp();
+            final ZonedDateTime end = lineItem.getEndTimeStamp();
+            if (start != null && end != null && start.isBefore(end)) {
+                windows.add(ActiveWindow.of(start.toInstant(), end.toInstant()));
+            }
+        }
+        windows.sort(Comparator.comparing(ActiveWindow::getStart));
+
+        final List<ActiveWindow> merged = new ArrayList<>();
+        for (final ActiveWindow window : windows) {
+            final int lastIndex = merged.size() - 1;
+            final ActiveWindow last = lastIndex >= 0 ? merged.get(lastIndex) : null;
+            if (last != null && !window.getStart().isAfter(last.getEnd())) {
+                if (window.getEnd().isAfter(last.getEnd())) {
+                    merged.set(lastIndex, ActiveWindow.of(last.getStart(), window.getEnd()));
+                }
+            } else {
+                merged.add(window);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Time interval including its start and excluding its end.
+     */
+    @Value(staticConstructor = "of")
+    private static class ActiveWindow {
+
+        Instant start;
+
+        Instant end;
+    }
+}
@@ -64,12 +64,25 @@ public class TargetingService {
      * definition against and returns whether it is matched or not.
      */
     public boolean matchesTargeting(AuctionContext auctionContext, Imp imp, TargetingDefinition targetingDefinition) {
-        final RequestContext requestContext = new RequestContext(
-                auctionContext.getBidRequest(), imp, auctionContext.getTxnLog(), mapper);
+        return matchesTargeting(createRequestContext(auctionContext, imp), targetingDefinition);
+    }
 
+    /**
+     * Evaluates Line Item targeting definition against the given {@link RequestContext}
+     * and returns whether it is matched or not.
+     */
+    public boolean matchesTargeting(RequestContext requestContext, TargetingDefinition targetingDefinition) {
         return targetingDefinition.getRootExpression().matches(requestContext);
     }
 
+    /**
+     * Creates {@link RequestContext} of OpenRTB2 request and particular Imp object, which is meant to be reused
+     * for evaluation of all Line Items targeting definitions against this Imp.
+     */
+    public RequestContext createRequestContext(AuctionContext auctionContext, Imp imp) {
+        return new RequestContext(auctionContext.getBidRequest(), imp, auctionContext.getTxnLog(), mapper);
+    }
+
     private Expression parseNode(JsonNode node, String lineItemId) {
         final Map.Entry<String, JsonNode> field = validateIsSingleElementObject(node);
         final String fieldName = field.getKey();
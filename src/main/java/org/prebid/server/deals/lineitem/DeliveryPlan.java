@@ -118,11 +118,11 @@ public class DeliveryPlan {
                 .collect(Collectors.toSet()));
     }
 
-    public void incTokenWithPriority(Integer tokenPriority) {
+    public void incTokenWithPriority(Integer tokenPriority, long count) {
         deliveryTokens.stream()
                 .filter(token -> Objects.equals(token.getPriorityClass(), tokenPriority))
                 .findAny()
-                .ifPresent(DeliveryToken::inc);
+                .ifPresent(token -> token.getSpent().add(count));
     }
 
     /**
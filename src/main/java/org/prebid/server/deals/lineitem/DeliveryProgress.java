@@ -1,5 +1,7 @@
 package org.prebid.server.deals.lineitem;
 
+import lombok.Value;
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.prebid.server.deals.LineItemService;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.report.Event;
@@ -8,6 +10,8 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -16,9 +20,17 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Accumulates {@link LineItem}s delivery statistics.
+ * <p>
+ * Auction and win events are recorded to one of the stripes chosen by the current thread, so event loop threads
+ * do not contend with each other on the hot path. Stripes are merged into overall statistics only when it is read
+ * or updated with delivery plans (e.g. when report is created or tokens are checked).
+ */
 public class DeliveryProgress {
 
     private static final String WIN_EVENT_TYPE = "win";
+    private static final int STRIPES_NUMBER = stripesNumber();
 
     private final Map<String, LineItemStatus> lineItemStatuses;
     private final Map<String, LongAdder> requestsPerAccount;
@@ -27,6 +39,7 @@ public class DeliveryProgress {
     private ZonedDateTime startTimeStamp;
     private ZonedDateTime endTimeStamp;
     private final LineItemService lineItemService;
+    private final Stripe[] stripes;
 
     private DeliveryProgress(ZonedDateTime startTimeStamp, LineItemService lineItemService) {
         this.startTimeStamp = Objects.requireNonNull(startTimeStamp);
@@ -35,6 +48,16 @@ public class DeliveryProgress {
         this.requestsPerAccount = new ConcurrentHashMap<>();
         this.lineItemIdToLost = new ConcurrentHashMap<>();
         this.lineItemService = Objects.requireNonNull(lineItemService);
+        this.stripes = new Stripe[STRIPES_NUMBER];
+        for (int i = 0; i < STRIPES_NUMBER; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static int stripesNumber() {
+        // power of two to select stripe by thread id with mask
+        final int threads = Runtime.getRuntime().availableProcessors() * 2;
+        return Integer.highestOneBit(threads - 1) << 1;
     }
 
     public static DeliveryProgress of(ZonedDateTime startTimeStamp, LineItemService lineItemService) {
@@ -42,6 +65,8 @@ public class DeliveryProgress {
     }
 
     public DeliveryProgress copyWithOriginalPlans() {
+        mergeStripes();
+
         final DeliveryProgress progress = DeliveryProgress.of(this.getStartTimeStamp(),
                 this.lineItemService);
 
@@ -64,39 +89,25 @@ public class DeliveryProgress {
      * Updates delivery progress from {@link TxnLog}.
      */
     public void recordTransactionLog(TxnLog txnLog, Map<String, Integer> planIdToTokenPriority, String accountId) {
-        accountRequests(accountId).increment();
-        requests.increment();
-
-        txnLog.lineItemSentToClientAsTopMatch()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClientAsTopMatch));
-        txnLog.lineItemsSentToClient()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClient));
-        txnLog.lineItemsMatchedDomainTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incDomainMatched));
-        txnLog.lineItemsMatchedWholeTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatched));
-        txnLog.lineItemsMatchedTargetingFcapped()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapped));
-        txnLog.lineItemsMatchedTargetingFcapLookupFailed()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapLookupFailed));
-        txnLog.lineItemsPacingDeferred()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incPacingDeferred));
-        txnLog.lineItemsSentToBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidder)));
-        txnLog.lineItemsSentToBidderAsTopMatch().values().forEach(bidderList -> bidderList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidderAsTopMatch)));
-        txnLog.lineItemsReceivedFromBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidder)));
-        txnLog.lineItemsResponseInvalidated()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidderInvalidated));
-
-        txnLog.lineItemSentToClientAsTopMatch()
-                .forEach(lineItemId -> incToken(lineItemId, planIdToTokenPriority));
-
-        txnLog.lostMatchingToLineItems().forEach((lineItemId, lostToLineItemsIds) ->
-                updateLostToEachLineItem(lineItemId, lostToLineItemsIds, lineItemIdToLost));
-        txnLog.lostAuctionToLineItems().forEach((lineItemId, lostToLineItemsIds) ->
-                updateLostToEachLineItem(lineItemId, lostToLineItemsIds, lineItemIdToLost));
+        final List<TokenIncrement> tokenIncrements = txnLog.lineItemSentToClientAsTopMatch().stream()
+                .map(lineItemId -> toTokenIncrement(lineItemId, planIdToTokenPriority))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        final Stripe stripe = currentThreadStripe();
+        synchronized (stripe) {
+            stripe.recordTransactionLog(txnLog, tokenIncrements, accountId);
+        }
+    }
+
+    private TokenIncrement toTokenIncrement(String lineItemId, Map<String, Integer> planIdToTokenPriority) {
+        final LineItem lineItem = lineItemService.getLineItemById(lineItemId);
+        final DeliveryPlan lineItemActivePlan = lineItem != null ? lineItem.getActiveDeliveryPlan() : null;
+
+        return lineItemActivePlan != null
+                ? TokenIncrement.of(lineItemId, lineItemActivePlan,
+                planIdToTokenPriority.get(lineItemActivePlan.getPlanId()))
+                : null;
     }
 
     /**
@@ -104,14 +115,44 @@ public class DeliveryProgress {
      * exists.
      */
     public void recordWinEvent(String lineItemId) {
-        final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus);
-        final Event winEvent = lineItemStatus.getEvents().stream()
-                .filter(event -> event.getType().equals(WIN_EVENT_TYPE))
-                .findAny()
-                .orElseGet(() -> Event.of(WIN_EVENT_TYPE, new LongAdder()));
+        final Stripe stripe = currentThreadStripe();
+        synchronized (stripe) {
+            stripe.recordWinEvent(lineItemId);
+        }
+    }
+
+    private Stripe currentThreadStripe() {
+        return stripes[(int) Thread.currentThread().getId() & (STRIPES_NUMBER - 1)];
+    }
+
+    /**
+     * Merges events recorded to stripes since last merge into overall statistics.
+     */
+    private void mergeStripes() {
+        for (final Stripe stripe : stripes) {
+            final Stripe recorded;
+            synchronized (stripe) {
+                recorded = stripe.drain();
+            }
+            if (recorded != null) {
+                merge(recorded);
+            }
+        }
+    }
+
+    private void merge(Stripe recorded) {
+        requests.add(recorded.requests);
+
+        recorded.requestsPerAccount.forEach((accountId, requestsCount) ->
+                accountRequests(accountId).add(requestsCount.longValue()));
+
+        recorded.lineItemStatuses.forEach((lineItemId, lineItemStatus) ->
+                lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus).merge(lineItemStatus));
+
+        recorded.tokenIncrements.forEach((tokenIncrement, count) -> incToken(tokenIncrement, count.longValue()));
 
-        winEvent.getCount().increment();
-        lineItemStatus.getEvents().add(winEvent);
+        recorded.lineItemIdToLost.forEach((lineItemId, currentLineItemLost) ->
+                mergeCurrentLineItemLostReportToOverall(lineItemId, currentLineItemLost, lineItemIdToLost));
     }
 
     private LineItemStatus createLineItemStatus(String lineItemId) {
@@ -125,6 +166,9 @@ public class DeliveryProgress {
      * Updates delivery progress from another {@link DeliveryProgress}.
      */
     public void mergeFrom(DeliveryProgress another) {
+        mergeStripes();
+        another.mergeStripes();
+
         requests.add(another.requests.sum());
 
         another.requestsPerAccount.forEach((accountId, requestsCount) ->
@@ -138,6 +182,8 @@ public class DeliveryProgress {
     }
 
     public void upsertPlanReferenceFromLineItem(LineItem lineItem) {
+        mergeStripes();
+
         final String lineItemId = lineItem.getLineItemId();
         final LineItemStatus existingLineItemStatus = lineItemStatuses.get(lineItemId);
         final DeliveryPlan activeDeliveryPlan = lineItem.getActiveDeliveryPlan();
@@ -154,6 +200,8 @@ public class DeliveryProgress {
      * Updates {@link LineItemStatus} with current {@link DeliveryPlan}.
      */
     public void mergePlanFromLineItem(LineItem lineItem) {
+        mergeStripes();
+
         final LineItemStatus currentLineItemStatus = lineItemStatuses.computeIfAbsent(lineItem.getLineItemId(),
                 this::createLineItemStatus);
         final DeliveryPlan updatedDeliveryPlan = lineItem.getActiveDeliveryPlan();
@@ -177,6 +225,8 @@ public class DeliveryProgress {
      * Remove stale {@link LineItemStatus} from statistic.
      */
     public void cleanLineItemStatuses(ZonedDateTime now, long lineItemStatusTtl, int maxPlanNumberInDeliveryProgress) {
+        mergeStripes();
+
         lineItemStatuses.entrySet().removeIf(entry -> isLineItemStatusExpired(entry.getKey(), now, lineItemStatusTtl));
 
         lineItemStatuses.values().forEach(
@@ -228,23 +278,29 @@ public class DeliveryProgress {
     }
 
     public void updateWithActiveLineItems(Collection<LineItem> lineItems) {
+        mergeStripes();
+
         lineItems.forEach(lineItem -> lineItemStatuses.putIfAbsent(lineItem.getLineItemId(),
                 createLineItemStatus(lineItem.getLineItemId())));
     }
 
     public Map<String, LineItemStatus> getLineItemStatuses() {
+        mergeStripes();
         return lineItemStatuses;
     }
 
     public Map<String, LongAdder> getRequestsPerAccount() {
+        mergeStripes();
         return requestsPerAccount;
     }
 
     public Map<String, Map<String, LostToLineItem>> getLineItemIdToLost() {
+        mergeStripes();
         return lineItemIdToLost;
     }
 
     public LongAdder getRequests() {
+        mergeStripes();
         return requests;
     }
 
@@ -269,54 +325,26 @@ public class DeliveryProgress {
     }
 
     /**
-     * Increments {@link LineItemStatus} metric, creates line item status if does not exist.
+     * Increments tokens in active delivery report.
      */
-    private void increment(String lineItemId, Consumer<LineItemStatus> inc) {
-        inc.accept(lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus));
-    }
-
-    /**
-     * Increment tokens in active delivery report.
-     */
-    private void incToken(String lineItemId, Map<String, Integer> planIdToTokenPriority) {
-        final LineItemStatus lineItemStatus = lineItemStatuses.get(lineItemId);
-        final LineItem lineItem = lineItemService.getLineItemById(lineItemId);
-        final DeliveryPlan lineItemActivePlan = lineItem.getActiveDeliveryPlan();
-        if (lineItemActivePlan != null) {
-            DeliveryPlan reportActivePlan = lineItemStatus.getDeliveryPlans().stream()
-                    .filter(plan -> Objects.equals(plan.getPlanId(), lineItemActivePlan.getPlanId()))
-                    .findFirst()
-                    .orElse(null);
-            if (reportActivePlan == null) {
-                reportActivePlan = lineItemActivePlan.withoutSpentTokens();
-                lineItemStatus.getDeliveryPlans().add(reportActivePlan);
-            }
+    private void incToken(TokenIncrement tokenIncrement, long count) {
+        final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(tokenIncrement.getLineItemId(),
+                this::createLineItemStatus);
+        final DeliveryPlan lineItemActivePlan = tokenIncrement.getActivePlan();
 
-            final Integer tokenPriority = planIdToTokenPriority.get(reportActivePlan.getPlanId());
-            if (tokenPriority != null) {
-                reportActivePlan.incTokenWithPriority(tokenPriority);
-            }
+        DeliveryPlan reportActivePlan = lineItemStatus.getDeliveryPlans().stream()
+                .filter(plan -> Objects.equals(plan.getPlanId(), lineItemActivePlan.getPlanId()))
+                .findFirst()
+                .orElse(null);
+        if (reportActivePlan == null) {
+            reportActivePlan = lineItemActivePlan.withoutSpentTokens();
+            lineItemStatus.getDeliveryPlans().add(reportActivePlan);
         }
-    }
 
-    /**
-     * Updates lostToLineItem metric for line item specified by lineItemId parameter against line item ids from
-     * parameter lostToLineItemIds
-     */
-    private void updateLostToEachLineItem(String lineItemId, Set<String> lostToLineItemsIds,
-                                          Map<String, Map<String, LostToLineItem>> lostToLineItemTimes) {
-        final Map<String, LostToLineItem> lostToLineItemsTimes = lostToLineItemTimes
-                .computeIfAbsent(lineItemId, key -> new ConcurrentHashMap<>());
-        lostToLineItemsIds.forEach(lostToLineItemId -> incLostToLineItemTimes(lostToLineItemId, lostToLineItemsTimes));
-    }
-
-    /**
-     * Updates listToLineItem metric against line item specified in parameter lostToLineItemId
-     */
-    private void incLostToLineItemTimes(String lostToLineItemId, Map<String, LostToLineItem> lostToLineItemsTimes) {
-        final LostToLineItem lostToLineItem = lostToLineItemsTimes.computeIfAbsent(lostToLineItemId,
-                ignored -> LostToLineItem.of(lostToLineItemId, new LongAdder()));
-        lostToLineItem.getCount().increment();
+        final Integer tokenPriority = tokenIncrement.getTokenPriority();
+        if (tokenPriority != null) {
+            reportActivePlan.incTokenWithPriority(tokenPriority, count);
+        }
     }
 
     /**
@@ -346,4 +374,119 @@ public class DeliveryProgress {
         mergeTo.getCount().add(mergeFrom.getCount().sum());
         return mergeTo;
     }
+
+    /**
+     * Spent tokens of line item active plan to be reflected in delivery report.
+     */
+    @Value(staticConstructor = "of")
+    private static class TokenIncrement {
+
+        String lineItemId;
+
+        DeliveryPlan activePlan;
+
+        Integer tokenPriority;
+    }
+
+    /**
+     * Part of delivery statistics recorded since last merge. Guarded by its own monitor, which is contended only
+     * by threads sharing the stripe and by merge.
+     */
+    private static class Stripe {
+
+        private long requests;
+        private Map<String, MutableLong> requestsPerAccount = new HashMap<>();
+        private Map<String, LineItemStatus> lineItemStatuses = new HashMap<>();
+        private Map<String, Map<String, LostToLineItem>> lineItemIdToLost = new HashMap<>();
+        private Map<TokenIncrement, MutableLong> tokenIncrements = new HashMap<>();
+
+        void recordTransactionLog(TxnLog txnLog, List<TokenIncrement> tokenIncrements, String accountId) {
+            requestsPerAccount.computeIfAbsent(accountId, ignored -> new MutableLong()).increment();
+            requests++;
+
+            txnLog.lineItemSentToClientAsTopMatch()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClientAsTopMatch));
+            txnLog.lineItemsSentToClient()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClient));
+            txnLog.lineItemsMatchedDomainTargeting()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incDomainMatched));
+            txnLog.lineItemsMatchedWholeTargeting()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatched));
+            txnLog.lineItemsMatchedTargetingFcapped()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapped));
+            txnLog.lineItemsMatchedTargetingFcapLookupFailed()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapLookupFailed));
+            txnLog.lineItemsPacingDeferred()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incPacingDeferred));
+            txnLog.lineItemsSentToBidder().values().forEach(idList -> idList
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidder)));
+            txnLog.lineItemsSentToBidderAsTopMatch().values().forEach(bidderList -> bidderList
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidderAsTopMatch)));
+            txnLog.lineItemsReceivedFromBidder().values().forEach(idList -> idList
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidder)));
+            txnLog.lineItemsResponseInvalidated()
+                    .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidderInvalidated));
+
+            tokenIncrements.forEach(tokenIncrement ->
+                    this.tokenIncrements.computeIfAbsent(tokenIncrement, ignored -> new MutableLong()).increment());
+
+            txnLog.lostMatchingToLineItems().forEach(this::updateLostToEachLineItem);
+            txnLog.lostAuctionToLineItems().forEach(this::updateLostToEachLineItem);
+        }
+
+        void recordWinEvent(String lineItemId) {
+            final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId, LineItemStatus::of);
+            final Event winEvent = lineItemStatus.getEvents().stream()
+                    .filter(event -> event.getType().equals(WIN_EVENT_TYPE))
+                    .findAny()
+                    .orElseGet(() -> Event.of(WIN_EVENT_TYPE, new LongAdder()));
+
+            winEvent.getCount().increment();
+            lineItemStatus.getEvents().add(winEvent);
+        }
+
+        /**
+         * Returns recorded statistics and resets this stripe, or null if nothing was recorded.
+         */
+        Stripe drain() {
+            if (requests == 0 && lineItemStatuses.isEmpty() && lineItemIdToLost.isEmpty()) {
+                return null;
+            }
+
+            final Stripe recorded = new Stripe();
+            recorded.requests = requests;
+            recorded.requestsPerAccount = requestsPerAccount;
+            recorded.lineItemStatuses = lineItemStatuses;
+            recorded.lineItemIdToLost = lineItemIdToLost;
+            recorded.tokenIncrements = tokenIncrements;
+
+            requests = 0;
+            requestsPerAccount = new HashMap<>();
+            lineItemStatuses = new HashMap<>();
+            lineItemIdToLost = new HashMap<>();
+            tokenIncrements = new HashMap<>();
+
+            return recorded;
+        }
+
+        /**
+         * Increments {@link LineItemStatus} metric, creates line item status if does not exist.
+         */
+        private void increment(String lineItemId, Consumer<LineItemStatus> inc) {
+            inc.accept(lineItemStatuses.computeIfAbsent(lineItemId, LineItemStatus::of));
+        }
+
+        /**
+         * Updates lostToLineItem metric for line item specified by lineItemId parameter against line item ids from
+         * parameter lostToLineItemIds
+         */
+        private void updateLostToEachLineItem(String lineItemId, Set<String> lostToLineItemsIds) {
+            final Map<String, LostToLineItem> lostToLineItemsTimes = lineItemIdToLost
+                    .computeIfAbsent(lineItemId, key -> new HashMap<>());
+            lostToLineItemsIds.forEach(lostToLineItemId -> lostToLineItemsTimes
+                    .computeIfAbsent(lostToLineItemId, ignored -> LostToLineItem.of(lostToLineItemId, new LongAdder()))
+                    .getCount()
+                    .increment());
+        }
+    }
 }
@@ -37,6 +37,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,12 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Provides attributes of the OpenRTB2 request and particular {@link Imp} for targeting evaluation.
+ * <p>
+ * Looked up values are remembered per targeting category, so the same context is expected to be shared
+ * by all line items evaluated against the {@link Imp} to extract each attribute only once.
+ */
 public class RequestContext {
 
     private final BidRequest bidRequest;
@@ -60,6 +67,13 @@ public class RequestContext {
     private final AttributeReader<Imp> impContextDataAttributeReader = AttributeReader.forImpContextData();
     private final AttributeReader<Imp> impBidderAttributeReader = AttributeReader.forImpBidder();
 
+    private final Map<TargetingCategory, String> stringValues = new HashMap<>();
+    private final Map<TargetingCategory, Integer> integerValues = new HashMap<>();
+    private final Map<TargetingCategory, List<String>> stringsValues = new HashMap<>();
+    private final Map<TargetingCategory, List<Integer>> integersValues = new HashMap<>();
+    private final Map<TargetingCategory, List<Size>> sizesValues = new HashMap<>();
+    private final Map<TargetingCategory, GeoLocation> geoLocationValues = new HashMap<>();
+
     public RequestContext(BidRequest bidRequest, Imp imp, TxnLog txnLog, JacksonMapper mapper) {
         this.bidRequest = Objects.requireNonNull(bidRequest);
         this.imp = Objects.requireNonNull(imp);
@@ -77,6 +91,10 @@ public class RequestContext {
     }
 
     public String lookupString(TargetingCategory category) {
+        return lookup(stringValues, category, this::readString);
+    }
+
+    private String readString(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         switch (type) {
             case domain:
@@ -113,6 +131,10 @@ public class RequestContext {
     }
 
     public Integer lookupInteger(TargetingCategory category) {
+        return lookup(integerValues, category, this::readInteger);
+    }
+
+    private Integer readInteger(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         switch (type) {
             case pagePosition:
@@ -135,6 +157,10 @@ public class RequestContext {
     }
 
     public List<String> lookupStrings(TargetingCategory category) {
+        return lookup(stringsValues, category, this::readStrings);
+    }
+
+    private List<String> readStrings(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         switch (type) {
             case mediaType:
@@ -156,6 +182,10 @@ public class RequestContext {
     }
 
     public List<Integer> lookupIntegers(TargetingCategory category) {
+        return lookup(integersValues, category, this::readIntegers);
+    }
+
+    private List<Integer> readIntegers(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         switch (type) {
             case bidderParam:
@@ -173,6 +203,10 @@ public class RequestContext {
     }
 
     public List<Size> lookupSizes(TargetingCategory category) {
+        return lookup(sizesValues, category, this::readSizes);
+    }
+
+    private List<Size> readSizes(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         if (type != TargetingCategory.Type.size) {
             throw new TargetingSyntaxException(
@@ -186,6 +220,10 @@ public class RequestContext {
     }
 
     public GeoLocation lookupGeoLocation(TargetingCategory category) {
+        return lookup(geoLocationValues, category, this::readGeoLocation);
+    }
+
+    private GeoLocation readGeoLocation(TargetingCategory category) {
         final TargetingCategory.Type type = category.type();
         if (type != TargetingCategory.Type.location) {
             throw new TargetingSyntaxException(
@@ -203,6 +241,20 @@ public class RequestContext {
         return txnLog;
     }
 
+    private static <T> T lookup(Map<TargetingCategory, T> values,
+                                TargetingCategory category,
+                                Function<TargetingCategory, T> reader) {
+
+        // looked up value could be null, so it is not possible to rely on Map.computeIfAbsent here
+        if (values.containsKey(category)) {
+            return values.get(category);
+        }
+
+        final T value = reader.apply(category);
+        values.put(category, value);
+        return value;
+    }
+
     private String getFirstNonNullStringFromImpExt(String... path) {
         return Arrays.stream(path).map(this::getStringFromImpExt).filter(Objects::nonNull).findFirst().orElse(null);
     }
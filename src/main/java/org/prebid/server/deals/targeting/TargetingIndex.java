@@ -0,0 +1,259 @@
+package org.prebid.server.deals.targeting;
+
+import lombok.Value;
+import org.apache.commons.collections4.ListUtils;
+import org.prebid.server.deals.targeting.interpret.And;
+import org.prebid.server.deals.targeting.interpret.DomainMetricAwareExpression;
+import org.prebid.server.deals.targeting.interpret.Expression;
+import org.prebid.server.deals.targeting.interpret.InStrings;
+import org.prebid.server.deals.targeting.interpret.IntersectsSizes;
+import org.prebid.server.deals.targeting.interpret.IntersectsStrings;
+import org.prebid.server.deals.targeting.interpret.Or;
+import org.prebid.server.deals.targeting.interpret.TerminalExpression;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index of Line Items targeting definitions, which allows to skip evaluation of targeting
+ * for Line Items that could not match particular Imp.
+ * <p>
+ * Top-level conditions of targeting definition restricting request attribute to the set of values
+ * (size, media type, user segments, domain, device ext, etc.) are indexed by these values. Line Item is a candidate
+ * for the Imp only if each of its indexed conditions has at least one value found in the Imp and the request.
+ * Other conditions are not indexed, so candidates are still evaluated against the whole targeting definition.
+ * <p>
+ * Conditions are indexed in the order of their evaluation until the first one that could record
+ * domain matching to the transaction log, so skipped Line Items leave exactly the same trace as evaluated ones.
+ */
+public class TargetingIndex {
+
+    private static final TargetingIndex EMPTY = new TargetingIndex(Collections.emptyMap(), Collections.emptyList());
+
+    private final Map<String, TargetingDefinition> indexedDefinitions;
+    private final List<Dimension> dimensions;
+
+    private TargetingIndex(Map<String, TargetingDefinition> indexedDefinitions, List<Dimension> dimensions) {
+        this.indexedDefinitions = indexedDefinitions;
+        this.dimensions = dimensions;
+    }
+
+    public static TargetingIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds index of the given targeting definitions by Line Item id.
+     */
+    public static TargetingIndex build(Map<String, TargetingDefinition> lineItemIdToTargeting) {
+        final Map<String, TargetingDefinition> indexedDefinitions = new HashMap<>();
+        final Map<List<Attribute>, Dimension> dimensions = new HashMap<>();
+
+        lineItemIdToTargeting.forEach((lineItemId, targetingDefinition) -> {
+            if (targetingDefinition != null
+                    && index(lineItemId, targetingDefinition.getRootExpression(), dimensions)) {
+                indexedDefinitions.put(lineItemId, targetingDefinition);
+            }
+        });
+
+        return indexedDefinitions.isEmpty()
+                ? EMPTY
+                : new TargetingIndex(indexedDefinitions, new ArrayList<>(dimensions.values()));
+    }
+
+    /**
+     * Returns {@link Candidates} for the Imp and the request of the given {@link RequestContext}.
+     */
+    public Candidates candidates(RequestContext context) {
+        return new Candidates(context);
+    }
+
+    private static boolean index(String lineItemId, Expression rootExpression, Map<List<Attribute>, Dimension> dims) {
+        final List<Expression> conditions = rootExpression instanceof And
+                ? ((And) rootExpression).getExpressions()
+                : Collections.singletonList(rootExpression);
+
+        boolean indexed = false;
+        for (final Expression condition : conditions) {
+            final List<TerminalExpression> alternatives = indexableAlternatives(condition);
+            if (alternatives != null) {
+                final List<Attribute> attributes = alternatives.stream()
+                        .map(Attribute::from)
+                        .collect(Collectors.toList());
+                final Dimension dimension = dims.computeIfAbsent(attributes, Dimension::new);
+
+                // the same attributes restricted twice are not indexed again to keep the index simple
+                if (!dimension.isRestricted(lineItemId)) {
+                    dimension.add(lineItemId, alternatives);
+                    indexed = true;
+                }
+            }
+
+            // evaluation of non-terminal expressions could record domain matching to transaction log
+            if (!(condition instanceof TerminalExpression)) {
+                break;
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Returns list of expressions matched if any of them is matched, or null if expression could not be indexed.
+     */
+    private static List<TerminalExpression> indexableAlternatives(Expression expression) {
+        if (expression instanceof InStrings
+                || expression instanceof IntersectsStrings
+                || expression instanceof IntersectsSizes) {
+            return Collections.singletonList((TerminalExpression) expression);
+        } else if (expression instanceof DomainMetricAwareExpression) {
+            return indexableAlternatives(((DomainMetricAwareExpression) expression).getDomainFunction());
+        } else if (expression instanceof Or) {
+            final List<TerminalExpression> alternatives = new ArrayList<>();
+            for (final Expression orExpression : ((Or) expression).getExpressions()) {
+                final List<TerminalExpression> orAlternatives = indexableAlternatives(orExpression);
+                if (orAlternatives == null) {
+                    return null;
+                }
+                alternatives.addAll(orAlternatives);
+            }
+            return alternatives.isEmpty() ? null : alternatives;
+        }
+        return null;
+    }
+
+    /**
+     * Line Items which could match particular Imp according to the index.
+     */
+    public class Candidates {
+
+        private final List<List<Set<String>>> dimensionsPostings;
+
+        private Candidates(RequestContext context) {
+            dimensionsPostings = dimensions.stream()
+                    .map(dimension -> dimension.postings(context))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns false if Line Item with the given targeting definition could not match the Imp for sure,
+         * so its targeting evaluation can be skipped.
+         */
+        public boolean mayMatch(String lineItemId, TargetingDefinition targetingDefinition) {
+            // Line Item is evaluated as usual if it was not indexed or was updated after index was built
+            if (indexedDefinitions.get(lineItemId) != targetingDefinition) {
+                return true;
+            }
+
+            for (int i = 0; i < dimensions.size(); i++) {
+                if (dimensions.get(i).isRestricted(lineItemId)
+                        && dimensionsPostings.get(i).stream().noneMatch(postings -> postings.contains(lineItemId))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Indexed attributes, which are matched if any of them has one of the values of Line Item.
+     */
+    private static class Dimension {
+
+        private final List<Attribute> attributes;
+        private final List<Map<Object, Set<String>>> attributesPostings;
+        private final Set<String> restrictedLineItemIds;
+
+        Dimension(List<Attribute> attributes) {
+            this.attributes = attributes;
+            attributesPostings = attributes.stream()
+                    .map(attribute -> new HashMap<Object, Set<String>>())
+                    .collect(Collectors.toList());
+            restrictedLineItemIds = new HashSet<>();
+        }
+
+        boolean isRestricted(String lineItemId) {
+            return restrictedLineItemIds.contains(lineItemId);
+        }
+
+        void add(String lineItemId, List<TerminalExpression> alternatives) {
+            for (int i = 0; i < alternatives.size(); i++) {
+                final Map<Object, Set<String>> postings = attributesPostings.get(i);
+                for (final Object value : values(alternatives.get(i))) {
+                    postings.computeIfAbsent(value, key -> new HashSet<>()).add(lineItemId);
+                }
+            }
+            restrictedLineItemIds.add(lineItemId);
+        }
+
+        /**
+         * Returns ids of Line Items having values of these attributes in the given {@link RequestContext}.
+         */
+        List<Set<String>> postings(RequestContext context) {
+            final List<Set<String>> result = new ArrayList<>();
+            for (int i = 0; i < attributes.size(); i++) {
+                final Map<Object, Set<String>> postings = attributesPostings.get(i);
+                for (final Object value : attributes.get(i).lookupValues(context)) {
+                    final Set<String> lineItemIds = postings.get(value);
+                    if (lineItemIds != null) {
+                        result.add(lineItemIds);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static Collection<?> values(TerminalExpression expression) {
+            if (expression instanceof InStrings) {
+                return ((InStrings) expression).getValues();
+            } else if (expression instanceof IntersectsStrings) {
+                return ((IntersectsStrings) expression).getValues();
+            } else {
+                return ((IntersectsSizes) expression).getValues();
+            }
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Attribute {
+
+        Class<? extends TerminalExpression> type;
+
+        TargetingCategory category;
+
+        static Attribute from(TerminalExpression expression) {
+            if (expression instanceof InStrings) {
+                return of(InStrings.class, ((InStrings) expression).getCategory());
+            } else if (expression instanceof IntersectsStrings) {
+                return of(IntersectsStrings.class, ((IntersectsStrings) expression).getCategory());
+            } else {
+                return of(IntersectsSizes.class, ((IntersectsSizes) expression).getCategory());
+            }
+        }
+
+        /**
+         * Looks up attribute values the same way as corresponding expression does.
+         */
+        Collection<?> lookupValues(RequestContext context) {
+            if (type == InStrings.class) {
+                final String value = context.lookupString(category);
+                return value != null ? Collections.singleton(value.toLowerCase()) : Collections.emptySet();
+            } else if (type == IntersectsStrings.class) {
+                return ListUtils.emptyIfNull(context.lookupStrings(category)).stream()
+                        .filter(Objects::nonNull)
+                        .map(String::toLowerCase)
+                        .collect(Collectors.toList());
+            } else {
+                return ListUtils.emptyIfNull(context.lookupSizes(category));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.deals.targeting.interpret;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import org.prebid.server.deals.targeting.RequestContext;
 
 import java.util.Collections;
@@ -9,6 +10,7 @@ import java.util.List;
 @EqualsAndHashCode
 public class And implements NonTerminalExpression {
 
+    @Getter
     private final List<Expression> expressions;
 
     public And(List<Expression> expressions) {
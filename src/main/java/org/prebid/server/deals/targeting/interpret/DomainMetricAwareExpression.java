@@ -1,11 +1,13 @@
 package org.prebid.server.deals.targeting.interpret;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import org.prebid.server.deals.targeting.RequestContext;
 
 @EqualsAndHashCode
 public class DomainMetricAwareExpression implements Expression {
 
+    @Getter
     private final Expression domainFunction;
     private final String lineItemId;
 
@@ -1,28 +1,37 @@
 package org.prebid.server.deals.targeting.interpret;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @EqualsAndHashCode
 public abstract class Intersects<T> implements TerminalExpression {
 
+    @Getter
     protected final TargetingCategory category;
 
+    @Getter
     protected List<T> values;
 
+    @EqualsAndHashCode.Exclude
+    private final Set<T> valuesSet;
+
     public Intersects(TargetingCategory category, List<T> values) {
         this.category = Objects.requireNonNull(category);
         this.values = Collections.unmodifiableList(values);
+        this.valuesSet = new HashSet<>(values);
     }
 
     @Override
     public boolean matches(RequestContext context) {
-        return !Collections.disjoint(values, lookupActualValues(context));
+        return !Collections.disjoint(valuesSet, lookupActualValues(context));
     }
 
     protected abstract List<T> lookupActualValues(RequestContext context);
@@ -1,5 +1,7 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
@@ -10,6 +12,10 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
@@ -18,23 +24,69 @@ import org.prebid.server.execution.RemoteFileProcessor;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet4Address;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Implementation of the {@link GeoLocationService}
  * backed by <a href="https://dev.maxmind.com/geoip/geoip2/geolite2/">MaxMind free database</a>
+ * <p>
+ * In memory-mapped mode the database file is extracted from archive next to it and mapped off-heap
+ * instead of being loaded into heap.
+ * <p>
+ * Resolved {@link GeoInfo} can be cached per IPv4 /24 or IPv6 /48 network,
+ * so subsequent lookups of addresses from the same network don't walk the database tree.
+ * Cached geo info is an approximation: MaxMind networks can be smaller than cached one, so other addresses
+ * of the network get city, region and location of the first looked up address. Cache is disabled by default.
+ * <p>
+ * Each database version gets its own cache, they are swapped together, so geo info resolved by previous version
+ * is never cached for the new one. Previous database reader is closed after a grace period, so lookups still
+ * using it can complete.
  */
 public class MaxMindGeoLocationService implements GeoLocationService, RemoteFileProcessor {
 
+    private static final Logger logger = LoggerFactory.getLogger(MaxMindGeoLocationService.class);
+
     private static final String VENDOR = "maxmind";
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private static final int IPV4_PREFIX_BYTES = 3;
+    private static final int IPV6_PREFIX_BYTES = 6;
+    private static final long IPV4_PREFIX_MARKER = 1L << 62;
+
+    private static final long READER_CLOSE_DELAY_MS = 10_000L;
+
+    private final boolean memoryMapped;
+    private final long cacheMaxSize;
+    private final Vertx vertx;
+
+    private volatile Database database;
+
+    public MaxMindGeoLocationService(Vertx vertx) {
+        this(false, 0, vertx);
+    }
+
+    public MaxMindGeoLocationService(boolean memoryMapped, long cacheMaxSize, Vertx vertx) {
+        if (cacheMaxSize < 0) {
+            throw new IllegalArgumentException("Geo location cache max size must be non negative");
+        }
+
+        this.memoryMapped = memoryMapped;
+        this.cacheMaxSize = cacheMaxSize;
+        this.vertx = Objects.requireNonNull(vertx);
+    }
 
     public Future<?> setDataPath(String dataFilePath) {
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
@@ -53,7 +105,10 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                         dataFilePath));
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
+            useDatabaseReader(memoryMapped
+                    ? new DatabaseReader.Builder(extractDatabaseFile(tarInput, dataFilePath))
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED).build()
+                    : new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build());
             return Future.succeededFuture();
         } catch (IOException e) {
             return Future.failedFuture(
@@ -61,32 +116,109 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         }
     }
 
+    /**
+     * Replaces database reader together with geo info cache and closes previous reader after a grace period.
+     */
+    void useDatabaseReader(DatabaseReader databaseReader) {
+        final Cache<Long, GeoInfo> geoInfoCache = cacheMaxSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheMaxSize).build()
+                : null;
+
+        final Database previousDatabase = database;
+        database = Database.of(databaseReader, geoInfoCache);
+
+        if (previousDatabase != null) {
+            vertx.setTimer(READER_CLOSE_DELAY_MS, ignored -> closeDatabaseReader(previousDatabase.getReader()));
+        }
+    }
+
+    private static void closeDatabaseReader(DatabaseReader databaseReader) {
+        try {
+            databaseReader.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close previous geo location database reader", e);
+        }
+    }
+
+    /**
+     * Copies database file from archive to the same directory where archive is.
+     * <p>
+     * File is written under temporary name and then renamed, so memory mapping of the previous database version
+     * stays valid while it is in use.
+     */
+    private static File extractDatabaseFile(InputStream databaseInput, String dataFilePath) throws IOException {
+        final Path databasePath = Paths.get(dataFilePath).toAbsolutePath().resolveSibling(DATABASE_FILE_NAME);
+        final Path tmpDatabasePath = databasePath.resolveSibling(DATABASE_FILE_NAME + ".tmp");
+
+        Files.copy(databaseInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(tmpDatabasePath, databasePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        return databasePath.toFile();
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
-        if (databaseReader == null) {
+        final Database currentDatabase = database;
+        if (currentDatabase == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
+        final DatabaseReader reader = currentDatabase.getReader();
+        final Cache<Long, GeoInfo> geoInfoCache = currentDatabase.getGeoInfoCache();
         try {
             final InetAddress inetAddress = InetAddress.getByName(ip);
-            final CityResponse cityResponse = databaseReader.city(inetAddress);
-            final Location location = cityResponse != null ? cityResponse.getLocation() : null;
-
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(resolveContinent(cityResponse))
-                    .country(resolveCountry(cityResponse))
-                    .region(resolveRegion(cityResponse))
-                    // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(resolveCity(cityResponse))
-                    .lat(resolveLatitude(location))
-                    .lon(resolveLongitude(location))
-                    .build());
+            if (geoInfoCache == null) {
+                return Future.succeededFuture(resolveGeoInfo(reader, inetAddress));
+            }
+
+            final Long networkKey = networkKey(inetAddress);
+            final GeoInfo cachedGeoInfo = geoInfoCache.getIfPresent(networkKey);
+            if (cachedGeoInfo != null) {
+                return Future.succeededFuture(cachedGeoInfo);
+            }
+
+            final GeoInfo geoInfo = resolveGeoInfo(reader, inetAddress);
+            geoInfoCache.put(networkKey, geoInfo);
+            return Future.succeededFuture(geoInfo);
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
+    /**
+     * Packs IPv4 /24 or IPv6 /48 network of the given address into single number.
+     */
+    private static Long networkKey(InetAddress inetAddress) {
+        final byte[] address = inetAddress.getAddress();
+        final boolean ipv4 = inetAddress instanceof Inet4Address;
+
+        long key = ipv4 ? IPV4_PREFIX_MARKER : 0L;
+        final int prefixBytes = ipv4 ? IPV4_PREFIX_BYTES : IPV6_PREFIX_BYTES;
+        for (int i = 0; i < prefixBytes; i++) {
+            key |= (address[i] & 0xFFL) << (8 * (prefixBytes - 1 - i));
+        }
+        return key;
+    }
+
+    private static GeoInfo resolveGeoInfo(DatabaseReader reader, InetAddress inetAddress)
+            throws IOException, GeoIp2Exception {
+
+        final CityResponse cityResponse = reader.city(inetAddress);
+        final Location location = cityResponse != null ? cityResponse.getLocation() : null;
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(resolveContinent(cityResponse))
+                .country(resolveCountry(cityResponse))
+                .region(resolveRegion(cityResponse))
+                // metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(resolveCity(cityResponse))
+                .lat(resolveLatitude(location))
+                .lon(resolveLongitude(location))
+                .build();
+    }
+
     private static String resolveContinent(CityResponse cityResponse) {
         final Continent continent = cityResponse != null ? cityResponse.getContinent() : null;
         final String code = continent != null ? continent.getCode() : null;
@@ -119,4 +251,12 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
         final Double longitude = location != null ? location.getLongitude() : null;
         return longitude != null ? longitude.floatValue() : null;
     }
+
+    @Value(staticConstructor = "of")
+    private static class Database {
+
+        DatabaseReader reader;
+
+        Cache<Long, GeoInfo> geoInfoCache;
+    }
 }
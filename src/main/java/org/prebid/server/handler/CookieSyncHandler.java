@@ -20,6 +20,7 @@ import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.auction.model.CookieSyncContext;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.UsersyncInfoAssembler;
+import org.prebid.server.bidder.UsersyncInfoTemplate;
 import org.prebid.server.bidder.UsersyncMethodChooser;
 import org.prebid.server.bidder.UsersyncUtil;
 import org.prebid.server.bidder.Usersyncer;
@@ -56,6 +57,7 @@ import org.prebid.server.util.HttpUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +84,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
     private final ApplicationSettings applicationSettings;
     private final BidderCatalog bidderCatalog;
     private final Set<String> activeBidders;
+    private final Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> usersyncInfoTemplates;
     private final TcfDefinerService tcfDefinerService;
     private final PrivacyEnforcementService privacyEnforcementService;
     private final Integer gdprHostVendorId;
@@ -114,6 +117,7 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.activeBidders = activeBidders(bidderCatalog);
+        this.usersyncInfoTemplates = usersyncInfoTemplates(bidderCatalog, activeBidders);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
         this.gdprHostVendorId = validateHostVendorId(gdprHostVendorId);
@@ -132,6 +136,31 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         return bidderCatalog.names().stream().filter(bidderCatalog::isActive).collect(Collectors.toSet());
     }
 
+    /**
+     * Compiles usersync urls of active bidders once, so each request only places privacy values into them.
+     */
+    private static Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> usersyncInfoTemplates(
+            BidderCatalog bidderCatalog, Set<String> activeBidders) {
+
+        final Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> templates = new HashMap<>();
+        for (String bidder : activeBidders) {
+            final Usersyncer usersyncer = bidderCatalog.usersyncerByName(bidder);
+            if (usersyncer != null) {
+                addUsersyncInfoTemplate(templates, usersyncer.getPrimaryMethod());
+                addUsersyncInfoTemplate(templates, usersyncer.getSecondaryMethod());
+            }
+        }
+        return templates;
+    }
+
+    private static void addUsersyncInfoTemplate(Map<Usersyncer.UsersyncMethod, UsersyncInfoTemplate> templates,
+                                                Usersyncer.UsersyncMethod usersyncMethod) {
+
+        if (usersyncMethod != null && StringUtils.isNotBlank(usersyncMethod.getUsersyncUrl())) {
+            templates.computeIfAbsent(usersyncMethod, UsersyncInfoTemplate::of);
+        }
+    }
+
     private static Integer validateHostVendorId(Integer gdprHostVendorId) {
         if (gdprHostVendorId == null) {
             logger.warn("gdpr.host-vendor-id not specified. Will skip host company GDPR checks");
@@ -437,8 +466,10 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
         updateCookieSyncTcfMetrics(bidders, rejectedBidders.getRejectedByTcf());
 
         final UidsCookie uidsCookie = cookieSyncContext.getUidsCookie();
+        final UsersyncInfoTemplate.PrivacyParams privacyParams =
+                UsersyncInfoTemplate.PrivacyParams.of(cookieSyncContext.getPrivacyContext().getPrivacy());
         final List<BidderUsersyncStatus> bidderStatuses = bidders.stream()
-                .map(bidder -> bidderStatusFor(bidder, cookieSyncContext, rejectedBidders))
+                .map(bidder -> bidderStatusFor(bidder, cookieSyncContext, rejectedBidders, privacyParams))
                 .filter(Objects::nonNull) // skip bidder with live UID
                 .collect(Collectors.toList());
 
@@ -482,7 +513,8 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
      */
     private BidderUsersyncStatus bidderStatusFor(String bidder,
                                                  CookieSyncContext cookieSyncContext,
-                                                 RejectedBidders rejectedBidders) {
+                                                 RejectedBidders rejectedBidders,
+                                                 UsersyncInfoTemplate.PrivacyParams privacyParams) {
 
         final Set<String> biddersRejectedByTcf = rejectedBidders.getRejectedByTcf();
         final Set<String> biddersRejectedByCcpa = rejectedBidders.getRejectedByCcpa();
@@ -524,11 +556,9 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
             return null;
         }
 
-        final Privacy privacy = cookieSyncContext.getPrivacyContext().getPrivacy();
-
         return bidderStatusBuilder(bidder)
                 .noCookie(true)
-                .usersync(toUsersyncInfo(usersyncMethod, cookieFamilyName, uidFromHostCookieToSet, privacy))
+                .usersync(toUsersyncInfo(usersyncMethod, cookieFamilyName, uidFromHostCookieToSet, privacyParams))
                 .build();
     }
 
@@ -574,15 +604,17 @@ public class CookieSyncHandler implements Handler<RoutingContext> {
     private UsersyncInfo toUsersyncInfo(Usersyncer.UsersyncMethod usersyncMethod,
                                         String cookieFamilyName,
                                         String uidFromHostCookieToSet,
-                                        Privacy privacy) {
+                                        UsersyncInfoTemplate.PrivacyParams privacyParams) {
 
-        final UsersyncInfoAssembler usersyncInfoAssembler = UsersyncInfoAssembler.from(usersyncMethod);
+        if (uidFromHostCookieToSet == null) {
+            final UsersyncInfoTemplate usersyncInfoTemplate = usersyncInfoTemplates.get(usersyncMethod);
+            return (usersyncInfoTemplate != null ? usersyncInfoTemplate : UsersyncInfoTemplate.of(usersyncMethod))
+                    .assemble(privacyParams);
+        }
 
-        return (uidFromHostCookieToSet == null
-                ? usersyncInfoAssembler
-                : usersyncInfoAssembler
-                .withUrl(toHostBidderUsersyncUrl(cookieFamilyName, usersyncMethod, uidFromHostCookieToSet)))
-                .withPrivacy(privacy)
+        return UsersyncInfoAssembler.from(usersyncMethod)
+                .withUrl(toHostBidderUsersyncUrl(cookieFamilyName, usersyncMethod, uidFromHostCookieToSet))
+                .withPrivacy(privacyParams.getPrivacy())
                 .assemble();
     }
 
@@ -0,0 +1,74 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.metric.PrometheusMetricsWriter;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Exposes metrics in Prometheus text format.
+ * <p>
+ * Response is streamed in chunks, writing is suspended while write queue of the response is full.
+ */
+public class PrometheusMetricsHandler implements Handler<RoutingContext> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusMetricsHandler.class);
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final PrometheusMetricsWriter metricsWriter;
+    private final String endpoint;
+
+    public PrometheusMetricsHandler(PrometheusMetricsWriter metricsWriter, String endpoint) {
+        this.metricsWriter = Objects.requireNonNull(metricsWriter);
+        this.endpoint = Objects.requireNonNull(endpoint);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        HttpUtil.executeSafely(routingContext, endpoint,
+                response -> writeChunks(response
+                                .setChunked(true)
+                                .putHeader(HttpUtil.CONTENT_TYPE_HEADER, PROMETHEUS_CONTENT_TYPE),
+                        metricsWriter.families()));
+    }
+
+    private void writeChunks(HttpServerResponse response, Iterator<Buffer> families) {
+        try {
+            Buffer chunk = Buffer.buffer(CHUNK_SIZE);
+            while (families.hasNext()) {
+                if (response.closed()) {
+                    return;
+                }
+
+                chunk.appendBuffer(families.next());
+                if (chunk.length() >= CHUNK_SIZE) {
+                    response.write(chunk);
+                    chunk = Buffer.buffer(CHUNK_SIZE);
+
+                    if (response.writeQueueFull()) {
+                        response.drainHandler(ignored -> writeChunks(response, families));
+                        return;
+                    }
+                }
+            }
+
+            if (!response.closed()) {
+                response.end(chunk);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to send {0} response: {1}", endpoint, e.getMessage());
+            if (!response.closed()) {
+                response.close();
+            }
+        }
+    }
+}
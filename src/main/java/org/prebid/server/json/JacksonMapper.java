@@ -10,23 +10,57 @@ import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
     private final ObjectMapper mapper;
+    private final ObjectMapper bidderRequestMapper;
+    private final ThreadLocal<Boolean> bidderRequestEncoding;
 
     public JacksonMapper(ObjectMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * Creates mapper which encodes with dedicated bidder request mapper (e.g. one with
+     * {@link SharedSerializationModule} registered) only within {@link #encodeBidderRequests(Supplier)}.
+     */
+    public JacksonMapper(ObjectMapper mapper, ObjectMapper bidderRequestMapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.bidderRequestMapper = bidderRequestMapper;
+        this.bidderRequestEncoding = bidderRequestMapper != null ? ThreadLocal.withInitial(() -> false) : null;
     }
 
     public ObjectMapper mapper() {
         return mapper;
     }
 
+    /**
+     * Runs bidder making its HTTP requests, so that everything it encodes is encoded by bidder request mapper if
+     * one is configured. Bidder request passed to the bidder must be final by this moment.
+     */
+    public <T> T encodeBidderRequests(Supplier<T> bidderRequestsSupplier) {
+        if (bidderRequestEncoding == null || bidderRequestEncoding.get()) {
+            return bidderRequestsSupplier.get();
+        }
+
+        bidderRequestEncoding.set(true);
+        try {
+            return bidderRequestsSupplier.get();
+        } finally {
+            bidderRequestEncoding.set(false);
+        }
+    }
+
+    private ObjectMapper encodingMapper() {
+        return bidderRequestEncoding != null && bidderRequestEncoding.get() ? bidderRequestMapper : mapper;
+    }
+
     public <T> String encodeToString(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsString(obj);
+            return encodingMapper().writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
         }
@@ -34,7 +68,7 @@ public class JacksonMapper {
 
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsBytes(obj);
+            return encodingMapper().writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
@@ -2,12 +2,14 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.github.fge.jsonpatch.JsonPatchException;
-import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.InvalidRequestException;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 
 public class JsonMerger {
@@ -24,7 +26,6 @@ public class JsonMerger {
      * with reason message.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
-        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode storedRequestJsonNode;
         try {
             storedRequestJsonNode = mapper.mapper().readTree(storedData);
@@ -32,14 +33,20 @@ public class JsonMerger {
             throw new InvalidRequestException(
                     String.format("Can't parse Json for stored request with id %s", id));
         }
+        return merge(originalObject, storedRequestJsonNode, id, classToCast);
+    }
+
+    /**
+     * Merges passed object with already parsed stored data and cast it to appropriate class.
+     * Stored data node is not modified, so the same node can be shared between requests.
+     * In case of any exception during merging, throws {@link InvalidRequestException} with reason message.
+     */
+    public <T> T merge(T originalObject, JsonNode storedData, String id, Class<T> classToCast) {
+        final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         try {
             // Http request fields have higher priority and will override fields from stored requests
             // in case they have different values
-            return mapper.mapper().treeToValue(JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode),
-                    classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(String.format(
-                    "Couldn't create merge patch from origin object node for id %s: %s", id, e.getMessage()));
+            return mapper.mapper().treeToValue(mergePatch(originJsonNode, storedData, false), classToCast);
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     String.format("Can't convert merging result for id %s: %s", id, e.getMessage()));
@@ -54,11 +61,8 @@ public class JsonMerger {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
         final JsonNode mergingObjectJsonNode = mapper.mapper().valueToTree(mergingObject);
         try {
-            final JsonNode mergedNode = JsonMergePatch.fromJson(originJsonNode).apply(mergingObjectJsonNode);
+            final JsonNode mergedNode = mergePatch(originJsonNode, mergingObjectJsonNode, false);
             return mapper.mapper().treeToValue(mergedNode, classToCast);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException(String.format(
-                    "Couldn't create merge patch for objects with class %s", classToCast.getName()));
         } catch (JsonProcessingException e) {
             throw new InvalidRequestException(
                     String.format("Can't convert merging result class %s", classToCast.getName()));
@@ -71,10 +75,53 @@ public class JsonMerger {
      * fromNode object fields has priority over the toNode
      */
     public JsonNode merge(JsonNode fromNode, JsonNode toNode) {
-        try {
-            return JsonMergePatch.fromJson(fromNode).apply(toNode);
-        } catch (JsonPatchException e) {
-            throw new InvalidRequestException("Couldn't create merge patch for json nodes");
+        return mergePatch(fromNode, toNode, true);
+    }
+
+    /**
+     * Applies JSON merge patch (RFC 7386) to the target node without modifying any of them.
+     * <p>
+     * Result is built in a single pass over both trees. Unless copying is requested, result shares unchanged
+     * subtrees with the given nodes, so it is only suitable for reading, e.g. converting to an object.
+     */
+    private static JsonNode mergePatch(JsonNode patch, JsonNode target, boolean copy) {
+        if (patch == null || patch.isMissingNode()) {
+            return copyIfNeeded(target, copy);
+        }
+        if (!patch.isObject()) {
+            return copyIfNeeded(patch, copy);
+        }
+
+        final ObjectNode result = JsonNodeFactory.instance.objectNode();
+        final boolean targetIsObject = target != null && target.isObject();
+        if (targetIsObject) {
+            final Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+            while (targetFields.hasNext()) {
+                final Map.Entry<String, JsonNode> targetField = targetFields.next();
+                final String name = targetField.getKey();
+                final JsonNode patchValue = patch.get(name);
+                if (patchValue == null) {
+                    result.set(name, copyIfNeeded(targetField.getValue(), copy));
+                } else if (!patchValue.isNull()) {
+                    result.set(name, mergePatch(patchValue, targetField.getValue(), copy));
+                }
+            }
         }
+
+        final Iterator<Map.Entry<String, JsonNode>> patchFields = patch.fields();
+        while (patchFields.hasNext()) {
+            final Map.Entry<String, JsonNode> patchField = patchFields.next();
+            final JsonNode patchValue = patchField.getValue();
+            if (!patchValue.isNull() && !(targetIsObject && target.has(patchField.getKey()))) {
+                // patch members not present in target are applied to nothing, which removes nested nulls
+                result.set(patchField.getKey(), mergePatch(patchValue, null, copy));
+            }
+        }
+
+        return result;
+    }
+
+    private static JsonNode copyIfNeeded(JsonNode node, boolean copy) {
+        return copy && node != null ? node.deepCopy() : node;
     }
 }
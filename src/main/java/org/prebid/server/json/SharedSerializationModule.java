@@ -0,0 +1,168 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Audio;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Native;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.Video;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Encodes parts of {@link com.iab.openrtb.request.BidRequest} which are usually shared as-is between
+ * bidder requests of the same auction (site, app, device, regs, source and imp media types) only once.
+ * <p>
+ * Cache is keyed by object identity (weak keys), so fragment is reused only while exactly the same instance
+ * participates in other bidder requests and is released together with the auction object graph. Objects contain
+ * mutable JSON nodes (e.g. ext), so the module must be registered only on dedicated mapper used by
+ * {@link JacksonMapper#encodeBidderRequests} for bidder requests, which are complete by then and are shared between
+ * bidders, so bidders must not modify them in place anyway. Responses, analytics, debug output and other payloads
+ * are encoded by regular mapper.
+ */
+public class SharedSerializationModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_TYPES = new HashSet<>(Arrays.asList(
+            Site.class, App.class, Device.class, Regs.class, Source.class,
+            Banner.class, Video.class, Audio.class, Native.class));
+
+    public SharedSerializationModule(long cacheSize) {
+        final Cache<Object, SerializableString> cache = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(cacheSize)
+                .build();
+
+        setSerializerModifier(new SharedSerializerModifier(cache));
+    }
+
+    private static class SharedSerializerModifier extends BeanSerializerModifier {
+
+        private final Cache<Object, SerializableString> cache;
+
+        SharedSerializerModifier(Cache<Object, SerializableString> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+
+            return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                    ? new SharedSerializer((JsonSerializer<Object>) serializer, cache)
+                    : serializer;
+        }
+    }
+
+    private static class SharedSerializer extends JsonSerializer<Object>
+            implements ResolvableSerializer, ContextualSerializer {
+
+        private final JsonSerializer<Object> delegate;
+        private final Cache<Object, SerializableString> cache;
+
+        SharedSerializer(JsonSerializer<Object> delegate, Cache<Object, SerializableString> cache) {
+            this.delegate = delegate;
+            this.cache = cache;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+
+            final ObjectCodec codec = generator.getCodec();
+            if (!isCacheable(generator, codec)) {
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            SerializableString fragment = cache.getIfPresent(value);
+            if (fragment == null) {
+                fragment = new SerializedString(encode(value, (ObjectMapper) codec, provider));
+                cache.put(value, fragment);
+            }
+
+            generator.writeRawValue(fragment);
+        }
+
+        /**
+         * Token buffers (used by valueToTree/convertValue) and pretty printing need real tokens
+         * instead of raw JSON, so shared fragments are used only for plain encoding by {@link ObjectMapper}.
+         */
+        private static boolean isCacheable(JsonGenerator generator, ObjectCodec codec) {
+            return !(generator instanceof TokenBuffer)
+                    && generator.getPrettyPrinter() == null
+                    && codec instanceof ObjectMapper;
+        }
+
+        private String encode(Object value, ObjectMapper mapper, SerializerProvider provider) throws IOException {
+            final SegmentedStringWriter writer = new SegmentedStringWriter(mapper.getFactory()._getBufferRecycler());
+            try (JsonGenerator fragmentGenerator = mapper.getFactory().createGenerator(writer)) {
+                mapper.getSerializationConfig().initialize(fragmentGenerator);
+                delegate.serialize(value, fragmentGenerator, provider);
+            }
+            return writer.getAndClear();
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator generator, SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            final JsonSerializer<?> contextual = delegate instanceof ContextualSerializer
+                    ? ((ContextualSerializer) delegate).createContextual(provider, property)
+                    : delegate;
+
+            return contextual == delegate ? this : new SharedSerializer((JsonSerializer<Object>) contextual, cache);
+        }
+    }
+}
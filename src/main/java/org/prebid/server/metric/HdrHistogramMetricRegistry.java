@@ -0,0 +1,39 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+/**
+ * {@link MetricRegistry} which creates timers and histograms backed by {@link HdrHistogramReservoir} instead of
+ * default exponentially decaying reservoir, which takes a lock on each update.
+ */
+public class HdrHistogramMetricRegistry extends MetricRegistry {
+
+    private final long windowSeconds;
+    private final Clock clock;
+
+    public HdrHistogramMetricRegistry(long windowSeconds) {
+        this(windowSeconds, Clock.defaultClock());
+    }
+
+    HdrHistogramMetricRegistry(long windowSeconds, Clock clock) {
+        if (windowSeconds <= 0) {
+            throw new IllegalArgumentException("HdrHistogram window must be positive");
+        }
+
+        this.windowSeconds = windowSeconds;
+        this.clock = clock;
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, () -> new Timer(new HdrHistogramReservoir(windowSeconds, clock)));
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, () -> new Histogram(new HdrHistogramReservoir(windowSeconds, clock)));
+    }
+}
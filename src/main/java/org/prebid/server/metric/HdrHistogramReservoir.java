@@ -0,0 +1,162 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram.
+ * <p>
+ * Values are recorded without locks and allocations by {@link Recorder}. Recorded values are grouped into time
+ * windows and snapshot reflects values of current and previous windows. Windows are rotated by elapsed time both
+ * on update and on snapshot, and both are cleared once more than two window lengths passed since current window
+ * started, so snapshot describes values recorded within recent one to two window lengths.
+ */
+class HdrHistogramReservoir implements Reservoir {
+
+    private static final int SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private final long windowNanos;
+    private final Clock clock;
+    private final Recorder recorder;
+
+    private Histogram intervalHistogram;
+    private Histogram previousWindow;
+    private Histogram currentWindow;
+    private volatile long currentWindowStart;
+
+    HdrHistogramReservoir(long windowSeconds, Clock clock) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.clock = clock;
+        this.recorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+
+        previousWindow = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        currentWindow = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+        currentWindowStart = clock.getTick();
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        final long now = clock.getTick();
+        if (now - currentWindowStart >= windowNanos) {
+            // values recorded so far belong to the ending window
+            rotate(now);
+        }
+
+        recorder.recordValue(Math.max(value, 0));
+    }
+
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        rotate(clock.getTick());
+
+        final Histogram histogram = previousWindow.copy();
+        histogram.add(currentWindow);
+        return new HdrHistogramSnapshot(histogram);
+    }
+
+    /**
+     * Moves values recorded so far to current window and rotates windows if current one is over.
+     */
+    private synchronized void rotate(long now) {
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        currentWindow.add(intervalHistogram);
+
+        final long elapsed = now - currentWindowStart;
+        if (elapsed >= 2 * windowNanos) {
+            previousWindow.reset();
+            currentWindow.reset();
+            currentWindowStart = now;
+        } else if (elapsed >= windowNanos) {
+            final Histogram outdatedWindow = previousWindow;
+            previousWindow = currentWindow;
+            currentWindow = outdatedWindow;
+            currentWindow.reset();
+            currentWindowStart = now;
+        }
+    }
+
+    private static class HdrHistogramSnapshot extends Snapshot {
+
+        private final Histogram histogram;
+
+        HdrHistogramSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+            return histogram.getValueAtPercentile(quantile * 100.0);
+        }
+
+        /**
+         * Returns distinct recorded values (with histogram precision), since recorded values themselves
+         * are not kept.
+         */
+        @Override
+        public long[] getValues() {
+            int count = 0;
+            for (HistogramIterationValue ignored : histogram.recordedValues()) {
+                count++;
+            }
+
+            final long[] values = new long[count];
+            int index = 0;
+            for (HistogramIterationValue value : histogram.recordedValues()) {
+                values[index++] = histogram.highestEquivalentValue(value.getValueIteratedTo());
+            }
+            return values;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return histogram.getTotalCount() > 0 ? histogram.getMaxValue() : 0;
+        }
+
+        @Override
+        public double getMean() {
+            return histogram.getTotalCount() > 0 ? histogram.getMean() : 0;
+        }
+
+        @Override
+        public long getMin() {
+            return histogram.getTotalCount() > 0 ? histogram.getMinValue() : 0;
+        }
+
+        @Override
+        public double getStdDev() {
+            return histogram.getTotalCount() > 1 ? histogram.getStdDeviation() : 0;
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    out.printf("%d%n", value);
+                }
+            }
+        }
+    }
+}
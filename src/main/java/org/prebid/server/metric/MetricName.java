@@ -59,6 +59,7 @@ public enum MetricName {
     nobid,
     gotbids,
     badinput,
+    dropped,
     blacklisted_account,
     blacklisted_app,
     badserverresponse,
@@ -120,10 +121,15 @@ public enum MetricName {
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
     account,
+    categories,
+    parsed_stored_data("parsed-stored-data"),
     initialize,
     update,
     hit,
     miss,
+    load_time,
+    bytes,
+    entries,
 
     // hooks
     call,
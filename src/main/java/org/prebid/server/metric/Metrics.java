@@ -289,6 +289,10 @@ public class Metrics extends UpdatableMetrics {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
 
+    public void updateAnalyticReporterMetric(String analyticCode, MetricName metricName) {
+        forAnalyticReporter(analyticCode).incCounter(metricName);
+    }
+
     public void updateSizeValidationMetrics(String bidder, String accountId, MetricName type) {
         forAdapter(bidder).response().validation().size().incCounter(type);
         forAccount(accountId).response().validation().size().incCounter(type);
@@ -387,6 +391,10 @@ public class Metrics extends UpdatableMetrics {
         privacy().tcf().incCounter(MetricName.invalid);
     }
 
+    public void updatePrivacyTcfPermissionsCacheMetric(MetricName event) {
+        privacy().permissionsCache().incCounter(event);
+    }
+
     public void updatePrivacyTcfRequestsMetric(int version) {
         final UpdatableMetrics versionMetrics = privacy().tcf().fromVersion(version);
         versionMetrics.incCounter(MetricName.requests);
@@ -571,6 +579,14 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateSettingsCacheLoadTime(MetricName cacheType, long timeElapsed) {
+        forSettingsCacheType(cacheType).updateTimer(MetricName.load_time, timeElapsed);
+    }
+
+    public void createSettingsCacheGauge(MetricName cacheType, MetricName gauge, LongSupplier valueSupplier) {
+        forSettingsCacheType(cacheType).createGauge(gauge, valueSupplier);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
@@ -12,12 +12,14 @@ class PrivacyMetrics extends UpdatableMetrics {
 
     private final USPrivacyMetrics usPrivacyMetrics;
     private final TcfMetrics tcfMetrics;
+    private final PermissionsCacheMetrics permissionsCacheMetrics;
 
     PrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType) {
         super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
                 metricName -> String.format("privacy.%s", metricName.toString()));
         usPrivacyMetrics = new USPrivacyMetrics(metricRegistry, counterType, "privacy");
         tcfMetrics = new TcfMetrics(metricRegistry, counterType, "privacy");
+        permissionsCacheMetrics = new PermissionsCacheMetrics(metricRegistry, counterType, "privacy");
     }
 
     USPrivacyMetrics usp() {
@@ -28,6 +30,10 @@ class PrivacyMetrics extends UpdatableMetrics {
         return tcfMetrics;
     }
 
+    PermissionsCacheMetrics permissionsCache() {
+        return permissionsCacheMetrics;
+    }
+
     static class USPrivacyMetrics extends UpdatableMetrics {
 
         USPrivacyMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
@@ -39,4 +45,16 @@ class PrivacyMetrics extends UpdatableMetrics {
             return metricName -> String.format("%s.usp.%s", prefix, metricName.toString());
         }
     }
+
+    static class PermissionsCacheMetrics extends UpdatableMetrics {
+
+        PermissionsCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                    nameCreator(Objects.requireNonNull(prefix)));
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> String.format("%s.tcf.permissions-cache.%s", prefix, metricName.toString());
+        }
+    }
 }
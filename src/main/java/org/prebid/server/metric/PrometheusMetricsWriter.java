@@ -0,0 +1,336 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import io.vertx.core.buffer.Buffer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Renders {@link MetricRegistry} in Prometheus text exposition format.
+ * <p>
+ * Account, bidder and analytics reporter are moved from dotted metric names to labels, e.g.
+ * {@code account.1001.adapter.appnexus.request_time} becomes {@code account_adapter_request_time} with
+ * {@code account="1001"} and {@code bidder="appnexus"} labels.
+ * <p>
+ * To keep the number of series bounded, only account-level series of top accounts by number of requests
+ * are rendered, the number of omitted accounts is reported by {@code prometheus_omitted_accounts} gauge.
+ * <p>
+ * Output is produced family by family, so caller can stream it without building the whole text in memory.
+ */
+public class PrometheusMetricsWriter {
+
+    private static final String OMITTED_ACCOUNTS_FAMILY = "prometheus_omitted_accounts";
+    private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.99};
+    private static final double NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final String ACCOUNT_PREFIX = "account.";
+    private static final String ADAPTER_PREFIX = "adapter.";
+    private static final String ANALYTICS_PREFIX = "analytics.";
+    private static final String ACCOUNT_REQUESTS_SUFFIX = ".requests";
+
+    private final MetricRegistry metricRegistry;
+    private final int maxAccounts;
+
+    public PrometheusMetricsWriter(MetricRegistry metricRegistry, int maxAccounts) {
+        if (maxAccounts < 0) {
+            throw new IllegalArgumentException("Max accounts must be non-negative");
+        }
+
+        this.metricRegistry = Objects.requireNonNull(metricRegistry);
+        this.maxAccounts = maxAccounts;
+    }
+
+    /**
+     * Returns metric families rendered one by one on iteration.
+     */
+    public Iterator<Buffer> families() {
+        final Map<String, Metric> metrics = metricRegistry.getMetrics();
+
+        final Map<String, SeriesName> seriesNames = new HashMap<>(metrics.size());
+        final Map<String, Long> accountRequests = new HashMap<>();
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            final SeriesName seriesName = SeriesName.parse(entry.getKey());
+            seriesNames.put(entry.getKey(), seriesName);
+
+            final String account = seriesName.getAccount();
+            if (account != null) {
+                final long requests = isAccountRequestsMetric(entry.getKey(), account)
+                        ? count(entry.getValue())
+                        : 0L;
+                accountRequests.merge(account, requests, Long::sum);
+            }
+        }
+
+        final Set<String> topAccounts = accountRequests.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(maxAccounts)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        final Map<String, Family> families = new TreeMap<>();
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            final SeriesName seriesName = seriesNames.get(entry.getKey());
+            if (seriesName.getAccount() != null && !topAccounts.contains(seriesName.getAccount())) {
+                continue;
+            }
+
+            final Metric metric = entry.getValue();
+            final Family family = families.computeIfAbsent(seriesName.getFamily(), name -> new Family(name, metric));
+            if (family.accepts(metric)) {
+                family.series.add(new Series(seriesName.getLabels(), metric));
+            }
+        }
+
+        final Family omittedAccounts = new Family(OMITTED_ACCOUNTS_FAMILY,
+                (Gauge<Integer>) () -> accountRequests.size() - topAccounts.size());
+        omittedAccounts.series.add(new Series("", omittedAccounts.prototype));
+        families.put(OMITTED_ACCOUNTS_FAMILY, omittedAccounts);
+
+        final Iterator<Family> familyIterator = families.values().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return familyIterator.hasNext();
+            }
+
+            @Override
+            public Buffer next() {
+                return familyIterator.next().render();
+            }
+        };
+    }
+
+    private static boolean isAccountRequestsMetric(String name, String account) {
+        return name.length() == ACCOUNT_PREFIX.length() + account.length() + ACCOUNT_REQUESTS_SUFFIX.length()
+                && name.endsWith(ACCOUNT_REQUESTS_SUFFIX);
+    }
+
+    private static long count(Metric metric) {
+        if (metric instanceof ResettingCounter) {
+            return ((ResettingCounter) metric).peekCount();
+        } else if (metric instanceof Counter) {
+            return ((Counter) metric).getCount();
+        } else if (metric instanceof Meter) {
+            return ((Meter) metric).getCount();
+        }
+        return 0L;
+    }
+
+    /**
+     * Prometheus metric family name and labels of a dotted metric name.
+     */
+    static class SeriesName {
+
+        private final String family;
+        private final String account;
+        private final String labels;
+
+        private SeriesName(String family, String account, String labels) {
+            this.family = family;
+            this.account = account;
+            this.labels = labels;
+        }
+
+        static SeriesName parse(String name) {
+            if (name.startsWith(ACCOUNT_PREFIX)) {
+                final int accountEnd = name.indexOf('.', ACCOUNT_PREFIX.length());
+                if (accountEnd > 0) {
+                    final String account = name.substring(ACCOUNT_PREFIX.length(), accountEnd);
+                    final String rest = name.substring(accountEnd + 1);
+                    if (rest.startsWith(ADAPTER_PREFIX)) {
+                        final int bidderEnd = rest.indexOf('.', ADAPTER_PREFIX.length());
+                        if (bidderEnd > 0) {
+                            return new SeriesName(
+                                    sanitize("account_adapter_" + rest.substring(bidderEnd + 1)),
+                                    account,
+                                    label("account", account) + ',' + label("bidder",
+                                            rest.substring(ADAPTER_PREFIX.length(), bidderEnd)));
+                        }
+                    }
+                    return new SeriesName(sanitize("account_" + rest), account, label("account", account));
+                }
+            }
+
+            final SeriesName adapterName = parseWithLabel(name, ADAPTER_PREFIX, "adapter_", "bidder");
+            if (adapterName != null) {
+                return adapterName;
+            }
+
+            final SeriesName analyticsName = parseWithLabel(name, ANALYTICS_PREFIX, "analytics_", "analytics");
+            return analyticsName != null ? analyticsName : new SeriesName(sanitize(name), null, "");
+        }
+
+        private static SeriesName parseWithLabel(String name, String prefix, String familyPrefix, String labelName) {
+            if (!name.startsWith(prefix)) {
+                return null;
+            }
+
+            final int valueEnd = name.indexOf('.', prefix.length());
+            return valueEnd > 0
+                    ? new SeriesName(sanitize(familyPrefix + name.substring(valueEnd + 1)), null,
+                    label(labelName, name.substring(prefix.length(), valueEnd)))
+                    : null;
+        }
+
+        private static String sanitize(String name) {
+            final StringBuilder result = new StringBuilder(name.length() + 1);
+            if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+                result.append('_');
+            }
+            for (int i = 0; i < name.length(); i++) {
+                final char c = name.charAt(i);
+                result.append((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                        ? c
+                        : '_');
+            }
+            return result.toString();
+        }
+
+        private static String label(String name, String value) {
+            final StringBuilder result = new StringBuilder(name.length() + value.length() + 3)
+                    .append(name).append("=\"");
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '\\':
+                        result.append("\\\\");
+                        break;
+                    case '"':
+                        result.append("\\\"");
+                        break;
+                    case '\n':
+                        result.append("\\n");
+                        break;
+                    default:
+                        result.append(c);
+                }
+            }
+            return result.append('"').toString();
+        }
+
+        String getFamily() {
+            return family;
+        }
+
+        String getAccount() {
+            return account;
+        }
+
+        String getLabels() {
+            return labels;
+        }
+    }
+
+    private static class Series {
+
+        private final String labels;
+        private final Metric metric;
+
+        Series(String labels, Metric metric) {
+            this.labels = labels;
+            this.metric = metric;
+        }
+    }
+
+    private static class Family {
+
+        private final String name;
+        private final Metric prototype;
+        private final List<Series> series = new ArrayList<>();
+
+        Family(String name, Metric prototype) {
+            this.name = name;
+            this.prototype = prototype;
+        }
+
+        boolean accepts(Metric metric) {
+            return metric.getClass() == prototype.getClass()
+                    || (metric instanceof Counter && prototype instanceof Counter)
+                    || (metric instanceof Gauge && prototype instanceof Gauge);
+        }
+
+        Buffer render() {
+            final StringBuilder text = new StringBuilder(64 * (series.size() + 1));
+            text.append("# TYPE ").append(name).append(' ').append(type()).append('\n');
+            for (Series current : series) {
+                renderSeries(text, current);
+            }
+            return Buffer.buffer(text.toString());
+        }
+
+        private String type() {
+            if (prototype instanceof ResettingCounter || prototype instanceof Gauge) {
+                // flushing counter reports increments since previous flush of reporters
+                return "gauge";
+            } else if (prototype instanceof Counter || prototype instanceof Meter) {
+                return "counter";
+            }
+            return "summary";
+        }
+
+        private void renderSeries(StringBuilder text, Series current) {
+            final Metric metric = current.metric;
+            if (metric instanceof Counter || metric instanceof Meter) {
+                // flushing counters are peeked to leave their increments to the flushing reporters
+                sample(text, name, current.labels, null, count(metric));
+            } else if (metric instanceof Gauge) {
+                final Object value = ((Gauge<?>) metric).getValue();
+                if (value instanceof Number) {
+                    sample(text, name, current.labels, null, ((Number) value).doubleValue());
+                } else if (value instanceof Boolean) {
+                    sample(text, name, current.labels, null, (Boolean) value ? 1 : 0);
+                }
+            } else if (metric instanceof Timer) {
+                summary(text, current.labels, ((Timer) metric).getSnapshot(), ((Timer) metric).getCount(),
+                        NANOS_IN_SECOND);
+            } else if (metric instanceof Histogram) {
+                summary(text, current.labels, ((Histogram) metric).getSnapshot(), ((Histogram) metric).getCount(),
+                        1.0);
+            }
+        }
+
+        private void summary(StringBuilder text, String labels, Snapshot snapshot, long count, double scale) {
+            for (double quantile : QUANTILES) {
+                sample(text, name, labels, quantile, snapshot.getValue(quantile) / scale);
+            }
+            sample(text, name + "_count", labels, null, count);
+        }
+
+        private static void sample(StringBuilder text, String name, String labels, Double quantile, double value) {
+            text.append(name);
+            if (!labels.isEmpty() || quantile != null) {
+                text.append('{').append(labels);
+                if (quantile != null) {
+                    text.append(labels.isEmpty() ? "" : ",").append("quantile=\"").append(quantile).append('"');
+                }
+                text.append('}');
+            }
+            text.append(' ');
+            if (value == (long) value) {
+                text.append((long) value);
+            } else {
+                text.append(value);
+            }
+            text.append('\n');
+        }
+    }
+}
@@ -10,4 +10,11 @@ class ResettingCounter extends Counter {
         dec(count);
         return count;
     }
+
+    /**
+     * Returns current count without resetting it.
+     */
+    long peekCount() {
+        return super.getCount();
+    }
 }
@@ -1,38 +1,46 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
+    private final Function<String, LongConsumer> incrementerResolver;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
+    // thread-safe, so concurrent resolution of the same metric ends up with the same registered instance
     private final Map<MetricName, String> metricNames;
+    private final Map<MetricName, LongConsumer> incrementers;
+    private final Map<MetricName, Timer> timers;
+    private final Map<MetricName, Histogram> histograms;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.nameCreator = nameCreator;
         metricNames = new EnumMap<>(MetricName.class);
+        incrementers = new EnumMap<>(MetricName.class);
+        timers = new EnumMap<>(MetricName.class);
+        histograms = new EnumMap<>(MetricName.class);
 
         switch (counterType) {
             case flushingCounter:
-                incrementer = (registry, metricName, value) ->
-                        registry.counter(metricName, ResettingCounter::new).inc(value);
+                incrementerResolver = metricName -> metricRegistry.counter(metricName, ResettingCounter::new)::inc;
                 break;
             case counter:
-                incrementer = (registry, metricName, value) -> registry.counter(metricName).inc(value);
+                incrementerResolver = metricName -> metricRegistry.counter(metricName)::inc;
                 break;
             case meter:
-                incrementer = (registry, metricName, value) -> registry.meter(metricName).mark(value);
+                incrementerResolver = metricName -> metricRegistry.meter(metricName)::mark;
                 break;
             default:
                 // to satisfy compiler
@@ -51,14 +59,14 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        incrementer(metricName).accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        timer(metricName).update(millis, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -66,7 +74,7 @@ class UpdatableMetrics {
      */
     void updateHistogram(MetricName metricName, long value) {
         // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        histogram(metricName).update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
@@ -74,15 +82,38 @@ class UpdatableMetrics {
     }
 
     void removeMetric(MetricName metricName) {
+        incrementers.remove(metricName);
+        timers.remove(metricName);
+        histograms.remove(metricName);
         metricRegistry.remove(name(metricName));
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    /**
+     * Metric instances are resolved from registry once and then updated directly, without building metric name
+     * and looking it up in registry on each update.
+     */
+    private LongConsumer incrementer(MetricName metricName) {
+        final LongConsumer incrementer = incrementers.get(metricName);
+        return incrementer != null
+                ? incrementer
+                : incrementers.computeIfAbsent(metricName, key -> incrementerResolver.apply(name(key)));
+    }
+
+    private Timer timer(MetricName metricName) {
+        final Timer timer = timers.get(metricName);
+        return timer != null
+                ? timer
+                : timers.computeIfAbsent(metricName, key -> metricRegistry.timer(name(key)));
+    }
+
+    private Histogram histogram(MetricName metricName) {
+        final Histogram histogram = histograms.get(metricName);
+        return histogram != null
+                ? histogram
+                : histograms.computeIfAbsent(metricName, key -> metricRegistry.histogram(name(key)));
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    private String name(MetricName metricName) {
+        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
     }
 }
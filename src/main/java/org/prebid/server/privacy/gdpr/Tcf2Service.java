@@ -40,12 +40,14 @@ public class Tcf2Service {
     private final List<SpecialFeaturesStrategy> specialFeaturesStrategies;
     private final BidderCatalog bidderCatalog;
     private final PurposeOneTreatmentInterpretation purposeOneTreatmentInterpretation;
+    private final VendorPermissionsCache vendorPermissionsCache;
 
     public Tcf2Service(GdprConfig gdprConfig,
                        List<PurposeStrategy> purposeStrategies,
                        List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                        VendorListServiceV2 vendorListServiceV2,
-                       BidderCatalog bidderCatalog) {
+                       BidderCatalog bidderCatalog,
+                       VendorPermissionsCache vendorPermissionsCache) {
 
         this.defaultPurposes = gdprConfig.getPurposes() == null ? Purposes.builder().build() : gdprConfig.getPurposes();
         this.defaultSpecialFeatures = gdprConfig.getSpecialFeatures() == null
@@ -56,18 +58,42 @@ public class Tcf2Service {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.purposeStrategies = Objects.requireNonNull(purposeStrategies);
         this.specialFeaturesStrategies = Objects.requireNonNull(specialFeaturesStrategies);
+        this.vendorPermissionsCache = Objects.requireNonNull(vendorPermissionsCache);
     }
 
     public Future<Collection<VendorPermission>> permissionsFor(Set<Integer> vendorIds, TCString tcfConsent) {
-        return permissionsForInternal(vendorPermissions(vendorIds), tcfConsent, null);
+        return permissionsFor(vendorIds, tcfConsent, null);
     }
 
+    /**
+     * Returns permissions for the given vendors, result is cached by consent string if it is given.
+     */
+    public Future<Collection<VendorPermission>> permissionsFor(Set<Integer> vendorIds,
+                                                               TCString tcfConsent,
+                                                               String consentString) {
+
+        return permissionsForInternal(vendorPermissions(vendorIds), tcfConsent, consentString, null);
+    }
+
+    public Future<Collection<VendorPermission>> permissionsFor(Set<String> bidderNames,
+                                                               VendorIdResolver vendorIdResolver,
+                                                               TCString tcfConsent,
+                                                               AccountGdprConfig accountGdprConfig) {
+
+        return permissionsFor(bidderNames, vendorIdResolver, tcfConsent, null, accountGdprConfig);
+    }
+
+    /**
+     * Returns permissions for the given bidders, result is cached by consent string if it is given.
+     */
     public Future<Collection<VendorPermission>> permissionsFor(Set<String> bidderNames,
                                                                VendorIdResolver vendorIdResolver,
                                                                TCString tcfConsent,
+                                                               String consentString,
                                                                AccountGdprConfig accountGdprConfig) {
 
-        return permissionsForInternal(vendorPermissions(bidderNames, vendorIdResolver), tcfConsent, accountGdprConfig);
+        return permissionsForInternal(vendorPermissions(bidderNames, vendorIdResolver), tcfConsent, consentString,
+                accountGdprConfig);
     }
 
     private Collection<VendorPermission> vendorPermissions(Set<Integer> vendorIds) {
@@ -90,8 +116,16 @@ public class Tcf2Service {
 
     private Future<Collection<VendorPermission>> permissionsForInternal(Collection<VendorPermission> vendorPermissions,
                                                                         TCString tcfConsent,
+                                                                        String consentString,
                                                                         AccountGdprConfig accountGdprConfig) {
 
+        final VendorPermissionsCache.Key cacheKey =
+                vendorPermissionsCache.key(consentString, accountGdprConfig, vendorPermissions);
+        final Collection<VendorPermission> cachedPermissions = vendorPermissionsCache.get(cacheKey);
+        if (cachedPermissions != null) {
+            return Future.succeededFuture(cachedPermissions);
+        }
+
         final Purposes mergedPurposes = mergeAccountPurposes(accountGdprConfig);
         final SpecialFeatures mergedSpecialFeatures = mergeAccountSpecialFeatures(accountGdprConfig);
         final PurposeOneTreatmentInterpretation mergedPurposeOneTreatmentInterpretation =
@@ -104,12 +138,15 @@ public class Tcf2Service {
                 .map(vendorGvlPermissions -> wrapWithGVL(vendorPermissionsByType, vendorGvlPermissions))
 
                 .compose(gvlResult -> processSupportedPurposeStrategies(tcfConsent, gvlResult, mergedPurposes,
-                        purposeOneTreatmentInterpretation),
+                        purposeOneTreatmentInterpretation)
+                                .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(tcfConsent,
+                                        changedVendorPermissions, mergedSpecialFeatures))
+                                // downgraded result is not cached since vendor list can become available later
+                                .map(result -> vendorPermissionsCache.put(cacheKey, result)),
                         ignoredFailed -> processDowngradedSupportedPurposeStrategies(tcfConsent,
-                                vendorPermissionsByType, mergedPurposes, mergedPurposeOneTreatmentInterpretation))
-
-                .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(tcfConsent,
-                        changedVendorPermissions, mergedSpecialFeatures));
+                                vendorPermissionsByType, mergedPurposes, mergedPurposeOneTreatmentInterpretation)
+                                .map(changedVendorPermissions -> processSupportedSpecialFeatureStrategies(tcfConsent,
+                                        changedVendorPermissions, mergedSpecialFeatures)));
     }
 
     private static VendorPermissionsByType<VendorPermission> toVendorPermissionsByType(
@@ -156,11 +193,10 @@ public class Tcf2Service {
                                                        Map<Integer, VendorV2> vendorGvlPermissions) {
 
         final Integer vendorId = vendorPermission.getVendorId();
-        final VendorV2 vendorGvlByVendorId = vendorId != null
-                ? vendorGvlPermissions.getOrDefault(vendorId, VendorV2.empty(vendorId))
-                : VendorV2.empty(vendorId);
+        final VendorV2 vendorGvlByVendorId = vendorId != null ? vendorGvlPermissions.get(vendorId) : null;
 
-        return VendorPermissionWithGvl.of(vendorPermission, vendorGvlByVendorId);
+        return VendorPermissionWithGvl.of(vendorPermission,
+                vendorGvlByVendorId != null ? vendorGvlByVendorId : VendorV2.empty(vendorId));
     }
 
     private Future<Collection<VendorPermission>> processSupportedPurposeStrategies(
@@ -119,8 +119,9 @@ public class TcfDefinerService {
         return resultForInternal(
                 tcfContext,
                 country -> createAllowAllTcfResponse(vendorIds, country),
-                (tcfConsent, country) -> tcf2Service.permissionsFor(vendorIds, tcfConsent)
-                        .map(vendorPermissions -> createVendorIdTcfResponse(vendorPermissions, country)));
+                (tcfConsent, country) ->
+                        tcf2Service.permissionsFor(vendorIds, tcfConsent, tcfContext.getConsentString())
+                                .map(vendorPermissions -> createVendorIdTcfResponse(vendorPermissions, country)));
     }
 
     public Future<TcfResponse<String>> resultForBidderNames(Set<String> bidderNames,
@@ -131,7 +132,8 @@ public class TcfDefinerService {
                 tcfContext,
                 country -> createAllowAllTcfResponse(bidderNames, country),
                 (consentString, country) ->
-                        tcf2Service.permissionsFor(bidderNames, vendorIdResolver, consentString, accountGdprConfig)
+                        tcf2Service.permissionsFor(bidderNames, vendorIdResolver, consentString,
+                                        tcfContext.getConsentString(), accountGdprConfig)
                                 .map(vendorPermissions -> createBidderNameTcfResponse(vendorPermissions, country)));
     }
 
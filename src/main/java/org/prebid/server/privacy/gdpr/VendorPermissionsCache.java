@@ -0,0 +1,117 @@
+package org.prebid.server.privacy.gdpr;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Value;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.settings.model.AccountGdprConfig;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of TCF 2.0 vendor permissions, computed for the same consent string, account GDPR configuration
+ * and set of vendors.
+ * <p>
+ * Vendor list version is a part of consent string, so it is covered by the key as well.
+ * Cached permissions are copied on each read, so callers are free to modify returned enforcement actions.
+ */
+public class VendorPermissionsCache {
+
+    private final Metrics metrics;
+    private final Cache<Key, List<VendorPermission>> cache;
+
+    public VendorPermissionsCache(long maxSize, long ttlSeconds, Metrics metrics) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("max size must be non-negative");
+        }
+        if (maxSize > 0 && ttlSeconds <= 0) {
+            throw new IllegalArgumentException("ttl seconds must be positive");
+        }
+
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cache = maxSize > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build()
+                : null;
+    }
+
+    /**
+     * Returns key for the given permissions request or null if its result cannot be cached.
+     */
+    Key key(String consentString, AccountGdprConfig accountGdprConfig, Collection<VendorPermission> vendors) {
+        if (cache == null || consentString == null) {
+            return null;
+        }
+
+        final Set<Vendor> vendorSet = new HashSet<>(vendors.size() * 2);
+        for (VendorPermission vendorPermission : vendors) {
+            vendorSet.add(Vendor.of(vendorPermission.getVendorId(), vendorPermission.getBidderName()));
+        }
+        return Key.of(consentString, accountGdprConfig, vendorSet);
+    }
+
+    /**
+     * Returns copy of cached permissions or null if they are not found.
+     */
+    Collection<VendorPermission> get(Key key) {
+        if (key == null) {
+            return null;
+        }
+
+        final List<VendorPermission> cachedPermissions = cache.getIfPresent(key);
+        if (cachedPermissions == null) {
+            metrics.updatePrivacyTcfPermissionsCacheMetric(MetricName.miss);
+            return null;
+        }
+
+        metrics.updatePrivacyTcfPermissionsCacheMetric(MetricName.hit);
+        return copy(cachedPermissions);
+    }
+
+    /**
+     * Caches copy of the given permissions and returns them.
+     */
+    Collection<VendorPermission> put(Key key, Collection<VendorPermission> vendorPermissions) {
+        if (key != null) {
+            cache.put(key, copy(vendorPermissions));
+        }
+        return vendorPermissions;
+    }
+
+    private static List<VendorPermission> copy(Collection<VendorPermission> vendorPermissions) {
+        return vendorPermissions.stream()
+                .map(vendorPermission -> VendorPermission.of(
+                        vendorPermission.getVendorId(),
+                        vendorPermission.getBidderName(),
+                        vendorPermission.getPrivacyEnforcementAction().toBuilder().build()))
+                .collect(Collectors.toList());
+    }
+
+    @Value(staticConstructor = "of")
+    static class Key {
+
+        String consentString;
+
+        AccountGdprConfig accountGdprConfig;
+
+        Set<Vendor> vendors;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Vendor {
+
+        Integer vendorId;
+
+        String bidderName;
+    }
+}
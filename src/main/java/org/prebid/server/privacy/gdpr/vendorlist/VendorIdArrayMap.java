@@ -0,0 +1,141 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-only map of vendor ID to vendor, backed by array indexed by vendor ID.
+ * <p>
+ * Vendor IDs of GVL are small and dense, so array takes less memory than hash map entries,
+ * and lookup is just a bounds check and array read.
+ */
+final class VendorIdArrayMap<V> extends AbstractMap<Integer, V> {
+
+    /**
+     * Array is not used if more than this number of its elements per vendor would be empty.
+     */
+    private static final int MAX_EMPTY_SLOTS_PER_VENDOR = 4;
+
+    private final Object[] vendors;
+    private final int size;
+
+    private Set<Entry<Integer, V>> entrySet;
+
+    private VendorIdArrayMap(Object[] vendors, int size) {
+        this.vendors = vendors;
+        this.size = size;
+    }
+
+    /**
+     * Creates read-only copy of the given map, each vendor is replaced with result of the given function.
+     * <p>
+     * Falls back to hash map if vendor IDs are too sparse or not suitable as array indexes.
+     */
+    static <V> Map<Integer, V> of(Map<Integer, V> idToVendor, UnaryOperator<V> vendorMapper) {
+        int maxId = -1;
+        for (final Map.Entry<Integer, V> entry : idToVendor.entrySet()) {
+            final Integer id = entry.getKey();
+            if (id == null || id < 0 || entry.getValue() == null) {
+                return copyToHashMap(idToVendor, vendorMapper);
+            }
+            maxId = Math.max(maxId, id);
+        }
+
+        final long arrayLength = maxId + 1L;
+        if (arrayLength - idToVendor.size() > (long) MAX_EMPTY_SLOTS_PER_VENDOR * idToVendor.size()) {
+            return copyToHashMap(idToVendor, vendorMapper);
+        }
+
+        final Object[] vendors = new Object[(int) arrayLength];
+        idToVendor.forEach((id, vendor) -> vendors[id] = vendorMapper.apply(vendor));
+        return new VendorIdArrayMap<>(vendors, idToVendor.size());
+    }
+
+    private static <V> Map<Integer, V> copyToHashMap(Map<Integer, V> idToVendor, UnaryOperator<V> vendorMapper) {
+        final Map<Integer, V> copy = new HashMap<>(idToVendor.size() * 2);
+        idToVendor.forEach((id, vendor) -> copy.put(id, vendor != null ? vendorMapper.apply(vendor) : null));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+
+        final int id = (Integer) key;
+        return id >= 0 && id < vendors.length ? vendorAt(id) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Integer, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V vendorAt(int id) {
+        return (V) vendors[id];
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Integer, V>> {
+
+        @Override
+        public Iterator<Entry<Integer, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<Integer, V>> {
+
+        private int nextId = nextIdFrom(0);
+
+        @Override
+        public boolean hasNext() {
+            return nextId < vendors.length;
+        }
+
+        @Override
+        public Entry<Integer, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final int id = nextId;
+            nextId = nextIdFrom(id + 1);
+            return new SimpleImmutableEntry<>(id, vendorAt(id));
+        }
+
+        private int nextIdFrom(int id) {
+            int current = id;
+            while (current < vendors.length && vendors[current] == null) {
+                current++;
+            }
+            return current;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -66,6 +67,11 @@ public abstract class VendorListService<T, V> {
      */
     private final Map<Integer, Map<Integer, V>> cache;
 
+    /**
+     * Vendors usually stay the same across vendor list versions, so equal vendors share single instance.
+     */
+    private final Map<V, V> distinctVendors = new ConcurrentHashMap<>();
+
     private final Map<Integer, V> fallbackVendorList;
     private final Set<Integer> versionsToFallback;
 
@@ -191,7 +197,7 @@ public abstract class VendorListService<T, V> {
 
         for (Map.Entry<String, String> versionAndFileContent : versionToFileContent.entrySet()) {
             final T vendorList = toVendorList(versionAndFileContent.getValue());
-            final Map<Integer, V> vendorIdToVendors = filterVendorIdToVendors(vendorList);
+            final Map<Integer, V> vendorIdToVendors = compactVendors(filterVendorIdToVendors(vendorList));
 
             cache.put(Integer.valueOf(versionAndFileContent.getKey()), vendorIdToVendors);
         }
@@ -217,7 +223,15 @@ public abstract class VendorListService<T, V> {
                     "Fallback vendor list parsed but has invalid data: %s", vendorListContent));
         }
 
-        return filterVendorIdToVendors(vendorList);
+        return compactVendors(filterVendorIdToVendors(vendorList));
+    }
+
+    /**
+     * Returns read-only vendors map backed by array indexed by vendor ID, with vendors shared between versions.
+     */
+    private Map<Integer, V> compactVendors(Map<Integer, V> vendorIdToVendors) {
+        return VendorIdArrayMap.of(vendorIdToVendors,
+                vendor -> distinctVendors.computeIfAbsent(vendor, Function.identity()));
     }
 
     private boolean shouldFallback(int version) {
@@ -288,7 +302,7 @@ public abstract class VendorListService<T, V> {
     private Void updateCache(VendorListResult<T> vendorListResult) {
         final int version = vendorListResult.getVersion();
 
-        cache.put(version, filterVendorIdToVendors(vendorListResult.getVendorList()));
+        cache.put(version, compactVendors(filterVendorIdToVendors(vendorListResult.getVendorList())));
 
         final int tcf = getTcfVersion();
 
@@ -16,7 +16,6 @@ import org.prebid.server.vertx.http.HttpClient;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV2> {
 
@@ -66,8 +65,7 @@ public class VendorListServiceV2 extends VendorListService<VendorListV2, VendorV
     }
 
     protected Map<Integer, VendorV2> filterVendorIdToVendors(VendorListV2 vendorList) {
-        return vendorList.getVendors().entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return vendorList.getVendors();
     }
 
     protected boolean isValid(VendorListV2 vendorList) {
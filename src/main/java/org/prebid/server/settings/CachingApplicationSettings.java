@@ -6,6 +6,7 @@ import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.StoredDataFetcher;
@@ -15,14 +16,13 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
@@ -33,35 +33,38 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
-    private final Map<String, String> accountToErrorCache;
-    private final Map<String, String> adServerPublisherToErrorCache;
-    private final Map<String, Map<String, String>> categoryConfigCache;
+    private final SettingsLoadingCache<Account> accountCache;
+    private final SettingsLoadingCache<Map<String, String>> categoryConfigCache;
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
-    private final Metrics metrics;
 
+    /**
+     * Creates caching settings where account and categories caches are bounded by the given number of items.
+     * <p>
+     * Positive refresh after write period (in seconds) enables background reloading of cached items
+     * older than this period with the given timeout (in milliseconds), zero disables it.
+     */
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
                                       Metrics metrics,
+                                      TimeoutFactory timeoutFactory,
+                                      Clock clock,
                                       int ttl,
-                                      int size) {
+                                      int size,
+                                      int refreshAfterWrite,
+                                      long refreshTimeoutMs) {
 
-        if (ttl <= 0 || size <= 0) {
-            throw new IllegalArgumentException("ttl and size must be positive");
-        }
         this.delegate = Objects.requireNonNull(delegate);
-        this.accountCache = SettingsCache.createCache(ttl, size);
-        this.accountToErrorCache = SettingsCache.createCache(ttl, size);
-        this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size);
-        this.categoryConfigCache = SettingsCache.createCache(ttl, size);
+        this.accountCache = new SettingsLoadingCache<>(ttl, size, refreshAfterWrite, refreshTimeoutMs,
+                account -> 1, timeoutFactory, clock, metrics, MetricName.account);
+        this.categoryConfigCache = new SettingsLoadingCache<>(ttl, size, refreshAfterWrite, refreshTimeoutMs,
+                categories -> 1, timeoutFactory, clock, metrics, MetricName.categories);
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
-        this.metrics = Objects.requireNonNull(metrics);
     }
 
     /**
@@ -69,13 +72,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
      */
     @Override
     public Future<Account> getAccountById(String accountId, Timeout timeout) {
-        return getFromCacheOrDelegate(
-                accountCache,
-                accountToErrorCache,
-                accountId,
-                timeout,
-                delegate::getAccountById,
-                event -> metrics.updateSettingsCacheEventMetric(MetricName.account, event));
+        return accountCache.get(accountId, timeout, delegate::getAccountById);
     }
 
     /**
@@ -125,38 +122,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                 ? String.format("%s_%s", primaryAdServer, publisher)
                 : primaryAdServer;
 
-        return getFromCacheOrDelegate(categoryConfigCache, adServerPublisherToErrorCache, compoundKey, timeout,
-                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeout),
-                CachingApplicationSettings::noOp);
-    }
-
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
-
-        final T cachedValue = cache.get(key);
-        if (cachedValue != null) {
-            metricUpdater.accept(MetricName.hit);
-
-            return Future.succeededFuture(cachedValue);
-        }
-
-        metricUpdater.accept(MetricName.miss);
-
-        final String preBidExceptionMessage = accountToErrorCache.get(key);
-        if (preBidExceptionMessage != null) {
-            return Future.failedFuture(new PreBidException(preBidExceptionMessage));
-        }
-
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        return categoryConfigCache.get(compoundKey, timeout,
+                (key, timeoutParam) -> delegate.getCategories(primaryAdServer, publisher, timeoutParam));
     }
 
     /**
@@ -211,17 +178,6 @@ public class CachingApplicationSettings implements ApplicationSettings {
         });
     }
 
-    private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
-                                                            String key,
-                                                            Map<String, String> cache) {
-
-        if (throwable instanceof PreBidException) {
-            cache.put(key, throwable.getMessage());
-        }
-
-        return Future.failedFuture(throwable);
-    }
-
     private static Map<String, String> getFromCacheOrAddMissedIds(String accountId,
                                                                   Set<String> ids,
                                                                   Map<String, Set<StoredItem>> cache,
@@ -242,15 +198,12 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     public void invalidateAccountCache(String accountId) {
-        accountCache.remove(accountId);
+        accountCache.invalidate(accountId);
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
     public void invalidateAllAccountCache() {
-        accountCache.clear();
+        accountCache.invalidateAll();
         logger.debug("All accounts cache were invalidated");
     }
-
-    private static <ANY> void noOp(ANY any) {
-    }
 }
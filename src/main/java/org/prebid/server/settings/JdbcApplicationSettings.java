@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.ext.sql.ResultSet;
 import org.apache.commons.collections4.CollectionUtils;
@@ -9,7 +10,6 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
-import org.prebid.server.settings.helper.JdbcStoredDataResultMapper;
 import org.prebid.server.settings.helper.JdbcStoredResponseResultMapper;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
@@ -84,12 +84,22 @@ public class JdbcApplicationSettings implements ApplicationSettings {
      */
     private final String selectStoredResponsesQuery;
 
+    private final StoredDataQueryBatcher storedDataQueryBatcher;
+    private final StoredDataQueryBatcher ampStoredDataQueryBatcher;
+
+    /**
+     * Creates settings fetching stored requests and imps with concurrent fetches coalescing
+     * and batching them within the given window (zero disables batching), see {@link StoredDataQueryBatcher}.
+     */
     public JdbcApplicationSettings(JdbcClient jdbcClient,
                                    JacksonMapper mapper,
+                                   Vertx vertx,
                                    String selectAccountQuery,
                                    String selectStoredRequestsQuery,
                                    String selectAmpStoredRequestsQuery,
-                                   String selectStoredResponsesQuery) {
+                                   String selectStoredResponsesQuery,
+                                   long storedDataBatchWindowMs,
+                                   int storedDataBatchMaxIds) {
 
         this.jdbcClient = Objects.requireNonNull(jdbcClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -98,6 +108,19 @@ public class JdbcApplicationSettings implements ApplicationSettings {
         this.selectStoredRequestsQuery = Objects.requireNonNull(selectStoredRequestsQuery);
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+
+        storedDataQueryBatcher = new StoredDataQueryBatcher(
+                (requestIds, impIds, timeout) -> executeStoredDataQuery(
+                        this.selectStoredRequestsQuery, requestIds, impIds, timeout),
+                vertx,
+                storedDataBatchWindowMs,
+                storedDataBatchMaxIds);
+        ampStoredDataQueryBatcher = new StoredDataQueryBatcher(
+                (requestIds, impIds, timeout) -> executeStoredDataQuery(
+                        this.selectAmpStoredRequestsQuery, requestIds, impIds, timeout),
+                vertx,
+                storedDataBatchWindowMs,
+                storedDataBatchMaxIds);
     }
 
     /**
@@ -156,7 +179,7 @@ public class JdbcApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                   Timeout timeout) {
-        return fetchStoredData(selectStoredRequestsQuery, accountId, requestIds, impIds, timeout);
+        return fetchStoredData(storedDataQueryBatcher, accountId, requestIds, impIds, timeout);
     }
 
     /**
@@ -166,7 +189,7 @@ public class JdbcApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getAmpStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                      Timeout timeout) {
-        return fetchStoredData(selectAmpStoredRequestsQuery, accountId, requestIds, Collections.emptySet(), timeout);
+        return fetchStoredData(ampStoredDataQueryBatcher, accountId, requestIds, Collections.emptySet(), timeout);
     }
 
     /**
@@ -176,7 +199,7 @@ public class JdbcApplicationSettings implements ApplicationSettings {
     @Override
     public Future<StoredDataResult> getVideoStoredData(String accountId, Set<String> requestIds, Set<String> impIds,
                                                        Timeout timeout) {
-        return fetchStoredData(selectStoredRequestsQuery, accountId, requestIds, impIds, timeout);
+        return fetchStoredData(storedDataQueryBatcher, accountId, requestIds, impIds, timeout);
     }
 
     /**
@@ -197,29 +220,37 @@ public class JdbcApplicationSettings implements ApplicationSettings {
     }
 
     /**
-     * Fetches stored requests from database for the given query.
+     * Fetches stored requests from database by the given batcher.
      */
-    private Future<StoredDataResult> fetchStoredData(String query, String accountId, Set<String> requestIds,
-                                                     Set<String> impIds, Timeout timeout) {
-        final Future<StoredDataResult> future;
+    private static Future<StoredDataResult> fetchStoredData(StoredDataQueryBatcher batcher,
+                                                            String accountId,
+                                                            Set<String> requestIds,
+                                                            Set<String> impIds,
+                                                            Timeout timeout) {
 
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
-            future = Future.succeededFuture(
+            return Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
-        } else {
-            final List<Object> idsQueryParameters = new ArrayList<>();
-            IntStream.rangeClosed(1, StringUtils.countMatches(query, REQUEST_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(requestIds));
-            IntStream.rangeClosed(1, StringUtils.countMatches(query, IMP_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(impIds));
-
-            final String parametrizedQuery = createParametrizedQuery(query, requestIds.size(), impIds.size());
-            future = jdbcClient.executeQuery(parametrizedQuery, idsQueryParameters,
-                    result -> JdbcStoredDataResultMapper.map(result, accountId, requestIds, impIds),
-                    timeout);
         }
 
-        return future;
+        return batcher.fetch(accountId, requestIds, impIds, timeout);
+    }
+
+    /**
+     * Runs stored requests query for the given ids and returns {@link Future} of its raw result,
+     * which is resolved to {@link StoredDataResult} by {@link StoredDataQueryBatcher}.
+     */
+    private Future<ResultSet> executeStoredDataQuery(String query, Set<String> requestIds, Set<String> impIds,
+                                                     Timeout timeout) {
+
+        final List<Object> idsQueryParameters = new ArrayList<>();
+        IntStream.rangeClosed(1, StringUtils.countMatches(query, REQUEST_ID_PLACEHOLDER))
+                .forEach(i -> idsQueryParameters.addAll(requestIds));
+        IntStream.rangeClosed(1, StringUtils.countMatches(query, IMP_ID_PLACEHOLDER))
+                .forEach(i -> idsQueryParameters.addAll(impIds));
+
+        final String parametrizedQuery = createParametrizedQuery(query, requestIds.size(), impIds.size());
+        return jdbcClient.executeQuery(parametrizedQuery, idsQueryParameters, Function.identity(), timeout);
     }
 
     /**
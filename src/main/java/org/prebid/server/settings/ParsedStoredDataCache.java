@@ -0,0 +1,144 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memory-bounded cache of parsed stored requests and imps.
+ * <p>
+ * Items are keyed by stored JSON itself, so updated stored data is parsed again and outdated nodes are evicted
+ * eventually by size. Weight of each item is an estimate of heap bytes retained by it: stored JSON string kept as
+ * the key plus the parsed node tree (node objects, maps and lists of containers, text values), which is
+ * usually several times bigger than the JSON itself. Total weight is limited by configured number of bytes.
+ * Field names are not counted since parser interns them, so they are shared between all nodes.
+ * <p>
+ * Returned {@link JsonNode}s are shared between requests and must not be modified by callers.
+ */
+public class ParsedStoredDataCache {
+
+    // rough 64-bit JVM sizes with compressed oops
+    private static final int STRING_OVERHEAD = 40;
+    private static final int ARRAY_OVERHEAD = 16;
+    private static final int VALUE_NODE_SIZE = 24;
+    private static final int OBJECT_NODE_OVERHEAD = 16 + 56 + ARRAY_OVERHEAD;
+    private static final int OBJECT_NODE_ENTRY_SIZE = 40 + 8;
+    private static final int ARRAY_NODE_OVERHEAD = 16 + 24 + ARRAY_OVERHEAD;
+    private static final int ARRAY_NODE_ELEMENT_SIZE = 4;
+
+    private final JacksonMapper mapper;
+    private final Metrics metrics;
+    private final Cache<String, JsonNode> cache;
+
+    public ParsedStoredDataCache(long maxSizeBytes, JacksonMapper mapper, Metrics metrics) {
+        if (maxSizeBytes < 0) {
+            throw new IllegalArgumentException("max size bytes must be non-negative");
+        }
+
+        this.mapper = Objects.requireNonNull(mapper);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cache = maxSizeBytes > 0
+                ? Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .<String, JsonNode>weigher(ParsedStoredDataCache::weigh)
+                .build()
+                : null;
+
+        if (cache != null) {
+            metrics.createSettingsCacheGauge(MetricName.parsed_stored_data, MetricName.bytes, this::weightedSize);
+            metrics.createSettingsCacheGauge(MetricName.parsed_stored_data, MetricName.entries,
+                    cache::estimatedSize);
+        }
+    }
+
+    /**
+     * Returns parsed stored JSON, parses and caches it if was not found.
+     *
+     * @throws DecodeException if stored JSON cannot be parsed
+     */
+    public JsonNode parse(String json) {
+        if (json == null) {
+            throw new DecodeException("Stored data is null");
+        }
+        if (cache == null) {
+            return readTree(json);
+        }
+
+        final JsonNode cachedNode = cache.getIfPresent(json);
+        if (cachedNode != null) {
+            metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+            return cachedNode;
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+        final JsonNode node = readTree(json);
+        cache.put(json, node);
+        return node;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return mapper.mapper().readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+
+    private static int weigh(String json, JsonNode node) {
+        final long size = STRING_OVERHEAD + json.length() + estimateSize(node);
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates heap size of the node tree, walks it without recursion since stored JSON nesting is not limited.
+     */
+    private static long estimateSize(JsonNode root) {
+        long size = 0;
+
+        final Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            final JsonNode node = nodes.pop();
+            final JsonNodeType nodeType = node.getNodeType();
+            if (nodeType == JsonNodeType.OBJECT) {
+                size += OBJECT_NODE_OVERHEAD + (long) OBJECT_NODE_ENTRY_SIZE * node.size();
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    nodes.push(fields.next().getValue());
+                }
+            } else if (nodeType == JsonNodeType.ARRAY) {
+                size += ARRAY_NODE_OVERHEAD + (long) ARRAY_NODE_ELEMENT_SIZE * node.size();
+                node.elements().forEachRemaining(nodes::push);
+            } else if (nodeType == JsonNodeType.STRING) {
+                size += VALUE_NODE_SIZE + STRING_OVERHEAD + node.textValue().length();
+            } else if (nodeType == JsonNodeType.NUMBER) {
+                size += VALUE_NODE_SIZE;
+            }
+            // boolean and null nodes are shared singletons
+        }
+        return size;
+    }
+
+    private long weightedSize() {
+        // writes are applied to weighted size asynchronously, gauge is read rarely, so pending ones are applied first
+        cache.cleanUp();
+
+        return cache.policy().eviction()
+                .map(Policy.Eviction::weightedSize)
+                .map(size -> size.orElse(0L))
+                .orElse(0L);
+    }
+}
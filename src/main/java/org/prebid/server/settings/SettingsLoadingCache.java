@@ -0,0 +1,187 @@
+package org.prebid.server.settings;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.Value;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Size-bounded in-memory cache of settings items loaded asynchronously by key.
+ * <p>
+ * Besides values, {@link PreBidException} failures are cached too, so the same missing item is not requested
+ * from the origin source over and over again.
+ * <p>
+ * Concurrent misses on the same key share single load, each of them is completed on its own Vert.x context.
+ * Items older than configured refresh period are still served from cache while being reloaded in background
+ * (stale-while-revalidate) with configured timeout, so frequently requested items never wait for the origin source
+ * after they were loaded once. Failed refresh (other than {@link PreBidException}) keeps stale item in cache
+ * until it expires.
+ */
+class SettingsLoadingCache<T> {
+
+    private final Cache<String, CacheEntry<T>> cache;
+    private final Map<String, Future<T>> loadsInProgress;
+    private final long refreshAfterWriteMs;
+    private final long refreshTimeoutMs;
+    private final TimeoutFactory timeoutFactory;
+    private final Clock clock;
+    private final Metrics metrics;
+    private final MetricName cacheType;
+
+    /**
+     * Creates cache bounded by total weight of its items, where weight of each value is determined by the given
+     * weigher and each cached failure weights 1.
+     */
+    SettingsLoadingCache(int ttl,
+                         long maxWeight,
+                         int refreshAfterWrite,
+                         long refreshTimeoutMs,
+                         ToIntFunction<T> weigher,
+                         TimeoutFactory timeoutFactory,
+                         Clock clock,
+                         Metrics metrics,
+                         MetricName cacheType) {
+
+        if (ttl <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+        if (refreshAfterWrite < 0) {
+            throw new IllegalArgumentException("refresh after write must be non-negative");
+        }
+        if (refreshTimeoutMs <= 0) {
+            throw new IllegalArgumentException("refresh timeout must be positive");
+        }
+        Objects.requireNonNull(weigher);
+
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .maximumWeight(maxWeight)
+                .<String, CacheEntry<T>>weigher((key, entry) -> entry.getValue() != null
+                        ? Math.max(weigher.applyAsInt(entry.getValue()), 1)
+                        : 1)
+                .build();
+        this.loadsInProgress = new ConcurrentHashMap<>();
+        this.refreshAfterWriteMs = TimeUnit.SECONDS.toMillis(refreshAfterWrite);
+        this.refreshTimeoutMs = refreshTimeoutMs;
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.clock = Objects.requireNonNull(clock);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cacheType = Objects.requireNonNull(cacheType);
+    }
+
+    /**
+     * Returns item from cache or loads it with the given loader otherwise.
+     * <p>
+     * Stale item is returned immediately and reloaded in background with the same loader, but its own timeout,
+     * so refresh doesn't depend on how much time is left for the request triggered it.
+     */
+    Future<T> get(String key, Timeout timeout, BiFunction<String, Timeout, Future<T>> loader) {
+        final CacheEntry<T> cachedEntry = cache.getIfPresent(key);
+        if (cachedEntry == null) {
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.miss);
+            return load(key, timeout, loader);
+        }
+
+        // cached failure is counted as miss, since it means item is missing in the origin source
+        metrics.updateSettingsCacheEventMetric(
+                cacheType, cachedEntry.getErrorMessage() == null ? MetricName.hit : MetricName.miss);
+        if (refreshAfterWriteMs > 0 && clock.millis() - cachedEntry.getLoadedAt() >= refreshAfterWriteMs) {
+            load(key, timeoutFactory.create(refreshTimeoutMs), loader);
+        }
+
+        return cachedEntry.toFuture();
+    }
+
+    void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Future<T> load(String key, Timeout timeout, BiFunction<String, Timeout, Future<T>> loader) {
+        final Promise<T> promise = Promise.promise();
+        final Future<T> loadInProgress = loadsInProgress.putIfAbsent(key, promise.future());
+        if (loadInProgress != null) {
+            return onCurrentContext(loadInProgress);
+        }
+
+        final long startTime = clock.millis();
+        loader.apply(key, timeout).onComplete(result -> {
+            final long loadedAt = clock.millis();
+            metrics.updateSettingsCacheLoadTime(cacheType, loadedAt - startTime);
+
+            updateCache(key, result, loadedAt);
+            loadsInProgress.remove(key);
+            promise.handle(result);
+        });
+
+        return promise.future();
+    }
+
+    /**
+     * Returns {@link Future} completed on the current Vert.x context, since shared load is completed on the context
+     * of the one who started it.
+     */
+    private static <T> Future<T> onCurrentContext(Future<T> future) {
+        final Context context = Vertx.currentContext();
+        if (context == null) {
+            return future;
+        }
+
+        final Promise<T> promise = Promise.promise();
+        future.onComplete(result -> {
+            if (Vertx.currentContext() == context) {
+                promise.handle(result);
+            } else {
+                context.runOnContext(ignored -> promise.handle(result));
+            }
+        });
+        return promise.future();
+    }
+
+    private void updateCache(String key, AsyncResult<T> result, long loadedAt) {
+        if (result.succeeded()) {
+            final T value = result.result();
+            if (value != null) {
+                cache.put(key, CacheEntry.of(value, null, loadedAt));
+            }
+        } else if (result.cause() instanceof PreBidException) {
+            cache.put(key, CacheEntry.of(null, result.cause().getMessage(), loadedAt));
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class CacheEntry<T> {
+
+        T value;
+
+        String errorMessage;
+
+        long loadedAt;
+
+        Future<T> toFuture() {
+            return errorMessage == null
+                    ? Future.succeededFuture(value)
+                    : Future.failedFuture(new PreBidException(errorMessage));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.sql.ResultSet;
+import lombok.Value;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.settings.helper.JdbcStoredDataResultMapper;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reduces the number of stored requests and imps queries made to the database by {@link JdbcApplicationSettings}.
+ * <p>
+ * Concurrent fetches of the same stored ids for the same account share single query result.
+ * <p>
+ * If batch window is positive, distinct ids requested within this window are collected and fetched by a single query
+ * (with all of them in its 'IN' clauses), so the query result is then resolved for each fetch separately
+ * by its own ids only. The batch is executed earlier if number of its ids reaches configured maximum.
+ * Each fetch of the batch still fails once its own timeout is exceeded.
+ */
+class StoredDataQueryBatcher {
+
+    private final StoredDataQuery query;
+    private final Vertx vertx;
+    private final long batchWindowMs;
+    private final int batchMaxIds;
+
+    private final Map<FetchKey, Future<StoredDataResult>> fetchesInProgress;
+    private Batch pendingBatch;
+
+    StoredDataQueryBatcher(StoredDataQuery query, Vertx vertx, long batchWindowMs, int batchMaxIds) {
+        if (batchWindowMs < 0) {
+            throw new IllegalArgumentException("Batch window should be non-negative");
+        }
+        if (batchMaxIds <= 0) {
+            throw new IllegalArgumentException("Batch maximum number of ids should be positive");
+        }
+
+        this.query = Objects.requireNonNull(query);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.batchWindowMs = batchWindowMs;
+        this.batchMaxIds = batchMaxIds;
+
+        fetchesInProgress = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns {@link Future} of stored requests and imps for the given account resolved from the query result.
+     */
+    Future<StoredDataResult> fetch(String accountId, Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+        final FetchKey key = FetchKey.of(accountId, new HashSet<>(requestIds), new HashSet<>(impIds));
+
+        final Promise<StoredDataResult> promise = Promise.promise();
+        final Future<StoredDataResult> fetchInProgress = fetchesInProgress.putIfAbsent(key, promise.future());
+        if (fetchInProgress != null) {
+            return fetchInProgress;
+        }
+
+        final Future<StoredDataResult> resultFuture = batchWindowMs > 0
+                ? addToBatch(key.getRequestIds(), key.getImpIds(), timeout).map(resultSet ->
+                        JdbcStoredDataResultMapper.mapRequestedIds(
+                                resultSet, accountId, key.getRequestIds(), key.getImpIds()))
+                : query.execute(key.getRequestIds(), key.getImpIds(), timeout).map(resultSet ->
+                        JdbcStoredDataResultMapper.map(resultSet, accountId, key.getRequestIds(), key.getImpIds()));
+
+        resultFuture.onComplete(result -> {
+            fetchesInProgress.remove(key);
+            promise.handle(result);
+        });
+
+        return promise.future();
+    }
+
+    private Future<ResultSet> addToBatch(Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+
+        final Promise<ResultSet> promise = Promise.promise();
+        final long deadlineTimerId = vertx.setTimer(remainingTimeout, ignored -> promise.tryFail(timeoutException()));
+        promise.future().onComplete(ignored -> vertx.cancelTimer(deadlineTimerId));
+
+        final Batch batchToExecute;
+        synchronized (this) {
+            if (pendingBatch == null) {
+                final Batch batch = new Batch();
+                batch.timerId = vertx.setTimer(batchWindowMs, ignored -> executeIfPending(batch));
+                pendingBatch = batch;
+            }
+
+            pendingBatch.add(requestIds, impIds, timeout, promise);
+
+            if (pendingBatch.idsCount() >= batchMaxIds) {
+                batchToExecute = pendingBatch;
+                pendingBatch = null;
+                vertx.cancelTimer(batchToExecute.timerId);
+            } else {
+                batchToExecute = null;
+            }
+        }
+
+        if (batchToExecute != null) {
+            execute(batchToExecute);
+        }
+
+        return promise.future();
+    }
+
+    private void executeIfPending(Batch batch) {
+        synchronized (this) {
+            if (pendingBatch != batch) {
+                return;
+            }
+            pendingBatch = null;
+        }
+
+        execute(batch);
+    }
+
+    private void execute(Batch batch) {
+        query.execute(batch.requestIds, batch.impIds, batch.timeout).onComplete(batch::complete);
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timed out while executing SQL query");
+    }
+
+    /**
+     * Executes stored data query for the given ids.
+     */
+    @FunctionalInterface
+    interface StoredDataQuery {
+
+        Future<ResultSet> execute(Set<String> requestIds, Set<String> impIds, Timeout timeout);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class FetchKey {
+
+        String accountId;
+
+        Set<String> requestIds;
+
+        Set<String> impIds;
+    }
+
+    private static class Batch {
+
+        private final Set<String> requestIds = new HashSet<>();
+        private final Set<String> impIds = new HashSet<>();
+        private final List<Promise<ResultSet>> promises = new ArrayList<>();
+        private Timeout timeout;
+        private long timerId;
+
+        void add(Set<String> requestIds, Set<String> impIds, Timeout timeout, Promise<ResultSet> promise) {
+            this.requestIds.addAll(requestIds);
+            this.impIds.addAll(impIds);
+            promises.add(promise);
+
+            // query is shared by all fetches of the batch, so the latest deadline is used for it,
+            // while each fetch is failed on its own deadline
+            if (this.timeout == null || timeout.remaining() > this.timeout.remaining()) {
+                this.timeout = timeout;
+            }
+        }
+
+        int idsCount() {
+            return requestIds.size() + impIds.size();
+        }
+
+        void complete(AsyncResult<ResultSet> result) {
+            // fetch may be already failed on its own deadline
+            if (result.succeeded()) {
+                promises.forEach(promise -> promise.tryComplete(result.result()));
+            } else {
+                promises.forEach(promise -> promise.tryFail(result.cause()));
+            }
+        }
+    }
+}
@@ -42,6 +42,11 @@ public class JdbcStoredDataResultMapper {
      */
     public static StoredDataResult map(ResultSet resultSet, String accountId, Set<String> requestIds,
                                        Set<String> impIds) {
+        return map(resultSet, accountId, requestIds, impIds, true);
+    }
+
+    private static StoredDataResult map(ResultSet resultSet, String accountId, Set<String> requestIds,
+                                        Set<String> impIds, boolean resolveAllIfNoIds) {
         final Map<String, String> storedIdToRequest;
         final Map<String, String> storedIdToImp;
         final List<String> errors = new ArrayList<>();
@@ -98,9 +103,9 @@ public class JdbcStoredDataResultMapper {
             }
 
             storedIdToRequest = storedItemsOrAddError(StoredDataType.request, accountId, requestIds,
-                    requestIdToStoredItems, errors);
+                    requestIdToStoredItems, resolveAllIfNoIds, errors);
             storedIdToImp = storedItemsOrAddError(StoredDataType.imp, accountId, impIds,
-                    impIdToStoredItems, errors);
+                    impIdToStoredItems, resolveAllIfNoIds, errors);
         }
 
         return StoredDataResult.of(storedIdToRequest, storedIdToImp, errors);
@@ -116,6 +121,17 @@ public class JdbcStoredDataResultMapper {
         return map(resultSet, null, Collections.emptySet(), Collections.emptySet());
     }
 
+    /**
+     * Maps {@link ResultSet} of the query made for multiple fetches to {@link StoredDataResult} of the given IDs only.
+     * <p>
+     * Unlike {@link #map(ResultSet, String, Set, Set)}, empty set of IDs resolves nothing instead of all found
+     * stored items of that type, since they could be requested by other fetches and belong to other accounts.
+     */
+    public static StoredDataResult mapRequestedIds(ResultSet resultSet, String accountId, Set<String> requestIds,
+                                                   Set<String> impIds) {
+        return map(resultSet, accountId, requestIds, impIds, false);
+    }
+
     private static void addStoredItem(String accountId, String id, String data,
                                       Map<String, Set<StoredItem>> idToStoredItems) {
         final StoredItem storedItem = StoredItem.of(accountId, data);
@@ -135,10 +151,11 @@ public class JdbcStoredDataResultMapper {
                                                              String accountId,
                                                              Set<String> searchIds,
                                                              Map<String, Set<StoredItem>> foundIdToStoredItems,
+                                                             boolean resolveAllIfNoIds,
                                                              List<String> errors) {
         final Map<String, String> result = new HashMap<>();
 
-        if (searchIds.isEmpty()) {
+        if (searchIds.isEmpty() && resolveAllIfNoIds) {
             for (Map.Entry<String, Set<StoredItem>> entry : foundIdToStoredItems.entrySet()) {
                 entry.getValue().forEach(storedItem -> result.put(entry.getKey(), storedItem.getData()));
             }
@@ -21,6 +21,7 @@ import org.prebid.server.handler.ForceDealsUpdateHandler;
 import org.prebid.server.handler.HttpInteractionLogHandler;
 import org.prebid.server.handler.LineItemStatusHandler;
 import org.prebid.server.handler.LoggerControlKnobHandler;
+import org.prebid.server.handler.PrometheusMetricsHandler;
 import org.prebid.server.handler.SettingsCacheNotificationHandler;
 import org.prebid.server.handler.TracerLogHandler;
 import org.prebid.server.handler.VersionHandler;
@@ -28,6 +29,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
+import org.prebid.server.metric.PrometheusMetricsWriter;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.util.VersionInfo;
@@ -293,6 +295,24 @@ public class AdminEndpointsConfiguration {
                 .withCredentials(adminEndpointCredentials);
     }
 
+    @Bean
+    @ConditionalOnExpression("${admin-endpoints.prometheus-metrics.enabled} == true")
+    CustomizedAdminEndpoint prometheusMetricsAdminEndpoint(
+            MetricRegistry metricRegistry,
+            @Value("${admin-endpoints.prometheus-metrics.path}") String path,
+            @Value("${admin-endpoints.prometheus-metrics.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.prometheus-metrics.protected}") boolean isProtected,
+            @Value("${admin-endpoints.prometheus-metrics.max-accounts}") int maxAccounts,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new PrometheusMetricsHandler(new PrometheusMetricsWriter(metricRegistry, maxAccounts), path),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
     @Bean
     Map<String, String> adminEndpointCredentials(
             @Autowired(required = false) AdminEndpointCredentials adminEndpointCredentials) {
@@ -7,6 +7,13 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.AnalyticsReporterDelegator;
 import org.prebid.server.analytics.LogAnalyticsReporter;
 import org.prebid.server.analytics.pubstack.PubstackAnalyticsReporter;
+import org.prebid.server.analytics.sink.AnalyticsSinkTarget;
+import org.prebid.server.analytics.sink.BatchedAnalyticsReporter;
+import org.prebid.server.analytics.sink.BatchedAnalyticsSink;
+import org.prebid.server.analytics.sink.FileAnalyticsSinkTarget;
+import org.prebid.server.analytics.sink.HttpAnalyticsSinkTarget;
+import org.prebid.server.analytics.sink.JsonAnalyticsEventEncoder;
+import org.prebid.server.analytics.sink.model.BatchedAnalyticsSinkProperties;
 import org.prebid.server.auction.PrivacyEnforcementService;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
@@ -19,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
 
@@ -53,11 +61,13 @@ public class AnalyticsConfiguration {
         PubstackAnalyticsReporter pubstackAnalyticsReporter(PubstackAnalyticsProperties pubstackAnalyticsProperties,
                                                             HttpClient httpClient,
                                                             JacksonMapper jacksonMapper,
+                                                            Metrics metrics,
                                                             Vertx vertx) {
             return new PubstackAnalyticsReporter(
                     pubstackAnalyticsProperties.toComponentProperties(),
                     httpClient,
                     jacksonMapper,
+                    metrics,
                     vertx);
         }
 
@@ -97,6 +107,7 @@ public class AnalyticsConfiguration {
                         .configurationRefreshDelayMs(getConfigurationRefreshDelayMs())
                         .sizeBytes(getBuffers().getSizeBytes())
                         .count(getBuffers().getCount())
+                        .capacity(getBuffers().getCapacity())
                         .timeoutMs(getTimeoutMs())
                         .reportTtlMs(getBuffers().getReportTtlMs())
                         .build();
@@ -113,8 +124,100 @@ public class AnalyticsConfiguration {
             @NotNull
             Integer count;
 
+            @NotNull
+            Integer capacity;
+
             @NotNull
             Long reportTtlMs;
         }
     }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "analytics.batched", name = "enabled", havingValue = "true")
+    public static class BatchedAnalyticsConfiguration {
+
+        private static final String REPORTER_NAME = "batched";
+
+        @Bean
+        BatchedAnalyticsReporter batchedAnalyticsReporter(BatchedAnalyticsProperties batchedAnalyticsProperties,
+                                                          HttpClient httpClient,
+                                                          JacksonMapper jacksonMapper,
+                                                          Metrics metrics,
+                                                          Clock clock,
+                                                          Vertx vertx) {
+
+            final BatchedAnalyticsSink sink = new BatchedAnalyticsSink(
+                    REPORTER_NAME,
+                    batchedAnalyticsProperties.toComponentProperties(),
+                    new JsonAnalyticsEventEncoder(jacksonMapper),
+                    createTarget(batchedAnalyticsProperties, httpClient, clock, vertx),
+                    metrics,
+                    vertx);
+
+            return new BatchedAnalyticsReporter(REPORTER_NAME, sink);
+        }
+
+        private static AnalyticsSinkTarget createTarget(BatchedAnalyticsProperties properties,
+                                                        HttpClient httpClient,
+                                                        Clock clock,
+                                                        Vertx vertx) {
+
+            switch (properties.getTarget()) {
+                case "http":
+                    return new HttpAnalyticsSinkTarget(httpClient, properties.getEndpoint(),
+                            properties.getTimeoutMs());
+                case "file":
+                    return new FileAnalyticsSinkTarget(vertx.fileSystem(), properties.getDirectory(), clock);
+                default:
+                    throw new IllegalArgumentException(String.format(
+                            "Unknown batched analytics target: %s, expected http or file", properties.getTarget()));
+            }
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "analytics.batched")
+        BatchedAnalyticsProperties batchedAnalyticsProperties() {
+            return new BatchedAnalyticsProperties();
+        }
+
+        @Validated
+        @NoArgsConstructor
+        @Data
+        private static class BatchedAnalyticsProperties {
+
+            @NotNull
+            String target;
+
+            String endpoint;
+
+            Long timeoutMs;
+
+            String directory;
+
+            @NotNull
+            Integer capacity;
+
+            @NotNull
+            Long maxBatchSizeBytes;
+
+            @NotNull
+            Integer maxBatchEvents;
+
+            @NotNull
+            Long lingerMs;
+
+            @NotNull
+            Boolean gzip;
+
+            BatchedAnalyticsSinkProperties toComponentProperties() {
+                return BatchedAnalyticsSinkProperties.builder()
+                        .capacity(getCapacity())
+                        .maxBatchSizeBytes(getMaxBatchSizeBytes())
+                        .maxBatchEvents(getMaxBatchEvents())
+                        .lingerMs(getLingerMs())
+                        .gzip(getGzip())
+                        .build();
+            }
+        }
+    }
 }
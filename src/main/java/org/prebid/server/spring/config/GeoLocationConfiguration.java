@@ -51,10 +51,13 @@ public class GeoLocationConfiguration {
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
-        GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+        GeoLocationService basicGeoLocationService(
+                RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.memory-mapped:false}") boolean memoryMapped,
+                @Value("${geolocation.maxmind.cache-size:0}") long cacheSize,
+                Vertx vertx) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, memoryMapped, cacheSize, vertx);
         }
 
         @Bean
@@ -63,16 +66,20 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.memory-mapped:false}") boolean memoryMapped,
+                @Value("${geolocation.maxmind.cache-size:0}") long cacheSize,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, memoryMapped, cacheSize, vertx), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
         private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
+                                                            boolean memoryMapped,
+                                                            long cacheSize,
                                                             Vertx vertx) {
 
             final HttpClientProperties httpClientProperties = fileSyncerProperties.getHttpClient();
@@ -85,7 +92,8 @@ public class GeoLocationConfiguration {
                     fileSyncerProperties.getRetryCount(), fileSyncerProperties.getRetryIntervalMs(),
                     fileSyncerProperties.getTimeoutMs(), fileSyncerProperties.getUpdateIntervalMs(),
                     vertx.createHttpClient(httpClientOptions), vertx, vertx.fileSystem());
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService(memoryMapped,
+                    cacheSize, vertx);
 
             remoteFileSyncer.syncForFilepath(maxMindGeoLocationService);
             return maxMindGeoLocationService;
@@ -3,6 +3,8 @@ package org.prebid.server.spring.config;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.json.SharedSerializationModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,8 +12,14 @@ import org.springframework.context.annotation.Configuration;
 public class JsonConfiguration {
 
     @Bean
-    JacksonMapper jacksonMapper() {
-        return new JacksonMapper(ObjectMapperProvider.mapper());
+    JacksonMapper jacksonMapper(
+            @Value("${auction.shared-serialization.enabled}") boolean sharedSerializationEnabled,
+            @Value("${auction.shared-serialization.cache-size}") long sharedSerializationCacheSize) {
+
+        return sharedSerializationEnabled
+                ? new JacksonMapper(ObjectMapperProvider.mapper(), ObjectMapperProvider.mapper().copy()
+                .registerModule(new SharedSerializationModule(sharedSerializationCacheSize)))
+                : new JacksonMapper(ObjectMapperProvider.mapper());
     }
 
     @Bean
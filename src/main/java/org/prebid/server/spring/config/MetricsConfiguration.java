@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosity;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.HdrHistogramMetricRegistry;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.vertx.CloseableAdapter;
@@ -113,9 +114,12 @@ public class MetricsConfiguration {
     }
 
     @Bean
-    MetricRegistry metricRegistry() {
+    MetricRegistry metricRegistry(
+            @Value("${metrics.hdr-histogram.enabled}") boolean hdrHistogramEnabled,
+            @Value("${metrics.hdr-histogram.window-seconds}") long hdrHistogramWindowSeconds) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
-        final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
+        final MetricRegistry metricRegistry = sharedMetricRegistry(hdrHistogramEnabled, hdrHistogramWindowSeconds);
 
         if (!alreadyExists) {
             metricRegistry.register("jvm.gc", new GarbageCollectorMetricSet());
@@ -125,6 +129,18 @@ public class MetricsConfiguration {
         return metricRegistry;
     }
 
+    /**
+     * Returns metric registry shared with Vert.x metrics, creates it if it doesn't exist yet.
+     * <p>
+     * Must be called before Vert.x instance is created, otherwise Vert.x creates default registry on its own.
+     */
+    static MetricRegistry sharedMetricRegistry(boolean hdrHistogramEnabled, long hdrHistogramWindowSeconds) {
+        if (hdrHistogramEnabled && !SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME)) {
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, new HdrHistogramMetricRegistry(hdrHistogramWindowSeconds));
+        }
+        return SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
+    }
+
     @Bean
     AccountMetricsVerbosity accountMetricsVerbosity(AccountsProperties accountsProperties) {
         return new AccountMetricsVerbosity(accountsProperties.getDefaultVerbosity(),
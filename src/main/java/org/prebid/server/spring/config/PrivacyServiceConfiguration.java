@@ -9,6 +9,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.Tcf2Service;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
+import org.prebid.server.privacy.gdpr.VendorPermissionsCache;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeEightStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeFiveStrategy;
 import org.prebid.server.privacy.gdpr.tcfstrategies.purpose.PurposeFourStrategy;
@@ -79,15 +80,25 @@ public class PrivacyServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    VendorPermissionsCache vendorPermissionsCache(
+            @Value("${gdpr.permissions-cache.max-size}") long maxSize,
+            @Value("${gdpr.permissions-cache.ttl-seconds}") long ttlSeconds,
+            Metrics metrics) {
+
+        return new VendorPermissionsCache(maxSize, ttlSeconds, metrics);
+    }
+
     @Bean
     Tcf2Service tcf2Service(GdprConfig gdprConfig,
                             List<PurposeStrategy> purposeStrategies,
                             List<SpecialFeaturesStrategy> specialFeaturesStrategies,
                             VendorListServiceV2 vendorListServiceV2,
-                            BidderCatalog bidderCatalog) {
+                            BidderCatalog bidderCatalog,
+                            VendorPermissionsCache vendorPermissionsCache) {
 
         return new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListServiceV2,
-                bidderCatalog);
+                bidderCatalog, vendorPermissionsCache);
     }
 
     @Bean
@@ -6,10 +6,13 @@ import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.net.JksOptions;
+import org.prebid.server.auction.AdaptiveBidderTimeoutResolver;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderLatencyTracker;
 import org.prebid.server.auction.DebugResolver;
+import org.prebid.server.auction.EarlyAuctionCompletionPolicy;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.FpdResolver;
 import org.prebid.server.auction.ImplicitParametersExtractor;
@@ -62,7 +65,10 @@ import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.util.BidderHttpClientOptionsCreator;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -90,7 +96,9 @@ import javax.validation.constraints.Min;
 import java.io.IOException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -412,8 +420,11 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    BasicHttpClient basicHttpClient(Vertx vertx,
+                                    HttpClientProperties httpClientProperties,
+                                    List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
+        return createBasicHttpClient(vertx, httpClientProperties, bidderConfigurationProperties);
     }
 
     @Bean
@@ -430,11 +441,13 @@ public class ServiceConfiguration {
             Vertx vertx,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
+            List<BidderConfigurationProperties> bidderConfigurationProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
                     HttpClientCircuitBreakerProperties circuitBreakerProperties,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(
+                vertx, httpClientProperties, bidderConfigurationProperties);
 
         return new CircuitBreakerSecuredHttpClient(
                 vertx,
@@ -447,7 +460,11 @@ public class ServiceConfiguration {
                 clock);
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static BasicHttpClient createBasicHttpClient(
+            Vertx vertx,
+            HttpClientProperties httpClientProperties,
+            List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -469,7 +486,12 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        final Map<String, io.vertx.core.http.HttpClient> hostToHttpClient = new HashMap<>();
+        BidderHttpClientOptionsCreator.hostToProperties(bidderConfigurationProperties).forEach(
+                (host, properties) -> hostToHttpClient.put(host,
+                        vertx.createHttpClient(BidderHttpClientOptionsCreator.create(options, properties))));
+
+        return new BasicHttpClient(vertx, vertx.createHttpClient(options), hostToHttpClient);
     }
 
     @Bean
@@ -481,6 +503,7 @@ public class ServiceConfiguration {
             @Value("${host-cookie.domain:#{null}}") String hostCookieDomain,
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
+            @Value("${host-cookie.uids-cache-size:0}") int uidsCacheSize,
             JacksonMapper mapper) {
 
         return new UidsCookieService(
@@ -491,6 +514,7 @@ public class ServiceConfiguration {
                 hostCookieDomain,
                 ttlDays,
                 maxCookieSizeBytes,
+                uidsCacheSize,
                 mapper);
     }
 
@@ -597,7 +621,10 @@ public class ServiceConfiguration {
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper,
-            CriteriaLogManager criteriaLogManager) {
+            CriteriaLogManager criteriaLogManager,
+            BidderLatencyTracker bidderLatencyTracker,
+            @Autowired(required = false) EarlyAuctionCompletionPolicy earlyAuctionCompletionPolicy,
+            @Autowired(required = false) AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver) {
 
         return new ExchangeService(
                 expectedCacheTimeMs,
@@ -618,7 +645,42 @@ public class ServiceConfiguration {
                 metrics,
                 clock,
                 mapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                earlyAuctionCompletionPolicy,
+                adaptiveBidderTimeoutResolver);
+    }
+
+    @Bean
+    BidderLatencyTracker bidderLatencyTracker(
+            @Value("${auction.bidder-latency.refresh-period-ms}") long refreshPeriodMs,
+            @Value("${auction.bidder-latency.min-samples}") int minSamples,
+            Clock clock) {
+
+        return new BidderLatencyTracker(clock, refreshPeriodMs, minSamples);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.early-completion", name = "enabled", havingValue = "true")
+    EarlyAuctionCompletionPolicy earlyAuctionCompletionPolicy(
+            @Value("${auction.early-completion.quorum}") double quorum,
+            @Value("${auction.early-completion.latency-percentile}") double latencyPercentile,
+            Vertx vertx,
+            Clock clock,
+            BidderLatencyTracker bidderLatencyTracker) {
+
+        return new EarlyAuctionCompletionPolicy(vertx, clock, bidderLatencyTracker, quorum, latencyPercentile);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.adaptive-bidder-timeout", name = "enabled", havingValue = "true")
+    AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver(
+            @Value("${auction.adaptive-bidder-timeout.latency-percentile}") double latencyPercentile,
+            @Value("${auction.adaptive-bidder-timeout.margin-ms}") long marginMs,
+            @Value("${auction.adaptive-bidder-timeout.min-timeout-ms}") long minTimeoutMs,
+            BidderLatencyTracker bidderLatencyTracker) {
+
+        return new AdaptiveBidderTimeoutResolver(bidderLatencyTracker, latencyPercentile, marginMs, minTimeoutMs);
     }
 
     @Bean
@@ -631,7 +693,8 @@ public class ServiceConfiguration {
             Metrics metrics,
             TimeoutFactory timeoutFactory,
             JacksonMapper mapper,
-            JsonMerger jsonMerger) {
+            JsonMerger jsonMerger,
+            ParsedStoredDataCache parsedStoredDataCache) {
 
         return new StoredRequestProcessor(
                 defaultTimeoutMs,
@@ -643,7 +706,17 @@ public class ServiceConfiguration {
                 metrics,
                 timeoutFactory,
                 mapper,
-                jsonMerger);
+                jsonMerger,
+                parsedStoredDataCache);
+    }
+
+    @Bean
+    ParsedStoredDataCache parsedStoredDataCache(
+            @Value("${settings.parsed-stored-data-cache.max-size-bytes}") long maxSizeBytes,
+            JacksonMapper mapper,
+            Metrics metrics) {
+
+        return new ParsedStoredDataCache(maxSizeBytes, mapper, metrics);
     }
 
     @Bean
@@ -701,8 +774,12 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper,
+            @Value("${auction.validations.bidder-params-cache-size}") long bidderParamsCacheSize) {
+
+        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper, bidderParamsCacheSize);
     }
 
     @Bean
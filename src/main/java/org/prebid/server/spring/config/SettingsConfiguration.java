@@ -83,16 +83,22 @@ public class SettingsConfiguration {
                 @Value("${settings.database.stored-requests-query}") String storedRequestsQuery,
                 @Value("${settings.database.amp-stored-requests-query}") String ampStoredRequestsQuery,
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
+                @Value("${settings.database.stored-requests-batching.window-ms}") long batchWindowMs,
+                @Value("${settings.database.stored-requests-batching.max-ids}") int batchMaxIds,
                 JdbcClient jdbcClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                Vertx vertx) {
 
             return new JdbcApplicationSettings(
                     jdbcClient,
                     jacksonMapper,
+                    vertx,
                     accountQuery,
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    batchWindowMs,
+                    batchMaxIds);
         }
 
         @Bean
@@ -358,7 +364,9 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
-                Metrics metrics) {
+                Metrics metrics,
+                TimeoutFactory timeoutFactory,
+                Clock clock) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -366,8 +374,12 @@ public class SettingsConfiguration {
                     ampCache,
                     videoCache,
                     metrics,
+                    timeoutFactory,
+                    clock,
                     cacheProperties.getTtlSeconds(),
-                    cacheProperties.getCacheSize());
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAfterWriteSeconds(),
+                    cacheProperties.getRefreshTimeoutMs());
         }
     }
 
@@ -419,5 +431,9 @@ public class SettingsConfiguration {
         @NotNull
         @Min(1)
         private Integer cacheSize;
+        @Min(0)
+        private int refreshAfterWriteSeconds;
+        @Min(1)
+        private long refreshTimeoutMs = 1000L;
     }
 }
@@ -8,23 +8,41 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.util.BidderHttpClientOptionsCreator;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.LocalMessageCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.regex.Pattern;
+
 @Configuration
 public class VertxConfiguration {
 
     @Bean
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
-                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics) {
+                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
+                @Value("${metrics.hdr-histogram.enabled}") boolean hdrHistogramEnabled,
+                @Value("${metrics.hdr-histogram.window-seconds}") long hdrHistogramWindowSeconds,
+                List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
+        // Vert.x metrics are registered in the same registry, so it should be created first
+        MetricsConfiguration.sharedMetricRegistry(hdrHistogramEnabled, hdrHistogramWindowSeconds);
+
         final DropwizardMetricsOptions metricsOptions = new DropwizardMetricsOptions()
                 .setEnabled(true)
                 .setRegistryName(MetricsConfiguration.METRIC_REGISTRY_NAME);
         if (enablePerClientEndpointMetrics) {
             metricsOptions.addMonitoredHttpClientEndpoint(new Match().setValue(".*").setType(MatchType.REGEX));
+        } else {
+            // connection pools configured per bidder are always monitored
+            BidderHttpClientOptionsCreator.hostToProperties(bidderConfigurationProperties).keySet()
+                    .forEach(host -> metricsOptions.addMonitoredHttpClientEndpoint(new Match()
+                            .setValue(Pattern.quote(host) + ":\\d+")
+                            .setType(MatchType.REGEX)));
         }
 
         final VertxOptions vertxOptions = new VertxOptions()
@@ -145,6 +145,8 @@ public class WebConfiguration {
 
     @Bean("router")
     Router router(BodyHandler bodyHandler,
+                  @Value("${vertx.uploads-dir}") String uploadsDir,
+                  @Value("${auction.max-request-size}") int maxRequestSize,
                   NoCacheHandler noCacheHandler,
                   CorsHandler corsHandler,
                   org.prebid.server.handler.openrtb2.AuctionHandler openrtbAuctionHandler,
@@ -164,6 +166,15 @@ public class WebConfiguration {
                   StaticHandler staticHandler) {
 
         final Router router = Router.router(vertx);
+
+        // auction requests exceeding max size are rejected while being received, not after whole body is buffered
+        final BodyHandler auctionBodyHandler = BodyHandler.create(uploadsDir)
+                .setBodyLimit(maxRequestSize)
+                .setPreallocateBodyBuffer(true);
+        router.post("/openrtb2/auction").handler(auctionBodyHandler);
+        router.get("/openrtb2/amp").handler(auctionBodyHandler);
+        router.post("/openrtb2/video").handler(auctionBodyHandler);
+
         router.route().handler(bodyHandler);
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
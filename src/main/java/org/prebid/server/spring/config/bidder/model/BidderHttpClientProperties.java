@@ -0,0 +1,31 @@
+package org.prebid.server.spring.config.bidder.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderHttpClientProperties {
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    private Boolean http2;
+
+    @Min(1)
+    private Integer http2MaxPoolSize;
+
+    @Min(1)
+    private Integer http2MultiplexingLimit;
+
+    private Boolean keepAlive;
+
+    private Boolean pipelining;
+
+    @Min(1)
+    private Integer pipeliningLimit;
+}
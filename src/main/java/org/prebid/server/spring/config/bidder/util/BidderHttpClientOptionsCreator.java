@@ -0,0 +1,88 @@
+package org.prebid.server.spring.config.bidder.util;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates options of dedicated HTTP clients for bidders having their own connection pool configuration.
+ */
+public class BidderHttpClientOptionsCreator {
+
+    private BidderHttpClientOptionsCreator() {
+    }
+
+    /**
+     * Returns HTTP client configuration of enabled bidders by their endpoint host.
+     * <p>
+     * Bidders with templated endpoint host cannot have dedicated pool, if few bidders share the same host,
+     * configuration of the first one is used.
+     */
+    public static Map<String, BidderHttpClientProperties> hostToProperties(
+            List<BidderConfigurationProperties> bidderConfigurationProperties) {
+
+        final Map<String, BidderHttpClientProperties> hostToProperties = new HashMap<>();
+        for (BidderConfigurationProperties properties : bidderConfigurationProperties) {
+            final String host = properties.getHttpClient() != null && Boolean.TRUE.equals(properties.getEnabled())
+                    ? host(properties.getEndpoint())
+                    : null;
+            if (host != null) {
+                hostToProperties.putIfAbsent(host, properties.getHttpClient());
+            }
+        }
+        return hostToProperties;
+    }
+
+    /**
+     * Returns copy of default options overridden by bidder's HTTP client configuration.
+     */
+    public static HttpClientOptions create(HttpClientOptions defaultOptions, BidderHttpClientProperties properties) {
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions);
+
+        if (properties.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(properties.getMaxPoolSize());
+        }
+        if (properties.getKeepAlive() != null) {
+            options.setKeepAlive(properties.getKeepAlive());
+        }
+        if (properties.getPipelining() != null) {
+            options.setPipelining(properties.getPipelining());
+        }
+        if (properties.getPipeliningLimit() != null) {
+            options.setPipeliningLimit(properties.getPipeliningLimit());
+        }
+        if (Boolean.TRUE.equals(properties.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(options.isSsl())
+                    .setHttp2ClearTextUpgrade(false);
+        }
+        if (properties.getHttp2MaxPoolSize() != null) {
+            options.setHttp2MaxPoolSize(properties.getHttp2MaxPoolSize());
+        }
+        if (properties.getHttp2MultiplexingLimit() != null) {
+            options.setHttp2MultiplexingLimit(properties.getHttp2MultiplexingLimit());
+        }
+
+        return options;
+    }
+
+    private static String host(String endpoint) {
+        final String host;
+        try {
+            host = new URL(endpoint).getHost();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+
+        return StringUtils.isBlank(host) || StringUtils.containsAny(host, '{', '}') ? null : host.toLowerCase();
+    }
+}
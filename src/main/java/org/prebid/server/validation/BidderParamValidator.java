@@ -1,10 +1,13 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.ValidationMessage;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
@@ -13,6 +16,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -22,28 +26,64 @@ import java.util.stream.Collectors;
 /**
  * This Component aimed to validate <i>bidrequest.imp[i].ext.{bidder}</i> portion of bidRequest. It relies on
  * JSON schemas that need to be located as resources on classpath.
+ * <p>
+ * Bidder params produced by stored requests are the same for many requests, so validation results can be cached
+ * by bidder and params. Params are controlled by the request and kept in cache as its keys, so only small ones
+ * (as stored requests usually have) are cached to keep cache memory bounded.
  */
 public class BidderParamValidator {
 
     private static final JsonSchemaFactory SCHEMA_FACTORY = new JsonSchemaFactory();
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
+    private static final int MAX_CACHED_PARAMS_LENGTH = 512;
 
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Cache<BidderParams, Set<String>> cache;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas, long cacheMaxSize) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.cache = cacheMaxSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheMaxSize).build()
+                : null;
     }
 
     /**
-     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema.
+     * <p>
+     * Returned set must not be modified.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        if (cache == null || jsonNode == null) {
+            return validateBySchema(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = cache.getIfPresent(BidderParams.of(bidder, jsonNode));
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = validateBySchema(bidder, jsonNode);
+        if (isCacheable(jsonNode)) {
+            // params node is copied since it belongs to the request and can be modified after validation
+            cache.put(BidderParams.of(bidder, jsonNode.deepCopy()), messages);
+        }
+        return messages;
+    }
+
+    private static boolean isCacheable(JsonNode jsonNode) {
+        return jsonNode.toString().length() <= MAX_CACHED_PARAMS_LENGTH;
+    }
+
+    private Set<String> validateBySchema(String bidder, JsonNode jsonNode) {
+        final Set<ValidationMessage> validationMessages = bidderSchemas.get(bidder).validate(jsonNode);
+        return validationMessages.isEmpty()
+                ? Collections.emptySet()
+                : validationMessages.stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
     }
 
     /**
@@ -78,6 +118,20 @@ public class BidderParamValidator {
     public static BidderParamValidator create(
             BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper) {
 
+        return create(bidderCatalog, schemaDirectory, mapper, 0);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} caching validation results of up to the given number
+     * of distinct bidder params, zero disables caching. Params longer than 512 characters being serialized
+     * are never cached.
+     */
+    public static BidderParamValidator create(
+            BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper, long cacheMaxSize) {
+
+        if (cacheMaxSize < 0) {
+            throw new IllegalArgumentException("Bidder params cache max size must be non-negative");
+        }
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
@@ -87,7 +141,8 @@ public class BidderParamValidator {
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper),
+                cacheMaxSize);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -145,4 +200,12 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class BidderParams {
+
+        String bidder;
+
+        JsonNode params;
+    }
 }
@@ -20,6 +20,11 @@ public class CircuitBreaker {
 
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
 
+    /**
+     * Disables execution timeout, so no timer is scheduled per execution.
+     */
+    public static final long NO_TIMEOUT = -1L;
+
     private final io.vertx.circuitbreaker.CircuitBreaker breaker;
     private final Vertx vertx;
     private final long openingIntervalMs;
@@ -34,10 +39,27 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
+        this(name, vertx, openingThreshold, openingIntervalMs, closingIntervalMs,
+                CircuitBreakerOptions.DEFAULT_TIMEOUT, clock);
+    }
+
+    /**
+     * Creates circuit breaker failing executions not completed within given timeout, {@link #NO_TIMEOUT} should be
+     * used only for operations which enforce their own timeouts.
+     */
+    public CircuitBreaker(String name,
+                          Vertx vertx,
+                          int openingThreshold,
+                          long openingIntervalMs,
+                          long closingIntervalMs,
+                          long timeoutMs,
+                          Clock clock) {
+
         breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
                 Objects.requireNonNull(name),
                 Objects.requireNonNull(vertx),
                 new CircuitBreakerOptions()
+                        .setTimeout(timeoutMs)
                         .setNotificationPeriod(0)
                         .setMaxFailures(openingThreshold)
                         .setResetTimeout(closingIntervalMs));
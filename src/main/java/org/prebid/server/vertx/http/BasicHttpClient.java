@@ -9,21 +9,37 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to hosts having dedicated Vert.x {@link io.vertx.core.http.HttpClient} (e.g. tuned connection pool
+ * of a bidder) are sent through it, all others - through the default one.
  */
 public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, io.vertx.core.http.HttpClient> hostToHttpClient;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, Collections.emptyMap());
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           Map<String, io.vertx.core.http.HttpClient> hostToHttpClient) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.hostToHttpClient = hostToHttpClient.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().toLowerCase(), Map.Entry::getValue));
     }
 
     @Override
@@ -49,7 +65,7 @@ public class BasicHttpClient implements HttpClient {
         } else {
             final HttpClientRequest httpClientRequest;
             try {
-                httpClientRequest = httpClient.requestAbs(method, url);
+                httpClientRequest = httpClientFor(url).requestAbs(method, url);
             } catch (Exception e) {
                 failResponse(e, promise);
                 return promise.future();
@@ -77,6 +93,31 @@ public class BasicHttpClient implements HttpClient {
         return promise.future();
     }
 
+    private io.vertx.core.http.HttpClient httpClientFor(String url) {
+        if (hostToHttpClient.isEmpty() || url == null) {
+            return httpClient;
+        }
+
+        final int schemeEnd = url.indexOf("://");
+        if (schemeEnd < 0) {
+            return httpClient;
+        }
+
+        final int hostStart = schemeEnd + 3;
+        int hostEnd = hostStart;
+        while (hostEnd < url.length()) {
+            final char c = url.charAt(hostEnd);
+            if (c == ':' || c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            hostEnd++;
+        }
+
+        final io.vertx.core.http.HttpClient hostHttpClient =
+                hostToHttpClient.get(url.substring(hostStart, hostEnd).toLowerCase());
+        return hostHttpClient != null ? hostHttpClient : httpClient;
+    }
+
     private void handleTimeout(Promise<HttpClientResponse> promise,
                                long timeoutMs,
                                HttpClientRequest httpClientRequest) {
@@ -93,15 +134,15 @@ public class BasicHttpClient implements HttpClient {
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
                                 Promise<HttpClientResponse> promise, long timerId) {
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .bodyHandler(buffer -> successResponse(buffer.getBytes(), response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void successResponse(byte[] body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.ofBytes(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
@@ -92,6 +92,8 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
+                // secured operation has its own timeout, so timer per execution is not needed
+                CircuitBreaker.NO_TIMEOUT,
                 Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened(name))
                 .halfOpenHandler(ignored -> circuitHalfOpened(name))
@@ -123,8 +125,39 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {0} becomes succeeded, circuit closed.", name);
     }
 
+    /**
+     * Returns scheme, host and port of the given URL.
+     * <p>
+     * Since it is called for each request, the URL is not parsed unless it contains user info or has no scheme.
+     */
     private static String nameFrom(String urlAsString) {
-        final URL url = parseUrl(urlAsString);
+        final int schemeEnd = urlAsString.indexOf("://");
+        if (schemeEnd <= 0) {
+            return nameFrom(parseUrl(urlAsString));
+        }
+
+        final int length = urlAsString.length();
+        int authorityEnd = schemeEnd + 3;
+        while (authorityEnd < length) {
+            final char c = urlAsString.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            } else if (c == '@') {
+                return nameFrom(parseUrl(urlAsString));
+            }
+            authorityEnd++;
+        }
+
+        for (int i = 0; i < schemeEnd; i++) {
+            if (Character.isUpperCase(urlAsString.charAt(i))) {
+                return nameFrom(parseUrl(urlAsString));
+            }
+        }
+
+        return authorityEnd == length ? urlAsString : urlAsString.substring(0, authorityEnd);
+    }
+
+    private static String nameFrom(URL url) {
         return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
     }
 
@@ -1,15 +1,22 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.Value;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body is kept as received bytes, so consumers able to parse bytes directly (see {@link #getBodyBytes()})
+ * don't pay for intermediate {@link String}, which is decoded lazily on the first {@link #getBody()} call.
  */
-@AllArgsConstructor(staticName = "of")
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Value
 public class HttpClientResponse {
 
@@ -17,5 +24,16 @@ public class HttpClientResponse {
 
     MultiMap headers;
 
-    String body;
+    byte[] bodyBytes;
+
+    @Getter(lazy = true)
+    String body = bodyBytes != null ? new String(bodyBytes, StandardCharsets.UTF_8) : null;
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, body != null ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    public static HttpClientResponse ofBytes(int statusCode, MultiMap headers, byte[] body) {
+        return new HttpClientResponse(statusCode, headers, body);
+    }
 }
@@ -44,6 +44,8 @@ public class CircuitBreakerSecuredJdbcClient implements JdbcClient {
                 openingThreshold,
                 openingIntervalMs,
                 closingIntervalMs,
+                // secured operation has its own timeout, so timer per execution is not needed
+                CircuitBreaker.NO_TIMEOUT,
                 Objects.requireNonNull(clock))
                 .openHandler(ignored -> circuitOpened())
                 .halfOpenHandler(ignored -> circuitHalfOpened())
@@ -2,11 +2,14 @@ package org.prebid.server.analytics.pubstack;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -14,25 +17,33 @@ import org.prebid.server.VertxTest;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
 import org.prebid.server.analytics.pubstack.model.PubstackAnalyticsProperties;
+import org.prebid.server.analytics.sink.AnalyticsBatchBuffer;
+import org.prebid.server.analytics.sink.RingBuffer;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.deals.model.DeepDebugLog;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -46,24 +57,33 @@ public class PubstackEventHandlerTest extends VertxTest {
     @Mock
     private Vertx vertx;
 
+    @Mock
+    private Context context;
+
     @Mock
     private HttpClient httpClient;
 
+    @Mock
+    private Metrics metrics;
+
     private PubstackEventHandler pubstackEventHandler;
 
     @Before
     public void setUp() {
         given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
+        given(vertx.getOrCreateContext()).willReturn(context);
+        willRunOnContextImmediately();
         final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
                 .endpoint("http://endpoint.com")
                 .scopeId("scopeId")
                 .sizeBytes(100000)
                 .count(100)
+                .capacity(1024)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
     }
 
     @Test
@@ -74,20 +94,19 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .scopeId("scopeId")
                 .sizeBytes(1)
                 .count(1)
+                .capacity(1024)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, false, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
 
         // then
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
-        assertThat(events.get()).isEmpty();
+        final RingBuffer<?> events = (RingBuffer<?>) ReflectionTestUtils.getField(pubstackEventHandler, "events");
+        assertThat(events.poll()).isNull();
         verifyNoInteractions(httpClient);
     }
 
@@ -98,16 +117,59 @@ public class PubstackEventHandlerTest extends VertxTest {
         pubstackEventHandler.handle(setuidEvent);
 
         // then
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        @SuppressWarnings("unchecked") final AtomicReference<Set<String>> events =
-                (AtomicReference<Set<String>>) ReflectionTestUtils
-                        .getField(pubstackEventHandler, "events");
         final ObjectNode eventJsonNode = mapper.valueToTree(setuidEvent);
         eventJsonNode.put("scope", "scopeId");
         final String eventJsonRow = mapper.writeValueAsString(eventJsonNode);
-        assertThat(byteSize.get()).isEqualTo(eventJsonRow.getBytes().length);
-        assertThat(events.get()).hasSize(1)
-                .containsOnly(eventJsonRow);
+        final Object batch = ReflectionTestUtils.getField(pubstackEventHandler, "batch");
+        assertThat(ReflectionTestUtils.getField(batch, "sizeBytes")).isEqualTo((long) eventJsonRow.getBytes().length);
+        assertThat(ReflectionTestUtils.getField(batch, "eventCount")).isEqualTo(1);
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    public void reportEventsShouldSendGzippedEventsSeparatedByNewLine() throws IOException {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder2").build());
+
+        // when
+        pubstackEventHandler.reportEvents();
+
+        // then
+        final ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(httpClient).request(any(), eq("http://example.com"), any(), bodyCaptor.capture(), eq(5000L));
+        assertThat(gunzip(bodyCaptor.getValue())).isEqualTo(
+                "{\"bidder\":\"bidder1\",\"scope\":\"scopeId\"}\n{\"bidder\":\"bidder2\",\"scope\":\"scopeId\"}");
+    }
+
+    @Test
+    public void handleShouldDropEventAndUpdateMetricWhenBufferIsFull() {
+        // given
+        final PubstackAnalyticsProperties properties = PubstackAnalyticsProperties.builder()
+                .endpoint("http://endpoint.com")
+                .scopeId("scopeId")
+                .sizeBytes(100000)
+                .count(100)
+                .capacity(2)
+                .reportTtlMs(10000L)
+                .timeoutMs(5000L)
+                .build();
+        // events are not drained until handler's context runs
+        willDoNothing().given(context).runOnContext(any());
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
+
+        // when
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder2").build());
+        pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder3").build());
+
+        // then
+        verify(metrics).updateAnalyticEventMetric("pubstack", MetricName.event_setuid, MetricName.dropped);
+        verifyNoInteractions(httpClient);
     }
 
     @Test
@@ -118,11 +180,12 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .scopeId("scopeId")
                 .sizeBytes(20)
                 .count(100)
+                .capacity(1024)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -139,11 +202,12 @@ public class PubstackEventHandlerTest extends VertxTest {
                 .scopeId("scopeId")
                 .sizeBytes(20000)
                 .count(1)
+                .capacity(1024)
                 .reportTtlMs(10000L)
                 .timeoutMs(5000L)
                 .build();
-        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com", jacksonMapper,
-                httpClient, vertx);
+        pubstackEventHandler = new PubstackEventHandler(properties, true, "http://example.com",
+                MetricName.event_setuid, jacksonMapper, httpClient, metrics, vertx);
 
         // when
         pubstackEventHandler.handle(SetuidEvent.builder().bidder("bidder1").build());
@@ -185,8 +249,9 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx).cancelTimer(anyLong());
         // one time in constructor and second after the send request
         verify(vertx, times(2)).setTimer(anyLong(), any());
-        final AtomicLong byteSize = (AtomicLong) ReflectionTestUtils.getField(pubstackEventHandler, "byteSize");
-        assertThat(byteSize.get()).isEqualTo(0);
+        final AnalyticsBatchBuffer batch =
+                (AnalyticsBatchBuffer) ReflectionTestUtils.getField(pubstackEventHandler, "batch");
+        assertThat(batch.isEmpty()).isTrue();
         final Long currentTimerId = (Long) ReflectionTestUtils.getField(pubstackEventHandler,
                 "reportTimerId");
         assertThat(currentTimerId).isEqualTo(2);
@@ -227,4 +292,18 @@ public class PubstackEventHandlerTest extends VertxTest {
         verify(vertx, times(2)).setTimer(anyLong(), any());
         verify(vertx).cancelTimer(anyLong());
     }
+
+    @SuppressWarnings("unchecked")
+    private void willRunOnContextImmediately() {
+        willAnswer(invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        }).given(context).runOnContext(any());
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzipInput = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzipInput.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
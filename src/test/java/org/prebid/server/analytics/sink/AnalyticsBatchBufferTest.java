@@ -0,0 +1,102 @@
+package org.prebid.server.analytics.sink;
+
+import org.junit.Test;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalyticsBatchBufferTest {
+
+    @Test
+    public void finishShouldReturnEventsSeparatedByNewLine() {
+        // given
+        final AnalyticsBatchBuffer batchBuffer = new AnalyticsBatchBuffer(100, 100, false);
+        batchBuffer.append(bytes("first"));
+        batchBuffer.append(bytes("second"));
+
+        // when
+        final AnalyticsBatch result = batchBuffer.finish();
+
+        // then
+        assertThat(result).isEqualTo(AnalyticsBatch.of(bytes("first\nsecond"), 2, false));
+        assertThat(batchBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void finishShouldReturnGzippedEventsAndStartNewBatch() throws IOException {
+        // given
+        final AnalyticsBatchBuffer batchBuffer = new AnalyticsBatchBuffer(100, 100, true);
+        batchBuffer.append(bytes("first"));
+        batchBuffer.append(bytes("second"));
+
+        // when
+        final AnalyticsBatch first = batchBuffer.finish();
+        batchBuffer.append(bytes("third"));
+        final AnalyticsBatch second = batchBuffer.finish();
+
+        // then
+        assertThat(first.isGzipped()).isTrue();
+        assertThat(first.getEventCount()).isEqualTo(2);
+        assertThat(gunzip(first.getContent())).isEqualTo("first\nsecond");
+        assertThat(gunzip(second.getContent())).isEqualTo("third");
+    }
+
+    @Test
+    public void isFullShouldBeTrueWhenMaxSizeIsReached() {
+        // given
+        final AnalyticsBatchBuffer batchBuffer = new AnalyticsBatchBuffer(10, 100, true);
+
+        // when
+        batchBuffer.append(bytes("12345"));
+        final boolean notFull = batchBuffer.isFull();
+        batchBuffer.append(bytes("67890"));
+
+        // then
+        assertThat(notFull).isFalse();
+        assertThat(batchBuffer.isFull()).isTrue();
+    }
+
+    @Test
+    public void isFullShouldBeTrueWhenMaxEventsIsReached() {
+        // given
+        final AnalyticsBatchBuffer batchBuffer = new AnalyticsBatchBuffer(100, 2, false);
+
+        // when
+        batchBuffer.append(bytes("1"));
+        final boolean notFull = batchBuffer.isFull();
+        batchBuffer.append(bytes("2"));
+
+        // then
+        assertThat(notFull).isFalse();
+        assertThat(batchBuffer.isFull()).isTrue();
+    }
+
+    @Test
+    public void discardShouldDropCurrentBatch() {
+        // given
+        final AnalyticsBatchBuffer batchBuffer = new AnalyticsBatchBuffer(100, 100, true);
+        batchBuffer.append(bytes("dropped"));
+
+        // when
+        batchBuffer.discard();
+
+        // then
+        assertThat(batchBuffer.isEmpty()).isTrue();
+        assertThat(batchBuffer.isFull()).isFalse();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzipInput = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzipInput.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+import org.prebid.server.analytics.sink.model.BatchedAnalyticsSinkProperties;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class BatchedAnalyticsSinkTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private AnalyticsSinkTarget target;
+
+    @Mock
+    private Metrics metrics;
+
+    @Mock
+    private AnalyticsBatchBuffer batchBuffer;
+
+    @Before
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(target.send(any())).willReturn(Future.succeededFuture());
+        willRunOnContextImmediately();
+        willExecuteBlockingImmediately();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveLinger() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> createSink(givenProperties(10, 100, 10, 0L, false)))
+                .withMessage("Analytics sink linger must be positive");
+    }
+
+    @Test
+    public void creationShouldSetPeriodicFlush() {
+        // when
+        createSink(givenProperties(10, 100, 10, 5000L, false));
+
+        // then
+        verify(vertx).setPeriodic(eq(5000L), any());
+    }
+
+    @Test
+    public void acceptShouldSendBatchWhenItReachesMaxEvents() {
+        // given
+        final BatchedAnalyticsSink sink = createSink(givenProperties(10, 1000, 2, 5000L, false));
+
+        // when
+        sink.accept("event1");
+        sink.accept("event2");
+        sink.accept("event3");
+
+        // then
+        final ArgumentCaptor<AnalyticsBatch> batchCaptor = ArgumentCaptor.forClass(AnalyticsBatch.class);
+        verify(target).send(batchCaptor.capture());
+        assertThat(batchCaptor.getValue().getEventCount()).isEqualTo(2);
+        assertThat(new String(batchCaptor.getValue().getContent(), StandardCharsets.UTF_8))
+                .isEqualTo("event1\nevent2");
+    }
+
+    @Test
+    public void acceptShouldSendBatchWhenItReachesMaxSize() {
+        // given
+        final BatchedAnalyticsSink sink = createSink(givenProperties(10, 12, 100, 5000L, false));
+
+        // when
+        sink.accept("event1");
+        sink.accept("event2");
+
+        // then
+        verify(target).send(any());
+    }
+
+    @Test
+    public void flushShouldSendGzippedNotFullBatch() throws IOException {
+        // given
+        final BatchedAnalyticsSink sink = createSink(givenProperties(10, 1000, 100, 5000L, true));
+        sink.accept("event1");
+        sink.accept("event2");
+        verifyNoInteractions(target);
+
+        // when
+        sink.flush();
+
+        // then
+        final ArgumentCaptor<AnalyticsBatch> batchCaptor = ArgumentCaptor.forClass(AnalyticsBatch.class);
+        verify(target).send(batchCaptor.capture());
+        assertThat(batchCaptor.getValue().isGzipped()).isTrue();
+        assertThat(gunzip(batchCaptor.getValue().getContent())).isEqualTo("event1\nevent2");
+    }
+
+    @Test
+    public void flushShouldNotSendEmptyBatch() {
+        // given
+        final BatchedAnalyticsSink sink = createSink(givenProperties(10, 1000, 100, 5000L, true));
+
+        // when
+        sink.flush();
+
+        // then
+        verifyNoInteractions(target);
+    }
+
+    @Test
+    public void acceptShouldDropEventAndUpdateMetricWhenBufferIsFull() {
+        // given
+        willDoNothing().given(context).executeBlocking(any(), anyBoolean(), any());
+        final BatchedAnalyticsSink sink = createSink(givenProperties(2, 1000, 100, 5000L, false));
+
+        // when
+        sink.accept("event1");
+        sink.accept("event2");
+        sink.accept("event3");
+
+        // then
+        verify(metrics).updateAnalyticReporterMetric("test", MetricName.dropped);
+        // the first event schedules encoding, others wait for it
+        verify(context).executeBlocking(any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void acceptShouldSkipEventWhichFailedToEncode() {
+        // given
+        final BatchedAnalyticsSink sink = new BatchedAnalyticsSink("test", givenProperties(10, 1000, 1, 5000L, false),
+                event -> {
+                    if ("invalid".equals(event)) {
+                        throw new IllegalStateException("invalid event");
+                    }
+                    return ((String) event).getBytes(StandardCharsets.UTF_8);
+                },
+                target, metrics, vertx);
+
+        // when
+        sink.accept("invalid");
+        sink.accept("valid");
+
+        // then
+        final ArgumentCaptor<AnalyticsBatch> batchCaptor = ArgumentCaptor.forClass(AnalyticsBatch.class);
+        verify(target).send(batchCaptor.capture());
+        assertThat(batchCaptor.getValue().getContent()).isEqualTo("valid".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void acceptShouldUpdateMetricWhenBatchFailedToBeSent() {
+        // given
+        given(target.send(any())).willReturn(Future.failedFuture("failed"));
+        final BatchedAnalyticsSink sink = createSink(givenProperties(10, 1000, 1, 5000L, false));
+
+        // when
+        sink.accept("event1");
+        sink.accept("event2");
+
+        // then
+        verify(target, times(2)).send(any());
+        verify(metrics, times(2)).updateAnalyticReporterMetric("test", MetricName.err);
+    }
+
+    @Test
+    public void flushShouldSendCompletedBatchesAndRemainingEventsWhenBatchCannotBeCompressed() {
+        // given
+        final BatchedAnalyticsSink sink = new BatchedAnalyticsSink("test", givenProperties(10, 1000, 1, 5000L, false),
+                batchBuffer, event -> ((String) event).getBytes(StandardCharsets.UTF_8), target, metrics, vertx);
+
+        final AnalyticsBatch batch1 = AnalyticsBatch.of(new byte[]{1}, 1, false);
+        final AnalyticsBatch batch3 = AnalyticsBatch.of(new byte[]{3}, 1, false);
+        willThrow(new PreBidException("Failed to compress analytics events"))
+                .given(batchBuffer).append(aryEq("event2".getBytes(StandardCharsets.UTF_8)));
+        given(batchBuffer.isFull()).willReturn(true);
+        given(batchBuffer.isEmpty()).willReturn(true);
+        given(batchBuffer.finish()).willReturn(batch1, batch3);
+
+        // events are drained together by flush
+        willDoNothing().given(context).executeBlocking(any(), anyBoolean(), any());
+        sink.accept("event1");
+        sink.accept("event2");
+        sink.accept("event3");
+        willExecuteBlockingImmediately();
+
+        // when
+        sink.flush();
+
+        // then
+        verify(target).send(batch1);
+        verify(target).send(batch3);
+        verify(metrics).updateAnalyticReporterMetric("test", MetricName.err);
+    }
+
+    private BatchedAnalyticsSink createSink(BatchedAnalyticsSinkProperties properties) {
+        return new BatchedAnalyticsSink("test", properties,
+                event -> ((String) event).getBytes(StandardCharsets.UTF_8), target, metrics, vertx);
+    }
+
+    private static BatchedAnalyticsSinkProperties givenProperties(int capacity, long maxBatchSizeBytes,
+                                                                  int maxBatchEvents, long lingerMs, boolean gzip) {
+        return BatchedAnalyticsSinkProperties.builder()
+                .capacity(capacity)
+                .maxBatchSizeBytes(maxBatchSizeBytes)
+                .maxBatchEvents(maxBatchEvents)
+                .lingerMs(lingerMs)
+                .gzip(gzip)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willRunOnContextImmediately() {
+        willAnswer(invocation -> {
+            ((Handler<Void>) invocation.getArgument(0)).handle(null);
+            return null;
+        }).given(context).runOnContext(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void willExecuteBlockingImmediately() {
+        willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            ((Handler<Promise<Object>>) invocation.getArgument(0)).handle(promise);
+            ((Handler<AsyncResult<Object>>) invocation.getArgument(2)).handle(promise.future());
+            return null;
+        }).given(context).executeBlocking(any(), anyBoolean(), any());
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzipInput = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzipInput.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
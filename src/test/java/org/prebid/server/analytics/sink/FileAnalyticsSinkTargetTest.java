@@ -0,0 +1,70 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+public class FileAnalyticsSinkTargetTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private FileSystem fileSystem;
+
+    private FileAnalyticsSinkTarget target;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC);
+        target = new FileAnalyticsSinkTarget(fileSystem, "/tmp/analytics", clock);
+    }
+
+    @Test
+    public void creationShouldCreateDirectory() {
+        verify(fileSystem).mkdirsBlocking("/tmp/analytics");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sendShouldWriteEachBatchToSeparateFile() {
+        // given
+        willAnswer(invocation -> {
+            ((Handler<AsyncResult<Void>>) invocation.getArgument(2)).handle(Future.succeededFuture());
+            return fileSystem;
+        }).given(fileSystem).writeFile(anyString(), any(), any());
+
+        // when
+        final Future<Void> first = target.send(AnalyticsBatch.of(new byte[]{1}, 1, true));
+        final Future<Void> second = target.send(AnalyticsBatch.of(new byte[]{2}, 1, false));
+
+        // then
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+        verify(fileSystem).writeFile(eq(Paths.get("/tmp/analytics", "analytics-1000-1.ndjson.gz").toString()),
+                eq(Buffer.buffer(new byte[]{1})), any());
+        verify(fileSystem).writeFile(eq(Paths.get("/tmp/analytics", "analytics-1000-2.ndjson").toString()),
+                eq(Buffer.buffer(new byte[]{2})), any());
+    }
+}
@@ -0,0 +1,87 @@
+package org.prebid.server.analytics.sink;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.analytics.sink.model.AnalyticsBatch;
+import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class HttpAnalyticsSinkTargetTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private HttpClient httpClient;
+
+    private HttpAnalyticsSinkTarget target;
+
+    @Before
+    public void setUp() {
+        target = new HttpAnalyticsSinkTarget(httpClient, "http://analytics.com/events", 500L);
+    }
+
+    @Test
+    public void sendShouldPostGzippedBatchWithContentEncoding() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(204, null, null)));
+        final byte[] content = {1, 2, 3};
+
+        // when
+        final Future<Void> result = target.send(AnalyticsBatch.of(content, 2, true));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(eq(HttpMethod.POST), eq("http://analytics.com/events"), headersCaptor.capture(),
+                eq(content), eq(500L));
+        assertThat(headersCaptor.getValue().get("Content-Type")).isEqualTo("application/x-ndjson");
+        assertThat(headersCaptor.getValue().get("Content-Encoding")).isEqualTo("gzip");
+    }
+
+    @Test
+    public void sendShouldNotAddContentEncodingForPlainBatch() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        // when
+        target.send(AnalyticsBatch.of(new byte[]{1}, 1, false));
+
+        // then
+        final ArgumentCaptor<MultiMap> headersCaptor = ArgumentCaptor.forClass(MultiMap.class);
+        verify(httpClient).request(any(), anyString(), headersCaptor.capture(), (byte[]) any(), anyLong());
+        assertThat(headersCaptor.getValue().contains("Content-Encoding")).isFalse();
+    }
+
+    @Test
+    public void sendShouldFailOnNonSuccessfulStatusCode() {
+        // given
+        given(httpClient.request(any(), anyString(), any(), (byte[]) any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(503, null, null)));
+
+        // when
+        final Future<Void> result = target.send(AnalyticsBatch.of(new byte[]{1}, 1, true));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("Analytics batch was rejected with HTTP status code 503");
+    }
+}
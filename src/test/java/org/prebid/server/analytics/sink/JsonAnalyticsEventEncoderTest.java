@@ -0,0 +1,41 @@
+package org.prebid.server.analytics.sink;
+
+import lombok.Value;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.analytics.model.SetuidEvent;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonAnalyticsEventEncoderTest extends VertxTest {
+
+    private final JsonAnalyticsEventEncoder encoder = new JsonAnalyticsEventEncoder(jacksonMapper);
+
+    @Test
+    public void encodeShouldReturnEventFieldsWithEventType() {
+        // when
+        final byte[] result = encoder.encode(SetuidEvent.builder().bidder("bidder").status(200).build());
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8))
+                .isEqualTo("{\"type\":\"setuid\",\"status\":200,\"bidder\":\"bidder\"}");
+    }
+
+    @Test
+    public void encodeShouldReturnUnknownTypeForNotAnalyticsEvent() {
+        // when
+        final byte[] result = encoder.encode(new CustomEvent("value"));
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8))
+                .isEqualTo("{\"type\":\"unknown\",\"field\":\"value\"}");
+    }
+
+    @Value
+    private static class CustomEvent {
+
+        String field;
+    }
+}
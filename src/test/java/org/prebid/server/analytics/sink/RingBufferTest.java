@@ -0,0 +1,90 @@
+package org.prebid.server.analytics.sink;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class RingBufferTest {
+
+    @Test
+    public void creationShouldFailOnInvalidCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RingBuffer<>(0));
+    }
+
+    @Test
+    public void creationShouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new RingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new RingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new RingBuffer<>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    public void offerShouldRejectElementWhenBufferIsFull() {
+        // given
+        final RingBuffer<String> ringBuffer = new RingBuffer<>(2);
+
+        // when and then
+        assertThat(ringBuffer.offer("1")).isTrue();
+        assertThat(ringBuffer.offer("2")).isTrue();
+        assertThat(ringBuffer.offer("3")).isFalse();
+    }
+
+    @Test
+    public void pollShouldReturnElementsInOfferOrderAcrossLaps() {
+        // given
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(2);
+        final List<Integer> result = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            ringBuffer.offer(i);
+            result.add(ringBuffer.poll());
+        }
+
+        // then
+        assertThat(result).containsExactly(0, 1, 2, 3, 4);
+        assertThat(ringBuffer.poll()).isNull();
+    }
+
+    @Test
+    public void shouldNotLoseElementsOfferedConcurrently() throws InterruptedException {
+        // given
+        final int producers = 4;
+        final int elementsPerProducer = 10_000;
+        final RingBuffer<Integer> ringBuffer = new RingBuffer<>(producers * elementsPerProducer);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int producer = 0; producer < producers; producer++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    ringBuffer.offer(i);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        int count = 0;
+        while (ringBuffer.poll() != null) {
+            count++;
+        }
+        assertThat(count).isEqualTo(producers * elementsPerProducer);
+    }
+}
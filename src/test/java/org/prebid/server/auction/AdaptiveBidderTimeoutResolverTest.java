@@ -0,0 +1,127 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class AdaptiveBidderTimeoutResolverTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BidderLatencyTracker latencyTracker;
+
+    private Timeout auctionTimeout;
+
+    private AdaptiveBidderTimeoutResolver resolver;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        auctionTimeout = new TimeoutFactory(clock).create(500L);
+
+        resolver = new AdaptiveBidderTimeoutResolver(latencyTracker, 0.99, 50L, 100L);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidLatencyPercentile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderTimeoutResolver(latencyTracker, 2, 50L, 100L))
+                .withMessage("Latency percentile should be in range [0..1]");
+    }
+
+    @Test
+    public void creationShouldFailOnNegativeMargin() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderTimeoutResolver(latencyTracker, 0.99, -1L, 100L))
+                .withMessage("Margin and minimum timeout should be non-negative");
+    }
+
+    @Test
+    public void resolveShouldReturnAuctionTimeoutIfBidderLatencyIsUnknown() {
+        // given
+        given(latencyTracker.responseTimePercentile("bidder", 0.99)).willReturn(null);
+
+        // when
+        final Timeout result = resolver.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result).isSameAs(auctionTimeout);
+    }
+
+    @Test
+    public void resolveShouldReturnLatencyPercentilePlusMargin() {
+        // given
+        given(latencyTracker.responseTimePercentile("bidder", 0.99)).willReturn(200L);
+
+        // when
+        final Timeout result = resolver.resolve("bidder", auctionTimeout);
+
+        // then
+        verify(latencyTracker).responseTimePercentile("bidder", 0.99);
+        assertThat(result.remaining()).isEqualTo(250L);
+    }
+
+    @Test
+    public void resolveShouldNotReturnLessThanMinTimeout() {
+        // given
+        given(latencyTracker.responseTimePercentile("bidder", 0.99)).willReturn(10L);
+
+        // when
+        final Timeout result = resolver.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(100L);
+    }
+
+    @Test
+    public void resolveShouldReturnAuctionTimeoutIfBidderTimeoutExceedsIt() {
+        // given
+        given(latencyTracker.responseTimePercentile("bidder", 0.99)).willReturn(600L);
+
+        // when
+        final Timeout result = resolver.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result).isSameAs(auctionTimeout);
+    }
+
+    @Test
+    public void resolveShouldComeDownAfterSlowPeriodOnceBidderIsFastAgain() {
+        // given
+        final BidderLatencyTracker latencyTracker = new BidderLatencyTracker(
+                Clock.fixed(Instant.now(), ZoneId.systemDefault()), 0L, 10);
+        resolver = new AdaptiveBidderTimeoutResolver(latencyTracker, 0.9, 50L, 100L);
+
+        // slow period, calls timed out on the assigned timeout are not recorded
+        for (int i = 0; i < 100; i++) {
+            latencyTracker.recordResponseTime("bidder", 300);
+        }
+        assertThat(resolver.resolve("bidder", auctionTimeout).remaining()).isEqualTo(350L);
+
+        for (int i = 0; i < 10000; i++) {
+            latencyTracker.recordResponseTime("bidder", 20);
+        }
+
+        // when
+        final Timeout result = resolver.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,85 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+public class BidderLatencyTrackerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private BidderLatencyTracker latencyTracker;
+
+    @Before
+    public void setUp() {
+        latencyTracker = new BidderLatencyTracker(clock, 1000L, 10);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMinSamples() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderLatencyTracker(clock, 1000L, 0))
+                .withMessage("Minimum number of samples should be positive");
+    }
+
+    @Test
+    public void responseTimePercentileShouldReturnNullIfNothingRecorded() {
+        // when and then
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.9)).isNull();
+    }
+
+    @Test
+    public void responseTimePercentileShouldReturnNullIfNotEnoughSamples() {
+        // given
+        givenResponseTimes("bidder", 9, 100);
+
+        // when and then
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.9)).isNull();
+    }
+
+    @Test
+    public void responseTimePercentileShouldReturnPercentileInMillis() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            latencyTracker.recordResponseTime("bidder", i);
+        }
+
+        // when and then
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.9)).isEqualTo(90L);
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.5)).isEqualTo(50L);
+    }
+
+    @Test
+    public void responseTimePercentileShouldReuseSnapshotWithinRefreshPeriod() {
+        // given
+        given(clock.millis()).willReturn(0L, 999L, 1000L);
+
+        givenResponseTimes("bidder", 10, 100);
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.5)).isEqualTo(100L);
+
+        givenResponseTimes("bidder", 100, 300);
+
+        // when and then
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.5)).isEqualTo(100L);
+        assertThat(latencyTracker.responseTimePercentile("bidder", 0.5)).isEqualTo(300L);
+    }
+
+    private void givenResponseTimes(String bidder, int count, int responseTime) {
+        for (int i = 0; i < count; i++) {
+            latencyTracker.recordResponseTime(bidder, responseTime);
+        }
+    }
+}
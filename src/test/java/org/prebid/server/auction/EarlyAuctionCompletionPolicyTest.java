@@ -0,0 +1,235 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+
+import java.time.Clock;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class EarlyAuctionCompletionPolicyTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Clock clock;
+    @Mock
+    private BidderLatencyTracker latencyTracker;
+    @Mock
+    private BidderCatalog bidderCatalog;
+
+    private BidderAliases aliases;
+
+    private EarlyAuctionCompletionPolicy policy;
+
+    @Before
+    public void setUp() {
+        aliases = BidderAliases.of(null, null, bidderCatalog);
+
+        policy = new EarlyAuctionCompletionPolicy(vertx, clock, latencyTracker, 0.5, 0.9);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidQuorum() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EarlyAuctionCompletionPolicy(vertx, clock, latencyTracker, 1.5, 0.9))
+                .withMessage("Quorum should be in range [0..1]");
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidLatencyPercentile() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EarlyAuctionCompletionPolicy(vertx, clock, latencyTracker, 0.5, -0.1))
+                .withMessage("Latency percentile should be in range [0..1]");
+    }
+
+    @Test
+    public void awaitShouldReturnAllResponsesWhenAllBiddersResponded() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        given(clock.millis()).willReturn(10L);
+        given(latencyTracker.responseTimePercentile(eq("bidder2"), anyDouble())).willReturn(100L);
+        promise1.complete(givenRespondedParticipation("bidder1"));
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).containsExactly(
+                givenRespondedParticipation("bidder1"),
+                givenRespondedParticipation("bidder2"));
+    }
+
+    @Test
+    public void awaitShouldNotCompleteUntilQuorumIsReached() {
+        // given
+        policy = new EarlyAuctionCompletionPolicy(vertx, clock, latencyTracker, 1.0, 0.9);
+
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+        given(clock.millis()).willReturn(0L, 1000L);
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(latencyTracker, vertx);
+    }
+
+    @Test
+    public void awaitShouldCompleteEarlyWhenPendingBidderExceededItsLatencyPercentile() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+        given(clock.millis()).willReturn(0L, 150L);
+        given(latencyTracker.responseTimePercentile(any(), anyDouble())).willReturn(100L);
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        verify(latencyTracker).responseTimePercentile("bidder2", 0.9);
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).containsExactly(
+                givenRespondedParticipation("bidder1"),
+                givenAuctionParticipation("bidder2").with(BidderResponse.of(
+                        "bidder2",
+                        BidderSeatBid.of(emptyList(), emptyList(), singletonList(BidderError.timeout(
+                                "Timed out, auction was completed without waiting for the bidder"))),
+                        150)));
+        assertThat(result.result())
+                .extracting(AuctionParticipation::getBidderResponse)
+                .extracting(EarlyAuctionCompletionPolicy::isCompletedEarly)
+                .containsExactly(false, true);
+    }
+
+    @Test
+    public void awaitShouldWaitUntilPendingBidderIsNotExpectedToRespondAnymore() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+        given(clock.millis()).willReturn(0L, 40L, 100L);
+        given(latencyTracker.responseTimePercentile(any(), anyDouble())).willReturn(100L);
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(60L), timerHandlerCaptor.capture());
+
+        timerHandlerCaptor.getValue().handle(1L);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).hasSize(2)
+                .extracting(AuctionParticipation::getBidderResponse)
+                .extracting(BidderResponse::getResponseTime)
+                .containsExactly(0, 100);
+    }
+
+    @Test
+    public void awaitShouldWaitForBiddersWithoutLatencyStatistics() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+        given(clock.millis()).willReturn(0L, 1000L);
+        given(latencyTracker.responseTimePercentile(any(), anyDouble())).willReturn(null);
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+
+    @Test
+    public void awaitShouldFailWhenAnyBidderResponseFailed() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = policy.await(
+                asList(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                aliases);
+
+        given(latencyTracker.responseTimePercentile(any(), anyDouble())).willReturn(null);
+        promise1.fail("error");
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("error");
+    }
+
+    private static AuctionParticipation givenAuctionParticipation(String bidder) {
+        return AuctionParticipation.builder().bidder(bidder).build();
+    }
+
+    private static AuctionParticipation givenRespondedParticipation(String bidder) {
+        return givenAuctionParticipation(bidder).with(BidderResponse.of(bidder, BidderSeatBid.empty(), 0));
+    }
+}
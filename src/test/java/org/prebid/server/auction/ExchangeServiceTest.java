@@ -1,5 +1,6 @@
 package org.prebid.server.auction;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -26,6 +27,7 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.collections4.MapUtils;
 import org.junit.Before;
 import org.junit.Rule;
@@ -80,8 +82,11 @@ import org.prebid.server.hooks.v1.analytics.ResultImpl;
 import org.prebid.server.hooks.v1.analytics.TagsImpl;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
+import org.prebid.server.metric.AccountMetricsVerbosity;
+import org.prebid.server.metric.CounterType;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.model.HttpRequestContext;
@@ -149,6 +154,7 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -228,6 +234,12 @@ public class ExchangeServiceTest extends VertxTest {
     private Clock clock;
     @Mock
     private CriteriaLogManager criteriaLogManager;
+    @Mock
+    private BidderLatencyTracker bidderLatencyTracker;
+    @Mock
+    private EarlyAuctionCompletionPolicy earlyAuctionCompletionPolicy;
+    @Mock
+    private AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
 
     private ExchangeService exchangeService;
 
@@ -313,7 +325,10 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                null,
+                null);
     }
 
     @Test
@@ -338,7 +353,10 @@ public class ExchangeServiceTest extends VertxTest {
                         metrics,
                         clock,
                         jacksonMapper,
-                        criteriaLogManager))
+                        criteriaLogManager,
+                        bidderLatencyTracker,
+                        null,
+                        null))
                 .withMessage("Expected cache time should be positive");
     }
 
@@ -610,7 +628,10 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                null,
+                null);
 
         final Bidder<?> bidder1 = mock(Bidder.class);
         final Bidder<?> bidder2 = mock(Bidder.class);
@@ -2548,7 +2569,10 @@ public class ExchangeServiceTest extends VertxTest {
                 metrics,
                 clock,
                 jacksonMapper,
-                criteriaLogManager);
+                criteriaLogManager,
+                bidderLatencyTracker,
+                null,
+                null);
 
         final Bid bid = Bid.builder().id("bidId1").impid("impId1").price(BigDecimal.valueOf(5.67)).build();
         givenBidder(givenSeatBid(singletonList(givenBid(bid))));
@@ -2572,6 +2596,200 @@ public class ExchangeServiceTest extends VertxTest {
         verify(bidResponseCreator).create(anyList(), any(), any(), any());
     }
 
+    @Test
+    public void shouldPassBidderTimeoutResolvedByAdaptiveBidderTimeoutResolverIfConfigured() {
+        // given
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                debugResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                httpInteractionLogger,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager,
+                bidderLatencyTracker,
+                null,
+                adaptiveBidderTimeoutResolver);
+
+        givenBidder(givenEmptySeatBid());
+
+        final Timeout bidderTimeout = timeout.minus(300L);
+        given(adaptiveBidderTimeoutResolver.resolve(any(), any())).willReturn(bidderTimeout);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(adaptiveBidderTimeoutResolver).resolve(eq("bidder"), same(timeout));
+        verify(httpBidderRequester).requestBids(any(), any(), same(bidderTimeout), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldRecordLatencyOfBidderCallsExceptTimedOutOnes() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), BidderSeatBid.of(emptyList(), emptyList(),
+                singletonList(BidderError.timeout("Timeout period of 100ms has been exceeded"))));
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(singletonMap("bidder1", 1), identity()),
+                givenImp(singletonMap("bidder2", 2), identity())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderLatencyTracker).recordResponseTime(eq("bidder1"), anyInt());
+        verify(bidderLatencyTracker, never()).recordResponseTime(eq("bidder2"), anyInt());
+    }
+
+    @Test
+    public void shouldAwaitBidderResponsesUsingEarlyAuctionCompletionPolicyIfConfigured() {
+        // given
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                debugResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                httpInteractionLogger,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager,
+                bidderLatencyTracker,
+                earlyAuctionCompletionPolicy,
+                null);
+
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final AuctionParticipation timedOutParticipation = AuctionParticipation.builder()
+                .bidder("bidder2")
+                .bidderResponse(BidderResponse.of("bidder2", BidderSeatBid.of(emptyList(), emptyList(),
+                        singletonList(BidderError.timeout("Timed out"))), 100))
+                .build();
+        given(earlyAuctionCompletionPolicy.await(anyList(), anyList(), any()))
+                .willReturn(Future.succeededFuture(singletonList(timedOutParticipation)));
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(singletonMap("bidder1", 1), identity()),
+                givenImp(singletonMap("bidder2", 2), identity())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<List<AuctionParticipation>> participationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(earlyAuctionCompletionPolicy).await(participationsCaptor.capture(), anyList(), any());
+        assertThat(participationsCaptor.getValue())
+                .extracting(AuctionParticipation::getBidder)
+                .containsExactlyInAnyOrder("bidder1", "bidder2");
+
+        verify(metrics).updateAdapterRequestErrorMetric("bidder2", MetricName.timeout);
+        verify(bidResponseCreator).create(eq(singletonList(timedOutParticipation)), any(), any(), any());
+    }
+
+    @Test
+    public void shouldUpdateResponseTimeMetricOfBidderAuctionWasCompletedWithoutOnceItResponds() {
+        // given
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final Metrics metrics = new Metrics(metricRegistry, CounterType.counter,
+                new AccountMetricsVerbosity(AccountMetricsVerbosityLevel.none, emptyList(), emptyList()));
+        final Clock clock = mock(Clock.class);
+        final BidderLatencyTracker latencyTracker = new BidderLatencyTracker(clock, 0L, 10);
+        for (int i = 0; i < 10; i++) {
+            latencyTracker.recordResponseTime("bidder2", 100);
+        }
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                debugResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                httpInteractionLogger,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager,
+                latencyTracker,
+                earlyAuctionCompletionPolicy,
+                null);
+
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        final Promise<BidderSeatBid> bidder2Promise = Promise.promise();
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), anyBoolean()))
+                .willReturn(bidder2Promise.future());
+
+        // auction is completed without bidder2 at its current latency percentile
+        given(earlyAuctionCompletionPolicy.await(anyList(), anyList(), any())).willAnswer(invocation -> {
+            final List<AuctionParticipation> auctionParticipations = invocation.getArgument(0);
+            final List<Future<AuctionParticipation>> responseFutures = invocation.getArgument(1);
+            final List<AuctionParticipation> result = new ArrayList<>();
+            for (int i = 0; i < responseFutures.size(); i++) {
+                result.add(responseFutures.get(i).isComplete()
+                        ? responseFutures.get(i).result()
+                        : auctionParticipations.get(i).with(BidderResponse.of("bidder2",
+                        BidderSeatBid.of(emptyList(), emptyList(), singletonList(BidderError.timeout(
+                                "Timed out, auction was completed without waiting for the bidder"))),
+                        latencyTracker.responseTimePercentile("bidder2", 0.9).intValue())));
+            }
+            return Future.succeededFuture(result);
+        });
+
+        final BidRequest bidRequest = givenBidRequest(asList(
+                givenImp(singletonMap("bidder1", 1), identity()),
+                givenImp(singletonMap("bidder2", 2), identity())));
+
+        given(clock.millis()).willReturn(0L);
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // when
+        given(clock.millis()).willReturn(300L);
+        bidder2Promise.complete(givenEmptySeatBid());
+
+        // then
+        verify(bidResponseCreator).create(anyList(), any(), any(), any());
+        assertThat(metricRegistry.timer("adapter.bidder2.request_time").getSnapshot().getValues())
+                .containsExactly(TimeUnit.MILLISECONDS.toNanos(300L));
+        assertThat(latencyTracker.responseTimePercentile("bidder2", 1.0)).isEqualTo(300L);
+    }
+
     @Test
     public void shouldReturnBidsWithUpdatedPriceCurrencyConversion() {
         // given
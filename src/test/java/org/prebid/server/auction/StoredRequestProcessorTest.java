@@ -28,6 +28,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.proto.openrtb.ext.request.ExtStoredRequest;
 import org.prebid.server.settings.ApplicationSettings;
+import org.prebid.server.settings.ParsedStoredDataCache;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.VideoStoredDataResult;
 
@@ -72,6 +73,10 @@ public class StoredRequestProcessorTest extends VertxTest {
     private Metrics metrics;
     @Mock
     private TimeoutFactory timeoutFactory;
+    @Mock
+    private Metrics parsedStoredDataCacheMetrics;
+
+    private ParsedStoredDataCache parsedStoredDataCache;
 
     private StoredRequestProcessor storedRequestProcessor;
 
@@ -79,6 +84,8 @@ public class StoredRequestProcessorTest extends VertxTest {
     public void setUp() {
         given(idGenerator.generateId()).willReturn("generated-stored-id");
 
+        parsedStoredDataCache = new ParsedStoredDataCache(1024, jacksonMapper, parsedStoredDataCacheMetrics);
+
         storedRequestProcessor = new StoredRequestProcessor(
                 DEFAULT_TIMEOUT,
                 null,
@@ -89,7 +96,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                parsedStoredDataCache);
     }
 
     @Test
@@ -188,7 +196,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                parsedStoredDataCache);
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .id("request-id")
@@ -235,7 +244,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                parsedStoredDataCache);
 
         final BidRequest bidRequest = givenBidRequest(builder -> builder
                 .app(App.builder().build())
@@ -328,7 +338,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                parsedStoredDataCache);
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -362,7 +373,8 @@ public class StoredRequestProcessorTest extends VertxTest {
                 metrics,
                 timeoutFactory,
                 jacksonMapper,
-                new JsonMerger(jacksonMapper));
+                new JsonMerger(jacksonMapper),
+                parsedStoredDataCache);
 
         given(applicationSettings.getAmpStoredData(any(), anySet(), anySet(), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
@@ -11,6 +11,7 @@ import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Site;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RoutingContext;
@@ -200,7 +201,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 debugResolver,
                 jacksonMapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -215,7 +216,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -227,6 +228,34 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .element(0).asString().startsWith("Error decoding bidRequest: Unrecognized token 'body'");
     }
 
+    @Test
+    public void shouldReturnFailedFutureIfRequestBodyBytesExceedMaxRequestSize() {
+        // given
+        target = new AuctionRequestFactory(
+                4,
+                ortb2RequestFactory,
+                storedRequestProcessor,
+                paramsExtractor,
+                paramsResolver,
+                interstitialProcessor,
+                ortbTypesResolver,
+                privacyEnforcementService,
+                timeoutResolver,
+                debugResolver,
+                jacksonMapper);
+
+        givenBody("\u00e9\u00e9\u00e9");
+
+        // when
+        final Future<?> future = target.fromRequest(routingContext, 0L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause())
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Request size exceeded max size of 4 bytes.");
+    }
+
     @Test
     public void shouldUseBodyAndHeadersModifiedByEntrypointHooks() {
         // given
@@ -400,7 +429,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
         requestNode.with("ext").with("prebid").with("data").set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenBody(requestNode.toString());
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -436,7 +465,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        givenBody(requestNode.toString());
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -614,9 +643,14 @@ public class AuctionRequestFactoryTest extends VertxTest {
         assertThat(result.getGeoInfo()).isEqualTo(geoInfo);
     }
 
+    private void givenBody(String body) {
+        given(routingContext.getBody()).willReturn(body != null ? Buffer.buffer(body) : null);
+        given(routingContext.getBodyAsString()).willReturn(body);
+    }
+
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            givenBody(mapper.writeValueAsString(bidRequest));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
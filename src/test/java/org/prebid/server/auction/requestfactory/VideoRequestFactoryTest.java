@@ -12,6 +12,7 @@ import com.iab.openrtb.request.video.BidRequestVideo;
 import com.iab.openrtb.request.video.PodError;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.ext.web.RoutingContext;
@@ -132,7 +133,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyIsMissing() {
         // given
-        given(routingContext.getBodyAsString()).willReturn(null);
+        givenBody(null);
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -147,8 +148,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfStoredRequestIsEnforcedAndIdIsNotProvided() throws JsonProcessingException {
         // given
-        given(routingContext.getBodyAsString())
-                .willReturn(mapper.writeValueAsString(BidRequestVideo.builder().build()));
+        givenBody(mapper.writeValueAsString(BidRequestVideo.builder().build()));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "123"));
         target = new VideoRequestFactory(
@@ -188,7 +188,7 @@ public class VideoRequestFactoryTest extends VertxTest {
                 debugResolver,
                 jacksonMapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -203,7 +203,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        givenBody("body");
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -220,7 +220,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
         final String body = mapper.writeValueAsString(requestVideo);
-        given(routingContext.getBodyAsString()).willReturn(body);
+        givenBody(body);
 
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
@@ -255,7 +255,7 @@ public class VideoRequestFactoryTest extends VertxTest {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenBody(mapper.writeValueAsString(requestVideo));
         givenBidRequest(BidRequest.builder().build(), emptyList());
 
         // when
@@ -312,7 +312,7 @@ public class VideoRequestFactoryTest extends VertxTest {
 
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(
                 Device.builder().ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenBody(mapper.writeValueAsString(requestVideo));
 
         final List<PodError> podErrors = singletonList(PodError.of(1, 1, singletonList("TEST")));
         givenBidRequest(bidRequest, podErrors);
@@ -338,7 +338,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     public void shouldReplaceDeviceUaWithUserAgentHeaderIfPresented() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenBody(mapper.writeValueAsString(requestVideo));
         given(routingContext.request().headers()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add(HttpUtil.USER_AGENT_HEADER, "user-agent-123"));
 
@@ -361,7 +361,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     public void shouldReturnErrorIfDeviceUaAndUserAgentHeaderIsEmpty() throws JsonProcessingException {
         // given
         final BidRequestVideo requestVideo = BidRequestVideo.builder().build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenBody(mapper.writeValueAsString(requestVideo));
         given(httpServerRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
 
         // when
@@ -374,6 +374,11 @@ public class VideoRequestFactoryTest extends VertxTest {
                 .hasMessage("Device.UA and User-Agent Header is not presented");
     }
 
+    private void givenBody(String body) {
+        given(routingContext.getBody()).willReturn(body != null ? Buffer.buffer(body) : null);
+        given(routingContext.getBodyAsString()).willReturn(body);
+    }
+
     private void givenBidRequest(BidRequest bidRequest, List<PodError> podErrors) {
         given(videoStoredRequestProcessor.processVideoRequest(any(), any(), any(), any()))
                 .willReturn(Future.succeededFuture(WithPodErrors.of(bidRequest, podErrors)));
@@ -471,7 +476,7 @@ public class VideoRequestFactoryTest extends VertxTest {
     private void prepareMinimumSuccessfulConditions() throws JsonProcessingException {
         final BidRequestVideo requestVideo = BidRequestVideo.builder().device(Device.builder()
                 .ua("123").build()).build();
-        given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(requestVideo));
+        givenBody(mapper.writeValueAsString(requestVideo));
         final ExtRequestPrebid ext = ExtRequestPrebid.builder()
                 .targeting(ExtRequestTargeting.builder().build())
                 .build();
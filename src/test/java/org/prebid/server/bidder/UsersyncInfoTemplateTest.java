@@ -0,0 +1,82 @@
+package org.prebid.server.bidder;
+
+import org.junit.Test;
+import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.model.Privacy;
+import org.prebid.server.proto.response.UsersyncInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UsersyncInfoTemplateTest {
+
+    private static final Privacy PRIVACY = Privacy.of("1", "consent$1 é", Ccpa.of("1YNN"), null);
+
+    @Test
+    public void assembleShouldPlacePrivacyValuesIntoUsersyncAndRedirectUrls() {
+        // given
+        final Usersyncer.UsersyncMethod usersyncMethod = Usersyncer.UsersyncMethod.of(
+                "redirect",
+                "http://url/{{gdpr}}/{{gdpr_consent}}?redir=",
+                "http://localhost:8000/setuid?bidder=adnxs&gdpr={{gdpr}}&gdpr_consent={{gdpr_consent}}"
+                        + "&us_privacy={{us_privacy}}&uid=$UID",
+                true);
+
+        // when
+        final UsersyncInfo result = UsersyncInfoTemplate.of(usersyncMethod)
+                .assemble(UsersyncInfoTemplate.PrivacyParams.of(PRIVACY));
+
+        // then
+        assertThat(result).isEqualTo(UsersyncInfo.of(
+                "http://url/1/consent%241+%C3%A9?redir=http%3A%2F%2Flocalhost%3A8000%2Fsetuid%3Fbidder%3Dadnxs"
+                        + "%26gdpr%3D1%26gdpr_consent%3Dconsent%241+%C3%A9%26us_privacy%3D1YNN%26f%3Di"
+                        + "%26uid%3D%24UID",
+                "redirect",
+                true));
+    }
+
+    @Test
+    public void assembleShouldReturnTheSameUsersyncInfoAsAssembler() {
+        final String[][] urls = {
+                {"http://url/redirect=", "http://localhost:8000redirectUrl"},
+                {"http://url/redirect=", "http://localhost:8000/setuid?gdpr={{gdpr}}?gdpr={{gdpr}}"},
+                {"http://url/redirect=", "http://localhost:8000/setuid?a=b?c={{gdpr_consent}}&us={{us_privacy}}"},
+                {"http://url/redirect=", null},
+                {"http://url?redir=%26gdpr%3D{{gdpr}}%26gdpr_consent%3D{{gdpr_consent}}", " "},
+                {"http://url?redir=a%3Db", "http://localhost/setuid?uid={{gdpr_consent}}{{gdpr}}"},
+                {"{{us_privacy}}{{gdpr}}{{gdpr", "{{{us_privacy}}}{{unknown}}"},
+                {"http://url/{{gdpr_con{{gdpr}}sent}}", "http://localhost/{{gdpr_con{{gdpr}}sent}}"}};
+        final Privacy[] privacies = {
+                PRIVACY,
+                Privacy.of(null, null, Ccpa.EMPTY, null),
+                Privacy.of("", "consent?with=question", Ccpa.of("1YNN"), null),
+                Privacy.of("", "{{gdpr}}", Ccpa.of("}}"), null)};
+
+        for (String[] usersyncAndRedirectUrl : urls) {
+            for (String type : new String[]{"redirect", "iframe", null}) {
+                final Usersyncer.UsersyncMethod usersyncMethod = Usersyncer.UsersyncMethod.of(
+                        type, usersyncAndRedirectUrl[0], usersyncAndRedirectUrl[1], false);
+                final UsersyncInfoTemplate usersyncInfoTemplate = UsersyncInfoTemplate.of(usersyncMethod);
+
+                for (Privacy privacy : privacies) {
+                    // when
+                    final UsersyncInfo result =
+                            usersyncInfoTemplate.assemble(UsersyncInfoTemplate.PrivacyParams.of(privacy));
+
+                    // then
+                    assertThat(result)
+                            .describedAs("%s with %s", usersyncMethod, privacy)
+                            .isEqualTo(UsersyncInfoAssembler.from(usersyncMethod).withPrivacy(privacy).assemble());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void privacyParamsShouldNotBeTemplatableIfValuesContainQuestionMarkOrBraces() {
+        assertThat(UsersyncInfoTemplate.PrivacyParams.of(PRIVACY).isTemplatable()).isTrue();
+        assertThat(UsersyncInfoTemplate.PrivacyParams.of(Privacy.of("1", "a?b", Ccpa.EMPTY, null))
+                .isTemplatable()).isFalse();
+        assertThat(UsersyncInfoTemplate.PrivacyParams.of(Privacy.of("1", "", Ccpa.of("{"), null))
+                .isTemplatable()).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package org.prebid.server.cookie;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+import org.prebid.server.json.DecodeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UidsCookieCodecTest extends VertxTest {
+
+    private final UidsCookieCodec codec = new UidsCookieCodec(jacksonMapper);
+
+    @Test
+    public void encodeShouldProduceTheSameJsonAsJacksonMapper() throws JsonProcessingException {
+        // given
+        final Map<String, String> uidsLegacy = new LinkedHashMap<>();
+        final Map<String, UidWithExpiry> uids = new LinkedHashMap<>();
+        uids.put("rubicon", new UidWithExpiry("J5VLCWQP-26-CWFT", ZonedDateTime.parse("2021-03-08T13:14:15.123Z")));
+        uids.put("adnxs", new UidWithExpiry("12\"345é", ZonedDateTime.parse("2021-03-08T13:14:15+02:00")));
+        uids.put("noExpires", new UidWithExpiry("uid", null));
+        uids.put("empty", null);
+        uidsLegacy.put("nullLegacy", null);
+        final Uids givenUids = Uids.builder()
+                .uidsLegacy(uidsLegacy)
+                .uids(uids)
+                .optout(false)
+                .bday(ZonedDateTime.parse("2017-08-15T19:47:59.523908376Z"))
+                .build();
+
+        // when
+        final byte[] result = codec.encode(givenUids);
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(mapper.writeValueAsString(givenUids));
+    }
+
+    @Test
+    public void encodeShouldOmitNullProperties() {
+        // when
+        final byte[] result = codec.encode(Uids.builder().uids(emptyMap()).build());
+
+        // then
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo("{\"tempUIDs\":{}}");
+    }
+
+    @Test
+    public void decodeShouldReturnTheSameUidsAsJacksonMapper() throws IOException {
+        // given
+        final String json = "{\"uids\":{\"adnxs\":\"legacy\",\"numeric\":123},"
+                + "\"tempUIDs\":{\"rubicon\":{\"uid\":\"J5VLCWQP\",\"expires\":\"2021-03-08T13:14:15.1Z\","
+                + "\"unknown\":[1,{\"a\":2}]},\"empty\":null,\"partial\":{}},"
+                + "\"optout\":true,\"unknown\":{\"optout\":false},\"bday\":\"2017-08-15T19:47:59.523908376+01:00\"}";
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        final Uids result = codec.decode(bytes);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readValue(bytes, Uids.class));
+        assertThat(result.getUids().get("rubicon").getExpires())
+                .isEqualTo(ZonedDateTime.parse("2021-03-08T13:14:15.1Z"));
+        assertThat(result.getUidsLegacy()).containsEntry("numeric", "123");
+    }
+
+    @Test
+    public void decodeShouldDecodeEncodedUids() {
+        // given
+        final Uids uids = Uids.builder()
+                .uids(singletonMap("rubicon", UidWithExpiry.live("uid")))
+                .optout(false)
+                .build();
+
+        // when
+        final Uids result = codec.decode(codec.encode(uids));
+
+        // then
+        assertThat(result).isEqualTo(uids);
+    }
+
+    @Test
+    public void decodeShouldIgnoreDataAfterRootObject() {
+        // when
+        final Uids result = codec.decode("{\"tempUIDs\":{}}},\"bday\":\"invalid\"}".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result).isEqualTo(Uids.builder().uids(emptyMap()).build());
+    }
+
+    @Test
+    public void decodeShouldReturnNullForNullLiteral() {
+        assertThat(codec.decode("null".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    public void decodeShouldFailOnInvalidJson() {
+        assertThatThrownBy(() -> codec.decode("{\"tempUIDs\":".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(DecodeException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[0]))
+                .isInstanceOf(DecodeException.class);
+        assertThatThrownBy(() -> codec.decode("[]".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(DecodeException.class);
+    }
+
+    @Test
+    public void decodeShouldFailOnInvalidDate() {
+        assertThatThrownBy(() -> codec.decode("{\"bday\":\"2017-08-15\"}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(DecodeException.class);
+    }
+}
@@ -26,6 +26,8 @@ import java.util.Map;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -52,7 +54,7 @@ public class UidsCookieServiceTest extends VertxTest {
     @Before
     public void setUp() {
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
     }
 
     @Test
@@ -190,7 +192,7 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieNameNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                null, "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                null, "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -205,7 +207,7 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnUidsCookieWithOptoutFalseIfOptoutCookieValueNotSpecified() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", null, null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", null, null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(
                 singletonMap(OPT_OUT_COOKIE_NAME, Cookie.cookie("trp_optout", "true")));
 
@@ -220,7 +222,7 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsAbsent() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
         given(routingContext.cookieMap()).willReturn(singletonMap("khaos", Cookie.cookie("khaos", "abc123")));
 
         // when
@@ -234,7 +236,7 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldReturnRubiconCookieValueFromHostCookieWhenUidValueIsPresentButDiffers() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", "rubicon", "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
 
         final Map<String, Cookie> cookies = new HashMap<>();
         // this uids cookie value stands for {"uids":{"rubicon":"J5VLCWQP-26-CWFT","adnxs":"12345"}}
@@ -286,7 +288,7 @@ public class UidsCookieServiceTest extends VertxTest {
         // the size of uidsCookie above is 530, therefore it is expected to be modified.
         final int maxCookieSizeBytes = 500;
         uidsCookieService = new UidsCookieService(OPT_OUT_COOKIE_NAME, OPT_OUT_COOKIE_VALUE, null,
-                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes, jacksonMapper);
+                null, HOST_COOKIE_DOMAIN, 90, maxCookieSizeBytes, 0, jacksonMapper);
 
         // when
         final Cookie cookie = uidsCookieService.toCookie(uidsCookie);
@@ -367,7 +369,7 @@ public class UidsCookieServiceTest extends VertxTest {
     public void shouldParseHostCookie() {
         // given
         uidsCookieService = new UidsCookieService(
-                "trp_optout", "true", null, "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, jacksonMapper);
+                "trp_optout", "true", null, "khaos", "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 0, jacksonMapper);
 
         // when
         final String hostCookie = uidsCookieService.parseHostCookie(singletonMap("khaos", "userId"));
@@ -395,6 +397,43 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(hostCookie).isNull();
     }
 
+    @Test
+    public void creationShouldFailOnNegativeUidsCacheSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new UidsCookieService(
+                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, -1, jacksonMapper));
+    }
+
+    @Test
+    public void parseUidsShouldReturnCachedUidsForTheSameCookieValue() throws JsonProcessingException {
+        // given
+        uidsCookieService = new UidsCookieService(
+                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 10, jacksonMapper);
+        final Map<String, UidWithExpiry> uidsWithExpiry = new HashMap<>();
+        uidsWithExpiry.put(RUBICON, UidWithExpiry.live("J5VLCWQP-26-CWFT"));
+        final String encodedUids = encodeUids(Uids.builder().uids(uidsWithExpiry).build());
+
+        // when
+        final Uids first = uidsCookieService.parseUids(singletonMap("uids", encodedUids));
+        final Uids second = uidsCookieService.parseUids(singletonMap("uids", encodedUids));
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getUids()).containsOnlyKeys(RUBICON);
+        assertThatThrownBy(() -> first.getUids().remove(RUBICON))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void parseUidsShouldReturnNullForInvalidCookieValueWhenCacheIsEnabled() {
+        // given
+        uidsCookieService = new UidsCookieService(
+                "trp_optout", "true", null, null, "cookie-domain", 90, MAX_COOKIE_SIZE_BYTES, 10, jacksonMapper);
+
+        // when and then
+        assertThat(uidsCookieService.parseUids(singletonMap("uids", "invalid"))).isNull();
+        assertThat(uidsCookieService.parseUids(singletonMap("uids", "invalid"))).isNull();
+    }
+
     private static String encodeUids(Uids uids) throws JsonProcessingException {
         return Base64.getUrlEncoder().encodeToString(mapper.writeValueAsBytes(uids));
     }
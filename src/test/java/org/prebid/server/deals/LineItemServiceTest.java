@@ -28,7 +28,11 @@ import org.prebid.server.deals.proto.FrequencyCap;
 import org.prebid.server.deals.proto.LineItemMetaData;
 import org.prebid.server.deals.proto.Price;
 import org.prebid.server.deals.proto.Token;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
+import org.prebid.server.deals.targeting.interpret.IntersectsSizes;
+import org.prebid.server.deals.targeting.model.Size;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
@@ -64,6 +68,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -84,6 +89,8 @@ public class LineItemServiceTest extends VertxTest {
     private Clock clock;
     @Mock
     private CriteriaLogManager criteriaLogManager;
+    @Mock
+    private RequestContext requestContext;
 
     private LineItemService lineItemService;
 
@@ -795,7 +802,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(TargetingDefinition.of(context -> false));
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any())).willAnswer(withEvaluatedTargeting());
+        given(targetingService.matchesTargeting(any(), any())).willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
 
@@ -842,6 +849,49 @@ public class LineItemServiceTest extends VertxTest {
                         "Matched Line Item id2 for bidder appnexus ready to serve. relPriority null"));
     }
 
+    @Test
+    public void findMatchingLineItemsShouldNotEvaluateTargetingNotMatchingByIndex() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(emptyList());
+
+        final TargetingCategory sizeCategory = new TargetingCategory(TargetingCategory.Type.size);
+        given(targetingService.parseTargetingDefinition(any(), eq("id1"))).willReturn(TargetingDefinition.of(
+                new IntersectsSizes(sizeCategory, singletonList(Size.of(300, 250)))));
+        given(targetingService.createRequestContext(any(), any())).willReturn(requestContext);
+        given(requestContext.lookupSizes(sizeCategory)).willReturn(singletonList(Size.of(728, 90)));
+
+        givenClock(now, now.plusMinutes(1));
+
+        givenBidderCatalog();
+
+        final List<LineItemMetaData> planResponse = singletonList(
+                LineItemMetaData.builder()
+                        .startTimeStamp(now.minusMinutes(1))
+                        .endTimeStamp(now.plusMinutes(1))
+                        .lineItemId("id1")
+                        .status("active")
+                        .source("rubicon")
+                        .accountId("accountId")
+                        .deliverySchedules(singletonList(givenDeliverySchedule("planId1", now.minusHours(1),
+                                now.plusMinutes(1), singleton(Token.of(1, 100)))))
+                        .build());
+
+        lineItemService.updateLineItems(planResponse, true);
+
+        final Imp imp = Imp.builder().id("imp1").ext(givenImpExt("rubicon")).build();
+
+        // when
+        final MatchLineItemsResult result = lineItemService.findMatchingLineItems(auctionContext, imp);
+
+        // then
+        assertThat(result.getLineItems()).isEmpty();
+        verify(targetingService, never()).matchesTargeting(any(), any());
+
+        assertThat(auctionContext.getDeepDebugLog().entries()).containsOnly(
+                ExtTraceDeal.of("id1", ZonedDateTime.now(clock), Category.targeting,
+                        "Line Item id1 targeting did not match imp with id imp1"));
+    }
+
     @Test
     public void findMatchingLineItemsShouldFilterNullTargeting() {
         // given
@@ -851,7 +901,7 @@ public class LineItemServiceTest extends VertxTest {
                 .willReturn(null);
         given(targetingService.parseTargetingDefinition(any(), eq("id2")))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any())).willAnswer(withEvaluatedTargeting());
+        given(targetingService.matchesTargeting(any(), any())).willAnswer(withEvaluatedTargeting());
 
         givenClock(now, now.plusMinutes(1));
 
@@ -1870,11 +1920,11 @@ public class LineItemServiceTest extends VertxTest {
     private void givenTargetingService() {
         given(targetingService.parseTargetingDefinition(any(), any()))
                 .willReturn(TargetingDefinition.of(context -> true));
-        given(targetingService.matchesTargeting(any(), any(), any())).willAnswer(withEvaluatedTargeting());
+        given(targetingService.matchesTargeting(any(), any())).willAnswer(withEvaluatedTargeting());
     }
 
     private Answer<Boolean> withEvaluatedTargeting() {
-        return invocation -> ((TargetingDefinition) invocation.getArgument(2)).getRootExpression().matches(null);
+        return invocation -> ((TargetingDefinition) invocation.getArgument(1)).getRootExpression().matches(null);
     }
 
     private void givenClock(ZonedDateTime... dateTimes) {
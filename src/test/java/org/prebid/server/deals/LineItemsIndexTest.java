@@ -0,0 +1,70 @@
+package org.prebid.server.deals;
+
+import org.junit.Test;
+import org.prebid.server.deals.lineitem.LineItem;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class LineItemsIndexTest {
+
+    private final ZonedDateTime now = ZonedDateTime.ofInstant(Instant.parse("2019-07-26T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    public void accountLineItemsShouldReturnOnlyLineItemsOfGivenAccount() {
+        // given
+        final LineItem first = givenLineItem("id1", "1001", now, now.plusHours(1));
+        final LineItem second = givenLineItem("id2", "1002", now, now.plusHours(1));
+        final LineItem third = givenLineItem("id3", "1001", now, now.plusHours(1));
+
+        // when
+        final LineItemsIndex index = LineItemsIndex.build(asList(first, second, third));
+
+        // then
+        assertThat(index.accountLineItems("1001")).containsExactly(first, third);
+        assertThat(index.accountLineItems("1003")).isEmpty();
+    }
+
+    @Test
+    public void hasActiveLineItemsShouldReturnTrueWithinAnyOfMergedWindows() {
+        // given
+        final LineItemsIndex index = LineItemsIndex.build(asList(
+                givenLineItem("id1", "1001", now.plusHours(5), now.plusHours(6)),
+                givenLineItem("id2", "1001", now, now.plusHours(2)),
+                givenLineItem("id3", "1001", now.plusHours(1), now.plusHours(3))));
+
+        // when and then
+        assertThat(index.hasActiveLineItems("1001", now)).isTrue();
+        assertThat(index.hasActiveLineItems("1001", now.plusMinutes(150))).isTrue();
+        assertThat(index.hasActiveLineItems("1001", now.plusHours(5))).isTrue();
+    }
+
+    @Test
+    public void hasActiveLineItemsShouldReturnFalseOutsideOfWindows() {
+        // given
+        final LineItemsIndex index = LineItemsIndex.build(asList(
+                givenLineItem("id1", "1001", now, now.plusHours(1)),
+                givenLineItem("id2", "1001", now.plusHours(2), now.plusHours(3))));
+
+        // when and then
+        assertThat(index.hasActiveLineItems("1001", now.minusSeconds(1))).isFalse();
+        assertThat(index.hasActiveLineItems("1001", now.plusHours(1))).isFalse();
+        assertThat(index.hasActiveLineItems("1001", now.plusHours(3))).isFalse();
+        assertThat(index.hasActiveLineItems("1002", now)).isFalse();
+    }
+
+    private static LineItem givenLineItem(String id, String accountId, ZonedDateTime start, ZonedDateTime end) {
+        final LineItem lineItem = mock(LineItem.class);
+        given(lineItem.getLineItemId()).willReturn(id);
+        given(lineItem.getAccountId()).willReturn(accountId);
+        given(lineItem.getStartTimeStamp()).willReturn(start);
+        given(lineItem.getEndTimeStamp()).willReturn(end);
+        return lineItem;
+    }
+}
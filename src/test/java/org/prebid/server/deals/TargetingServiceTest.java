@@ -18,6 +18,7 @@ import org.junit.Test;
 import org.prebid.server.VertxTest;
 import org.prebid.server.auction.model.AuctionContext;
 import org.prebid.server.deals.model.TxnLog;
+import org.prebid.server.deals.targeting.RequestContext;
 import org.prebid.server.deals.targeting.TargetingDefinition;
 import org.prebid.server.deals.targeting.interpret.And;
 import org.prebid.server.deals.targeting.interpret.DomainMetricAwareExpression;
@@ -526,6 +527,30 @@ public class TargetingServiceTest extends VertxTest {
         assertThat(targetingService.matchesTargeting(auctionContext, imp, targetingDefinition)).isTrue();
     }
 
+    @Test
+    public void matchesTargetingShouldEvaluateDefinitionsAgainstSharedRequestContext() {
+        // given
+        final TargetingDefinition matchedDefinition = TargetingDefinition.of(
+                new DomainMetricAwareExpression(new InStrings(category(Type.domain), asList("NBA.com")), "id1"));
+        final TargetingDefinition notMatchedDefinition = TargetingDefinition.of(
+                new DomainMetricAwareExpression(new InStrings(category(Type.domain), asList("nfl.com")), "id2"));
+
+        final TxnLog txnLog = TxnLog.create();
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().site(Site.builder().domain("nba.com").build()).build())
+                .txnLog(txnLog)
+                .build();
+
+        // when
+        final RequestContext requestContext =
+                targetingService.createRequestContext(auctionContext, Imp.builder().build());
+
+        // then
+        assertThat(targetingService.matchesTargeting(requestContext, matchedDefinition)).isTrue();
+        assertThat(targetingService.matchesTargeting(requestContext, notMatchedDefinition)).isFalse();
+        assertThat(txnLog.lineItemsMatchedDomainTargeting()).containsOnly("id1");
+    }
+
     @Test
     public void matchesTargetingShouldReturnTrueForNotIntersectsInteger() throws IOException {
         final TargetingDefinition targetingDefinition = targetingService.parseTargetingDefinition(
@@ -234,6 +234,46 @@ public class DeliveryProgressTest extends VertxTest {
                 .containsOnly(Tuple.tuple("win", 1L));
     }
 
+    @Test
+    public void recordTransactionLogShouldAccumulateStatisticsRecordedByDifferentThreads() throws InterruptedException {
+        // given
+        final DeliveryProgress deliveryProgress = DeliveryProgress.of(now, lineItemService);
+        final LineItem lineItem = mock(LineItem.class);
+        given(lineItem.getActiveDeliveryPlan()).willReturn(DeliveryPlan.of(givenDeliverySchedule(now, "planId1")));
+        given(lineItemService.getLineItemById("lineItemId1")).willReturn(lineItem);
+
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemSentToClientAsTopMatch().add("lineItemId1");
+        txnLog.lostAuctionToLineItems().put("lineItemId2", singleton("lineItemId1"));
+
+        final Runnable recording = () -> {
+            for (int i = 0; i < 100; i++) {
+                deliveryProgress.recordTransactionLog(txnLog, singletonMap("planId1", 1), "1001");
+            }
+        };
+
+        // when
+        final Thread firstThread = new Thread(recording);
+        final Thread secondThread = new Thread(recording);
+        firstThread.start();
+        secondThread.start();
+        firstThread.join();
+        secondThread.join();
+
+        // then
+        assertThat(deliveryProgress.getRequests().sum()).isEqualTo(200L);
+        assertThat(deliveryProgress.getRequestsPerAccount().get("1001").sum()).isEqualTo(200L);
+
+        final LineItemStatus lineItemStatus = deliveryProgress.getLineItemStatuses().get("lineItemId1");
+        assertThat(lineItemStatus.getSentToClientAsTopMatch().sum()).isEqualTo(200L);
+        assertThat(lineItemStatus.getDeliveryPlans())
+                .extracting(DeliveryPlan::getPlanId, DeliveryPlan::getSpentTokens)
+                .containsOnly(Tuple.tuple("planId1", 200L));
+
+        assertThat(deliveryProgress.getLineItemIdToLost().get("lineItemId2").get("lineItemId1").getCount().sum())
+                .isEqualTo(200L);
+    }
+
     @Test
     public void upsertPlanReferenceFromLineItemShouldInsertReferenceToNotExistingLineItemStatus() {
         // given
@@ -30,6 +30,7 @@ import org.prebid.server.proto.openrtb.ext.request.ExtGeo;
 import org.prebid.server.proto.openrtb.ext.request.ExtSite;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 
+import java.util.List;
 import java.util.function.Function;
 
 import static java.util.Arrays.asList;
@@ -991,6 +992,22 @@ public class RequestContextTest extends VertxTest {
         assertThat(context.lookupSizes(category)).containsOnly(Size.of(300, 250), Size.of(400, 300));
     }
 
+    @Test
+    public void lookupSizesShouldReturnSameSizesOnSubsequentCalls() {
+        // given
+        final TargetingCategory category = new TargetingCategory(TargetingCategory.Type.size);
+        final RequestContext context = new RequestContext(
+                request(identity()),
+                imp(i -> i.banner(banner(b -> b.format(singletonList(format(300, 250)))))), txnLog,
+                jacksonMapper);
+
+        // when
+        final List<Size> sizes = context.lookupSizes(category);
+
+        // then
+        assertThat(context.lookupSizes(category)).isSameAs(sizes);
+    }
+
     @Test
     public void lookupSizesShouldReturnEmptyListWhenFormatIsMissing() {
         // given
@@ -0,0 +1,180 @@
+package org.prebid.server.deals.targeting;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.deals.targeting.interpret.And;
+import org.prebid.server.deals.targeting.interpret.DomainMetricAwareExpression;
+import org.prebid.server.deals.targeting.interpret.Expression;
+import org.prebid.server.deals.targeting.interpret.InStrings;
+import org.prebid.server.deals.targeting.interpret.IntersectsSizes;
+import org.prebid.server.deals.targeting.interpret.IntersectsStrings;
+import org.prebid.server.deals.targeting.interpret.Matches;
+import org.prebid.server.deals.targeting.interpret.Or;
+import org.prebid.server.deals.targeting.model.Size;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory;
+import org.prebid.server.deals.targeting.syntax.TargetingCategory.Type;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TargetingIndexTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private RequestContext context;
+
+    @Test
+    public void mayMatchShouldReturnTrueForAnyLineItemOfEmptyIndex() {
+        // given
+        final TargetingDefinition definition = sizeDefinition(Size.of(300, 250));
+
+        // when and then
+        assertThat(TargetingIndex.empty().candidates(context).mayMatch("id", definition)).isTrue();
+        verifyNoInteractions(context);
+    }
+
+    @Test
+    public void mayMatchShouldReturnFalseWhenNoneOfIndexedValuesFound() {
+        // given
+        final TargetingDefinition definition = sizeDefinition(Size.of(300, 250));
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupSizes(category(Type.size))).willReturn(singletonList(Size.of(728, 90)));
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isFalse();
+    }
+
+    @Test
+    public void mayMatchShouldReturnTrueOnlyForLineItemsHavingFoundValues() {
+        // given
+        final TargetingDefinition firstDefinition = TargetingDefinition.of(
+                new IntersectsStrings(category(Type.mediaType), asList("Banner", "video")));
+        final TargetingDefinition secondDefinition = TargetingDefinition.of(
+                new IntersectsStrings(category(Type.mediaType), singletonList("native")));
+        final Map<String, TargetingDefinition> definitions = new HashMap<>();
+        definitions.put("id1", firstDefinition);
+        definitions.put("id2", secondDefinition);
+        final TargetingIndex index = TargetingIndex.build(definitions);
+
+        given(context.lookupStrings(category(Type.mediaType))).willReturn(singletonList("BANNER"));
+
+        // when
+        final TargetingIndex.Candidates candidates = index.candidates(context);
+
+        // then
+        assertThat(candidates.mayMatch("id1", firstDefinition)).isTrue();
+        assertThat(candidates.mayMatch("id2", secondDefinition)).isFalse();
+    }
+
+    @Test
+    public void mayMatchShouldReturnTrueWhenDefinitionWasUpdatedAfterIndexBuilt() {
+        // given
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", sizeDefinition(Size.of(300, 250))));
+
+        given(context.lookupSizes(category(Type.size))).willReturn(singletonList(Size.of(728, 90)));
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", sizeDefinition(Size.of(728, 90)))).isTrue();
+    }
+
+    @Test
+    public void mayMatchShouldReturnTrueWhenDomainFoundInAnyOfDomainAttributes() {
+        // given
+        final TargetingDefinition definition = domainDefinition("nba.com");
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupString(category(Type.publisherDomain))).willReturn("NBA.com");
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isTrue();
+    }
+
+    @Test
+    public void mayMatchShouldReturnFalseWhenDomainIsNotFound() {
+        // given
+        final TargetingDefinition definition = domainDefinition("nba.com");
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupString(category(Type.domain))).willReturn("nfl.com");
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isFalse();
+    }
+
+    @Test
+    public void mayMatchShouldNotTakeIntoAccountConditionsFollowingDomainCondition() {
+        // given
+        final TargetingDefinition definition = TargetingDefinition.of(new And(asList(
+                domainDefinition("nba.com").getRootExpression(),
+                sizeDefinition(Size.of(300, 250)).getRootExpression())));
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupString(category(Type.domain))).willReturn("nba.com");
+        given(context.lookupSizes(category(Type.size))).willReturn(singletonList(Size.of(728, 90)));
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isTrue();
+    }
+
+    @Test
+    public void mayMatchShouldSkipNotIndexableTerminalConditions() {
+        // given
+        final TargetingDefinition definition = TargetingDefinition.of(new And(asList(
+                new Matches(category(Type.referrer), "*nba*"),
+                new InStrings(category(Type.deviceExt, "ext.brand"), singletonList("apple")))));
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupString(category(Type.deviceExt, "ext.brand"))).willReturn("samsung");
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isFalse();
+    }
+
+    @Test
+    public void mayMatchShouldNotTakeIntoAccountConditionsFollowingNotIndexableNonTerminalCondition() {
+        // given
+        final TargetingDefinition definition = TargetingDefinition.of(new And(asList(
+                new Or(singletonList(new Matches(category(Type.referrer), "*nba*"))),
+                sizeDefinition(Size.of(300, 250)).getRootExpression())));
+        final TargetingIndex index = TargetingIndex.build(singletonMap("id", definition));
+
+        given(context.lookupSizes(category(Type.size))).willReturn(singletonList(Size.of(728, 90)));
+
+        // when and then
+        assertThat(index.candidates(context).mayMatch("id", definition)).isTrue();
+    }
+
+    private static TargetingDefinition sizeDefinition(Size size) {
+        return TargetingDefinition.of(new IntersectsSizes(category(Type.size), singletonList(size)));
+    }
+
+    private static TargetingDefinition domainDefinition(String domain) {
+        final Expression domainExpression = new DomainMetricAwareExpression(
+                new InStrings(category(Type.domain), singletonList(domain)), "id");
+        final Expression publisherDomainExpression = new DomainMetricAwareExpression(
+                new InStrings(category(Type.publisherDomain), singletonList(domain)), "id");
+
+        return TargetingDefinition.of(new Or(asList(domainExpression, publisherDomainExpression)));
+    }
+
+    private static TargetingCategory category(Type type) {
+        return new TargetingCategory(type);
+    }
+
+    private static TargetingCategory category(Type type, String path) {
+        return new TargetingCategory(type, path);
+    }
+}
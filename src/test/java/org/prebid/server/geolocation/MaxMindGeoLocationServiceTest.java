@@ -9,31 +9,59 @@ import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.internal.util.reflection.ReflectionMemberAccessor;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
 import org.prebid.server.geolocation.model.GeoInfo;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Vertx vertx;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
     @Before
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        maxMindGeoLocationService = new MaxMindGeoLocationService(vertx);
     }
 
     @Test
@@ -59,8 +87,7 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception, IllegalAccessException {
+    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws IOException, GeoIp2Exception {
         // given
         final Country country = new Country(null, null, null, "fr", null);
         final Continent continent = new Continent(null, "eu", null, null);
@@ -75,8 +102,7 @@ public class MaxMindGeoLocationServiceTest {
         final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
         given(databaseReader.city(any())).willReturn(cityResponse);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.useDatabaseReader(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -96,14 +122,12 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception, NoSuchFieldException,
-            IllegalAccessException {
+    public void lookupShouldTolerateMissingGeoInfo() throws IOException, GeoIp2Exception {
         // given
         final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
         given(databaseReader.city(any())).willReturn(null);
 
-        new ReflectionMemberAccessor().set(maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"),
-                maxMindGeoLocationService, databaseReader);
+        maxMindGeoLocationService.useDatabaseReader(databaseReader);
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -112,4 +136,136 @@ public class MaxMindGeoLocationServiceTest {
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isEqualTo(GeoInfo.builder().vendor("maxmind").build());
     }
+
+    @Test
+    public void creationShouldFailOnNegativeCacheSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MaxMindGeoLocationService(false, -1, vertx));
+    }
+
+    @Test
+    public void setDataPathShouldExtractDatabaseFileNextToArchiveInMemoryMappedMode() throws IOException {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(true, 0, vertx);
+
+        final File archive = temporaryFolder.newFile("GeoLite2-City.tar.gz");
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(new GZIPOutputStream(
+                new FileOutputStream(archive)))) {
+
+            final byte[] content = "invalid database".getBytes(StandardCharsets.UTF_8);
+            final TarArchiveEntry entry = new TarArchiveEntry("GeoLite2-City_20200101/GeoLite2-City.mmdb");
+            entry.setSize(content.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(content);
+            tarOutput.closeArchiveEntry();
+        }
+
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archive.getPath());
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(new File(temporaryFolder.getRoot(), "GeoLite2-City.mmdb"))
+                .hasContent("invalid database");
+        assertThat(new File(temporaryFolder.getRoot(), "GeoLite2-City.mmdb.tmp")).doesNotExist();
+    }
+
+    @Test
+    public void lookupShouldReturnCachedGeoInfoForAddressesOfSameNetwork() throws IOException, GeoIp2Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 100, vertx);
+
+        final DatabaseReader databaseReader = givenDatabaseReader();
+
+        // when
+        final Future<GeoInfo> first = maxMindGeoLocationService.lookup("80.215.195.122", null);
+        final Future<GeoInfo> second = maxMindGeoLocationService.lookup("80.215.195.1", null);
+        final Future<GeoInfo> otherNetwork = maxMindGeoLocationService.lookup("80.215.196.1", null);
+
+        // then
+        assertThat(first.result()).isSameAs(second.result()).isEqualTo(otherNetwork.result());
+        verify(databaseReader).city(eq(InetAddress.getByName("80.215.195.122")));
+        verify(databaseReader).city(eq(InetAddress.getByName("80.215.196.1")));
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @Test
+    public void lookupShouldCacheGeoInfoPerIpv6Network() throws IOException, GeoIp2Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 100, vertx);
+
+        final DatabaseReader databaseReader = givenDatabaseReader();
+
+        // when
+        maxMindGeoLocationService.lookup("2001:db8:85a3::1", null);
+        maxMindGeoLocationService.lookup("2001:db8:85a3:ffff::2", null);
+        maxMindGeoLocationService.lookup("2001:db8:85a4::1", null);
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @Test
+    public void lookupShouldNotCacheGeoInfoIfCacheIsDisabled() throws IOException, GeoIp2Exception {
+        // given
+        final DatabaseReader databaseReader = givenDatabaseReader();
+
+        // when
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        verify(databaseReader, times(2)).city(any());
+    }
+
+    @Test
+    public void lookupShouldNotReturnGeoInfoCachedForPreviousDatabase() throws IOException, GeoIp2Exception {
+        // given
+        maxMindGeoLocationService = new MaxMindGeoLocationService(false, 100, vertx);
+
+        givenDatabaseReader("fr");
+        maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        givenDatabaseReader("de");
+
+        // when
+        final Future<GeoInfo> result = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(result.result().getCountry()).isEqualTo("de");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void useDatabaseReaderShouldCloseReplacedReaderAfterGracePeriod() throws IOException, GeoIp2Exception {
+        // given
+        final DatabaseReader previousReader = givenDatabaseReader("fr");
+        final DatabaseReader currentReader = givenDatabaseReader("de");
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(10_000L), timerHandlerCaptor.capture());
+        verify(previousReader, never()).close();
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        verify(previousReader).close();
+        verify(currentReader, never()).close();
+    }
+
+    private DatabaseReader givenDatabaseReader() throws IOException, GeoIp2Exception {
+        return givenDatabaseReader("fr");
+    }
+
+    private DatabaseReader givenDatabaseReader(String countryIsoCode) throws IOException, GeoIp2Exception {
+        final Country country = new Country(null, null, null, countryIsoCode, null);
+        final CityResponse cityResponse = new CityResponse(null, null, country, null, null,
+                null, null, null, null, null);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+
+        maxMindGeoLocationService.useDatabaseReader(databaseReader);
+        return databaseReader;
+    }
 }
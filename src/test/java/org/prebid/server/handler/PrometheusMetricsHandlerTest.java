@@ -0,0 +1,100 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.PrometheusMetricsWriter;
+import org.prebid.server.util.HttpUtil;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PrometheusMetricsHandlerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private PrometheusMetricsWriter metricsWriter;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private PrometheusMetricsHandler handler;
+
+    @Before
+    public void setUp() {
+        handler = new PrometheusMetricsHandler(metricsWriter, "/endpoint");
+
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpResponse.setChunked(anyBoolean())).willReturn(httpResponse);
+        given(httpResponse.putHeader(any(CharSequence.class), any(CharSequence.class))).willReturn(httpResponse);
+    }
+
+    @Test
+    public void handleShouldRespondWithPrometheusContentType() {
+        // given
+        given(metricsWriter.families()).willReturn(Collections.singletonList(Buffer.buffer("metric 1\n")).iterator());
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).setChunked(true);
+        verify(httpResponse).putHeader(HttpUtil.CONTENT_TYPE_HEADER, "text/plain; version=0.0.4; charset=utf-8");
+        verify(httpResponse).end(Buffer.buffer("metric 1\n"));
+    }
+
+    @Test
+    public void handleShouldResumeWritingOnDrainWhenWriteQueueIsFull() {
+        // given
+        final Buffer bigFamily = Buffer.buffer(new byte[16 * 1024]);
+        given(metricsWriter.families()).willReturn(asList(bigFamily, Buffer.buffer("last 1\n")).iterator());
+        given(httpResponse.writeQueueFull()).willReturn(true);
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse).write(bigFamily);
+        verify(httpResponse, never()).end(any(Buffer.class));
+
+        // when
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Void>> drainCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(httpResponse).drainHandler(drainCaptor.capture());
+        drainCaptor.getValue().handle(null);
+
+        // then
+        verify(httpResponse).end(Buffer.buffer("last 1\n"));
+    }
+
+    @Test
+    public void handleShouldStopWritingWhenResponseIsClosed() {
+        // given
+        given(httpResponse.closed()).willReturn(true);
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(httpResponse, never()).setChunked(anyBoolean());
+        verify(httpResponse, times(0)).end(any(Buffer.class));
+    }
+}
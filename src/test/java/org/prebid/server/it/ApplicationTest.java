@@ -286,6 +286,18 @@ public class ApplicationTest extends IntegrationTest {
         assertJsonEquals("amp/test-amp-response.json", response, asList(RUBICON, APPNEXUS));
     }
 
+    @Test
+    public void openrtb2AuctionShouldRespondWithHttp413IfRequestBodyExceedsMaxRequestSize() {
+        // given
+        final char[] body = new char[262145];
+        Arrays.fill(body, ' ');
+
+        // when and then
+        assertThat(given(SPEC).body(new String(body)).post("/openrtb2/auction"))
+                .extracting(Response::getStatusCode)
+                .isEqualTo(413);
+    }
+
     @Test
     public void statusShouldReturnReadyWithinResponseBodyAndHttp200Ok() {
         assertThat(given(SPEC).when().get("/status"))
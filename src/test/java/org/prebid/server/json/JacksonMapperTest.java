@@ -0,0 +1,44 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JacksonMapperTest {
+
+    private final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper(),
+            ObjectMapperProvider.mapper().copy().registerModule(new SharedSerializationModule(100)));
+
+    @Test
+    public void encodeShouldReuseSharedObjectsOnlyWithinBidderRequestsEncoding() {
+        // given
+        final Site site = Site.builder().domain("domain").ext(ExtSite.of(1, null)).build();
+        final String bidderRequestSite = mapper.encodeBidderRequests(() -> mapper.encodeToString(site));
+
+        site.getExt().addProperty("data", TextNode.valueOf("value"));
+
+        // when
+        final String result = mapper.encodeToString(site);
+        final String nextBidderRequestSite = mapper.encodeBidderRequests(() -> mapper.encodeToString(site));
+
+        // then
+        assertThat(result).isEqualTo("{\"domain\":\"domain\",\"ext\":{\"amp\":1,\"data\":\"value\"}}");
+        assertThat(nextBidderRequestSite).isEqualTo(bidderRequestSite).doesNotContain("data");
+    }
+
+    @Test
+    public void encodeBidderRequestsShouldEncodeAsUsualWhenNoBidderRequestMapperConfigured() {
+        // given
+        final JacksonMapper plainMapper = new JacksonMapper(ObjectMapperProvider.mapper());
+        final Site site = Site.builder().domain("domain").build();
+
+        // when
+        final String result = plainMapper.encodeBidderRequests(() -> plainMapper.encodeToString(site));
+
+        // then
+        assertThat(result).isEqualTo("{\"domain\":\"domain\"}");
+    }
+}
@@ -1,5 +1,7 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Publisher;
@@ -72,4 +74,63 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void mergeShouldNotModifyStoredDataNode() {
+        // given
+        final Site site = Site.builder().page("testPage").build();
+        final ObjectNode storedSite = mapper.valueToTree(Site.builder().domain("testDomain").build());
+
+        // when
+        final Site result = target.merge(site, storedSite, "id", Site.class);
+
+        // then
+        assertThat(result).isEqualTo(Site.builder().page("testPage").domain("testDomain").build());
+        assertThat(storedSite).isEqualTo(mapper.valueToTree(Site.builder().domain("testDomain").build()));
+    }
+
+    @Test
+    public void mergeShouldApplyMergePatchToJsonNodes() throws JsonProcessingException {
+        // given
+        final JsonNode fromNode = mapper.readTree("{\"a\":\"z\",\"b\":null,\"c\":{\"f\":null,\"g\":1},"
+                + "\"d\":[3],\"e\":{\"h\":null,\"i\":{\"j\":null,\"k\":2}}}");
+        final JsonNode toNode = mapper.readTree("{\"a\":\"b\",\"b\":\"c\",\"c\":{\"f\":\"g\",\"l\":true},"
+                + "\"d\":[1,2],\"m\":\"n\"}");
+
+        // when
+        final JsonNode result = target.merge(fromNode, toNode);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"a\":\"z\",\"c\":{\"l\":true,\"g\":1},\"d\":[3],"
+                + "\"m\":\"n\",\"e\":{\"i\":{\"k\":2}}}"));
+    }
+
+    @Test
+    public void mergeShouldReplaceNonObjectTargetWithPatch() throws JsonProcessingException {
+        // given
+        final JsonNode fromNode = mapper.readTree("{\"a\":{\"b\":1,\"c\":null}}");
+        final JsonNode toNode = mapper.readTree("{\"a\":[1,2]}");
+
+        // when
+        final JsonNode result = target.merge(fromNode, toNode);
+
+        // then
+        assertThat(result).isEqualTo(mapper.readTree("{\"a\":{\"b\":1}}"));
+    }
+
+    @Test
+    public void mergeShouldReturnCopyNotSharingNodesWithMergedNodes() throws JsonProcessingException {
+        // given
+        final JsonNode fromNode = mapper.readTree("{\"a\":{\"b\":1}}");
+        final JsonNode toNode = mapper.readTree("{\"c\":{\"d\":2}}");
+
+        // when
+        final ObjectNode result = (ObjectNode) target.merge(fromNode, toNode);
+        ((ObjectNode) result.get("a")).put("b", 3);
+        ((ObjectNode) result.get("c")).put("d", 4);
+
+        // then
+        assertThat(fromNode).isEqualTo(mapper.readTree("{\"a\":{\"b\":1}}"));
+        assertThat(toNode).isEqualTo(mapper.readTree("{\"c\":{\"d\":2}}"));
+    }
+
 }
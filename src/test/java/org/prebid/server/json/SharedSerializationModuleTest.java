@@ -0,0 +1,119 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
+import org.prebid.server.proto.openrtb.ext.request.ExtSite;
+
+import java.math.BigDecimal;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedSerializationModuleTest {
+
+    private static final ObjectMapper MAPPER = ObjectMapperProvider.mapper().copy()
+            .registerModule(new SharedSerializationModule(100));
+
+    @Test
+    public void shouldEncodeSameAsDefaultMapper() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = givenBidRequest("bidder1");
+
+        // when
+        final String result = MAPPER.writeValueAsString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(ObjectMapperProvider.mapper().writeValueAsString(bidRequest));
+    }
+
+    @Test
+    public void shouldReuseEncodedSharedObjectsBetweenRequests() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest1 = givenBidRequest("bidder1");
+        final BidRequest bidRequest2 = bidRequest1.toBuilder()
+                .imp(singletonList(bidRequest1.getImp().get(0).toBuilder()
+                        .ext(MAPPER.createObjectNode().put("bidder", "bidder2"))
+                        .build()))
+                .build();
+
+        // when
+        final String result1 = MAPPER.writeValueAsString(bidRequest1);
+        final String result2 = MAPPER.writeValueAsString(bidRequest2);
+
+        // then
+        final ObjectMapper defaultMapper = ObjectMapperProvider.mapper();
+        assertThat(result1).isEqualTo(defaultMapper.writeValueAsString(bidRequest1));
+        assertThat(result2).isEqualTo(defaultMapper.writeValueAsString(bidRequest2));
+        assertThat(result2).contains("\"bidder\":\"bidder2\"");
+    }
+
+    @Test
+    public void shouldEncodeEqualButNotSameObjectsIndependently() throws JsonProcessingException {
+        // given
+        final Site site = Site.builder().domain("domain").build();
+        MAPPER.writeValueAsString(site);
+
+        // when
+        final String result = MAPPER.writeValueAsString(site.toBuilder().page("page").build());
+
+        // then
+        assertThat(result).isEqualTo("{\"domain\":\"domain\",\"page\":\"page\"}");
+    }
+
+    @Test
+    public void shouldNotAffectConversionToTree() {
+        // given
+        final BidRequest bidRequest = givenBidRequest("bidder1");
+        final JsonNode expected = ObjectMapperProvider.mapper().valueToTree(bidRequest);
+
+        // when
+        MAPPER.valueToTree(bidRequest);
+        final JsonNode result = MAPPER.valueToTree(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(expected);
+        assertThat(result.at("/site/domain")).isEqualTo(TextNode.valueOf("domain"));
+    }
+
+    @Test
+    public void shouldNotAffectPrettyPrinting() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = givenBidRequest("bidder1");
+        MAPPER.writeValueAsString(bidRequest);
+
+        // when
+        final String result = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(bidRequest);
+
+        // then
+        assertThat(result).isEqualTo(ObjectMapperProvider.mapper().writerWithDefaultPrettyPrinter()
+                .writeValueAsString(bidRequest));
+    }
+
+    private static BidRequest givenBidRequest(String bidder) {
+        return BidRequest.builder()
+                .id("requestId")
+                .imp(singletonList(Imp.builder()
+                        .id("impId")
+                        .bidfloor(BigDecimal.valueOf(1.50))
+                        .banner(Banner.builder()
+                                .format(singletonList(Format.builder().w(300).h(250).build()))
+                                .build())
+                        .ext(ObjectMapperProvider.mapper().createObjectNode().put("bidder", bidder))
+                        .build()))
+                .site(Site.builder().domain("domain").ext(ExtSite.of(1, null)).build())
+                .device(Device.builder().ua("ua").ip("192.168.0.1").build())
+                .regs(Regs.of(1, ExtRegs.of(1, "1YNN")))
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class HdrHistogramMetricRegistryTest {
+
+    @Test
+    public void creationShouldFailOnNonPositiveWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HdrHistogramMetricRegistry(0));
+    }
+
+    @Test
+    public void timerShouldReturnTimerBackedByHdrHistogram() {
+        // given
+        final MetricRegistry metricRegistry = new HdrHistogramMetricRegistry(60);
+
+        // when
+        metricRegistry.timer("timer").update(5, TimeUnit.MILLISECONDS);
+        metricRegistry.timer("timer").update(7, TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(metricRegistry.timer("timer").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer("timer").getSnapshot().getClass().getSimpleName())
+                .isEqualTo("HdrHistogramSnapshot");
+    }
+
+    @Test
+    public void histogramShouldReturnHistogramBackedByHdrHistogram() {
+        // given
+        final MetricRegistry metricRegistry = new HdrHistogramMetricRegistry(60);
+
+        // when
+        metricRegistry.histogram("histogram").update(5);
+
+        // then
+        assertThat(metricRegistry.histogram("histogram").getSnapshot().getMax()).isEqualTo(5);
+        assertThat(metricRegistry.histogram("histogram").getSnapshot().getValues()).containsOnly(5L);
+    }
+}
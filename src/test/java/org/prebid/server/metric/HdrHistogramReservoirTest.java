@@ -0,0 +1,150 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+public class HdrHistogramReservoirTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    private HdrHistogramReservoir reservoir;
+
+    @Before
+    public void setUp() {
+        given(clock.getTick()).willReturn(0L);
+
+        reservoir = new HdrHistogramReservoir(60, clock);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnStatisticsOfRecordedValues() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            reservoir.update(i);
+        }
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(100);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isEqualTo(100);
+        assertThat(snapshot.getMean()).isCloseTo(50.5, within(0.5));
+        assertThat(snapshot.getMedian()).isCloseTo(50, within(1.0));
+        assertThat(snapshot.get99thPercentile()).isCloseTo(99, within(1.0));
+        assertThat(snapshot.getValues()).hasSize(100);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnZerosWhenNothingRecorded() {
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.getMin()).isZero();
+        assertThat(snapshot.getMax()).isZero();
+        assertThat(snapshot.getMean()).isZero();
+        assertThat(snapshot.getValues()).isEmpty();
+    }
+
+    @Test
+    public void getSnapshotShouldKeepValuesOfPreviousWindow() {
+        // given
+        reservoir.update(10);
+        reservoir.getSnapshot();
+
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(61));
+        reservoir.update(20);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getMin()).isEqualTo(10);
+    }
+
+    @Test
+    public void getSnapshotShouldDropValuesOlderThanPreviousWindow() {
+        // given
+        reservoir.update(10);
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(61));
+        reservoir.getSnapshot();
+
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(122));
+        reservoir.update(20);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(snapshot.getMin()).isEqualTo(20);
+    }
+
+    @Test
+    public void getSnapshotShouldNotLoseValuesBetweenSuccessiveSnapshots() {
+        // given
+        reservoir.update(10);
+        reservoir.getSnapshot();
+        reservoir.update(20);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getSnapshotShouldDropAllValuesAfterLongGapBetweenSnapshots() {
+        // given
+        reservoir.update(10);
+        reservoir.getSnapshot();
+
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(1000));
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+    }
+
+    @Test
+    public void updateShouldRotateWindowsWithoutSnapshots() {
+        // given
+        reservoir.update(10);
+
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(61));
+        reservoir.update(20);
+
+        given(clock.getTick()).willReturn(TimeUnit.SECONDS.toNanos(122));
+        reservoir.update(30);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getMin()).isEqualTo(20);
+    }
+}
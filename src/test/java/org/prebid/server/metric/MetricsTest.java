@@ -485,6 +485,15 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("analytics.analyticCode.setuid.badinput").getCount()).isOne();
     }
 
+    @Test
+    public void updateAnalyticReporterMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAnalyticReporterMetric(ANALYTIC_CODE, MetricName.dropped);
+
+        // then
+        assertThat(metricRegistry.counter("analytics.analyticCode.dropped").getCount()).isOne();
+    }
+
     @Test
     public void updateAdapterResponseTimeShouldUpdateMetrics() {
         // when
@@ -883,6 +892,17 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfPermissionsCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfPermissionsCacheMetric(MetricName.hit);
+        metrics.updatePrivacyTcfPermissionsCacheMetric(MetricName.miss);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.permissions-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.permissions-cache.miss").getCount()).isOne();
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -1188,6 +1208,25 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheLoadTimeShouldUpdateTimer() {
+        // when
+        metrics.updateSettingsCacheLoadTime(MetricName.categories, 123L);
+
+        // then
+        assertThat(metricRegistry.timer("settings.cache.categories.load_time").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void createSettingsCacheGaugeShouldCreateGauge() {
+        // when
+        metrics.createSettingsCacheGauge(MetricName.parsed_stored_data, MetricName.bytes, () -> 100L);
+
+        // then
+        assertThat(metricRegistry.gauge("settings.cache.parsed-stored-data.bytes", () -> null).getValue())
+                .isEqualTo(100L);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
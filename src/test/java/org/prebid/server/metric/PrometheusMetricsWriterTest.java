@@ -0,0 +1,135 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PrometheusMetricsWriterTest {
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    @Test
+    public void creationShouldFailOnNegativeMaxAccounts() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PrometheusMetricsWriter(metricRegistry, -1));
+    }
+
+    @Test
+    public void familiesShouldMoveAccountAndBidderToLabels() {
+        // given
+        metricRegistry.counter("account.1001.adapter.appnexus.requests.gotbids").inc(3);
+        metricRegistry.counter("account.1001.requests").inc(5);
+        metricRegistry.counter("adapter.appnexus.requests.gotbids").inc(7);
+        metricRegistry.counter("analytics.pubstack.event_auction.ok").inc(2);
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 10));
+
+        // then
+        assertThat(result)
+                .contains("# TYPE account_adapter_requests_gotbids counter\n"
+                        + "account_adapter_requests_gotbids{account=\"1001\",bidder=\"appnexus\"} 3\n")
+                .contains("# TYPE account_requests counter\naccount_requests{account=\"1001\"} 5\n")
+                .contains("adapter_requests_gotbids{bidder=\"appnexus\"} 7\n")
+                .contains("analytics_event_auction_ok{analytics=\"pubstack\"} 2\n")
+                .contains("prometheus_omitted_accounts 0\n");
+    }
+
+    @Test
+    public void familiesShouldSanitizeNamesAndEscapeLabelValues() {
+        // given
+        metricRegistry.counter("app_requests.ok-1").inc();
+        metricRegistry.counter("adapter.a\"b.requests").inc();
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 10));
+
+        // then
+        assertThat(result)
+                .contains("app_requests_ok_1 1\n")
+                .contains("adapter_requests{bidder=\"a\\\"b\"} 1\n");
+    }
+
+    @Test
+    public void familiesShouldExposeOnlyTopAccountsByRequests() {
+        // given
+        metricRegistry.counter("account.1001.requests").inc(1);
+        metricRegistry.counter("account.1001.adapter.appnexus.request_time").inc(1);
+        metricRegistry.counter("account.1002.requests").inc(10);
+        metricRegistry.counter("account.1003.requests").inc(5);
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 2));
+
+        // then
+        assertThat(result)
+                .contains("account_requests{account=\"1002\"} 10\n")
+                .contains("account_requests{account=\"1003\"} 5\n")
+                .doesNotContain("account=\"1001\"")
+                .doesNotContain("account_adapter_request_time")
+                .contains("prometheus_omitted_accounts 1\n");
+    }
+
+    @Test
+    public void familiesShouldNotResetFlushingCounters() {
+        // given
+        final ResettingCounter counter = new ResettingCounter();
+        counter.inc(5);
+        metricRegistry.register("account.1001.requests", counter);
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 1));
+
+        // then
+        assertThat(result).contains("# TYPE account_requests gauge\naccount_requests{account=\"1001\"} 5\n");
+        assertThat(counter.getCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void familiesShouldRenderTimersAsSummariesInSeconds() {
+        // given
+        final Timer timer = metricRegistry.timer("request_time");
+        timer.update(2, TimeUnit.SECONDS);
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 1));
+
+        // then
+        assertThat(result).contains("# TYPE request_time summary\n"
+                + "request_time{quantile=\"0.5\"} 2\n"
+                + "request_time{quantile=\"0.75\"} 2\n"
+                + "request_time{quantile=\"0.95\"} 2\n"
+                + "request_time{quantile=\"0.99\"} 2\n"
+                + "request_time_count 1\n");
+    }
+
+    @Test
+    public void familiesShouldRenderGauges() {
+        // given
+        metricRegistry.gauge("settings.cache.bytes", () -> () -> 1.5);
+        metricRegistry.gauge("circuit-breaker.opened", () -> () -> true);
+
+        // when
+        final String result = render(new PrometheusMetricsWriter(metricRegistry, 1));
+
+        // then
+        assertThat(result)
+                .contains("# TYPE settings_cache_bytes gauge\nsettings_cache_bytes 1.5\n")
+                .contains("circuit_breaker_opened 1\n");
+    }
+
+    private static String render(PrometheusMetricsWriter writer) {
+        final Buffer result = Buffer.buffer();
+        final Iterator<Buffer> families = writer.families();
+        while (families.hasNext()) {
+            result.appendBuffer(families.next());
+        }
+        return result.toString();
+    }
+}
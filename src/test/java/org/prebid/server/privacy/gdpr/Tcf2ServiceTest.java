@@ -10,6 +10,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.VendorPermission;
 import org.prebid.server.privacy.gdpr.model.VendorPermissionWithGvl;
@@ -74,6 +76,10 @@ public class Tcf2ServiceTest extends VertxTest {
     private SpecialFeaturesStrategy specialFeaturesStrategyOne;
     @Mock
     private TCString tcString;
+    @Mock
+    private Metrics metrics;
+
+    private VendorPermissionsCache vendorPermissionsCache;
 
     private Tcf2Service target;
 
@@ -114,8 +120,9 @@ public class Tcf2ServiceTest extends VertxTest {
         initPurposes();
         initSpecialFeatures();
         initGdpr();
+        vendorPermissionsCache = new VendorPermissionsCache(0, 0, metrics);
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, vendorPermissionsCache);
     }
 
     private void initPurposes() {
@@ -209,6 +216,48 @@ public class Tcf2ServiceTest extends VertxTest {
         verify(vendorListService).forVersion(10);
     }
 
+    @Test
+    public void permissionsForShouldReturnCachedPermissionsForSameConsentStringAndVendors() {
+        // given
+        target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
+                bidderCatalog, new VendorPermissionsCache(10, 60, metrics));
+        given(bidderCatalog.nameByVendorId(any())).willReturn("rubicon");
+
+        // when
+        final Future<Collection<VendorPermission>> firstResult =
+                target.permissionsFor(singleton(1), tcString, "consent");
+        final Future<Collection<VendorPermission>> secondResult =
+                target.permissionsFor(singleton(1), tcString, "consent");
+
+        // then
+        final VendorPermission expectedVendorPermission =
+                VendorPermission.of(1, "rubicon", PrivacyEnforcementAction.restrictAll());
+        assertThat(firstResult).succeededWith(singletonList(expectedVendorPermission));
+        assertThat(secondResult).succeededWith(singletonList(expectedVendorPermission));
+
+        verify(vendorListService).forVersion(10);
+        verify(purposeStrategyOne).processTypePurposeStrategy(any(), any(), any(), eq(false));
+        verify(specialFeaturesStrategyOne).processSpecialFeaturesStrategy(any(), any(), any());
+        verify(metrics).updatePrivacyTcfPermissionsCacheMetric(MetricName.miss);
+        verify(metrics).updatePrivacyTcfPermissionsCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void permissionsForShouldNotCacheDowngradedPermissions() {
+        // given
+        target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
+                bidderCatalog, new VendorPermissionsCache(10, 60, metrics));
+        given(vendorListService.forVersion(anyInt())).willReturn(Future.failedFuture("Bad version"));
+
+        // when
+        target.permissionsFor(singleton(1), tcString, "consent");
+        target.permissionsFor(singleton(1), tcString, "consent");
+
+        // then
+        verify(vendorListService, times(2)).forVersion(10);
+        verify(metrics, times(2)).updatePrivacyTcfPermissionsCacheMetric(MetricName.miss);
+    }
+
     @Test
     public void permissionsForShouldMergeAccountPurposes() {
         // given
@@ -374,7 +423,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.noAccessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, vendorPermissionsCache);
 
         // when
         final Future<Collection<VendorPermission>> result = target.permissionsFor(singleton(1), tcString);
@@ -413,7 +462,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.accessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, vendorPermissionsCache);
 
         // when
         target.permissionsFor(singleton(1), tcString);
@@ -450,7 +499,7 @@ public class Tcf2ServiceTest extends VertxTest {
                 .purposeOneTreatmentInterpretation(PurposeOneTreatmentInterpretation.accessAllowed)
                 .build();
         target = new Tcf2Service(gdprConfig, purposeStrategies, specialFeaturesStrategies, vendorListService,
-                bidderCatalog);
+                bidderCatalog, vendorPermissionsCache);
 
         // when
         target.permissionsFor(singleton(1), tcString);
@@ -452,7 +452,7 @@ public class TcfDefinerServiceTest {
     @Test
     public void resultForVendorIdsShouldNotSetTcfRequestsAndTcfGeoMetricsWhenConsentIsNotValid() {
         // given
-        given(tcf2Service.permissionsFor(any(), any())).willReturn(Future.succeededFuture());
+        given(tcf2Service.permissionsFor(any(), any(), any())).willReturn(Future.succeededFuture());
 
         // when
         tcfDefinerService.resultForVendorIds(singleton(1), TcfContext.builder()
@@ -482,7 +482,7 @@ public class TcfDefinerServiceTest {
     @Test
     public void resultForVendorIdsShouldReturnRestrictAllWhenConsentIsMissing() {
         // given
-        given(tcf2Service.permissionsFor(any(), any())).willReturn(Future.succeededFuture());
+        given(tcf2Service.permissionsFor(any(), any(), any())).willReturn(Future.succeededFuture());
 
         // when
         tcfDefinerService.resultForVendorIds(singleton(1), TcfContext.builder()
@@ -491,7 +491,7 @@ public class TcfDefinerServiceTest {
                 .build());
 
         // then
-        verify(tcf2Service).permissionsFor(any(), argThat(arg -> arg.getClass() == TCStringEmpty.class));
+        verify(tcf2Service).permissionsFor(any(), argThat(arg -> arg.getClass() == TCStringEmpty.class), any());
     }
 
     @Test
@@ -510,7 +510,7 @@ public class TcfDefinerServiceTest {
     @Test
     public void resultForVendorIdsShouldReturnTcfResponseFromTcf2ServiceWhenConsentStringIsNull() {
         // given
-        given(tcf2Service.permissionsFor(anySet(), any())).willReturn(Future.succeededFuture(asList(
+        given(tcf2Service.permissionsFor(anySet(), any(), any())).willReturn(Future.succeededFuture(asList(
                 VendorPermission.of(1, null, PrivacyEnforcementAction.allowAll()),
                 VendorPermission.of(2, null, PrivacyEnforcementAction.allowAll()))));
 
@@ -532,13 +532,14 @@ public class TcfDefinerServiceTest {
     @Test
     public void resultForBidderNamesShouldReturnTcfResponseFromTcf2ServiceWhenConsentStringIsSecondVersion() {
         // given
-        given(tcf2Service.permissionsFor(anySet(), any(), any(), any())).willReturn(Future.succeededFuture(asList(
-                VendorPermission.of(1, "b1", PrivacyEnforcementAction.allowAll()),
-                VendorPermission.of(null, "b2", PrivacyEnforcementAction.allowAll()))));
+        final String consentString = "COwayg7OwaybYN6AAAENAPCgAIAAAAAAAAAAASkAAAAAAAAAAA";
+        given(tcf2Service.permissionsFor(anySet(), any(), any(), eq(consentString), any()))
+                .willReturn(Future.succeededFuture(asList(
+                        VendorPermission.of(1, "b1", PrivacyEnforcementAction.allowAll()),
+                        VendorPermission.of(null, "b2", PrivacyEnforcementAction.allowAll()))));
 
         // when
         final Set<String> bidderNames = new HashSet<>(asList("b1", "b2"));
-        final String consentString = "COwayg7OwaybYN6AAAENAPCgAIAAAAAAAAAAASkAAAAAAAAAAA";
         final Future<TcfResponse<String>> result = tcfDefinerService.resultForBidderNames(
                 bidderNames,
                 TcfContext.builder()
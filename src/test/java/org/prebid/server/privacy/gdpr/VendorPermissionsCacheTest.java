@@ -0,0 +1,105 @@
+package org.prebid.server.privacy.gdpr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
+import org.prebid.server.privacy.gdpr.model.VendorPermission;
+import org.prebid.server.settings.model.AccountGdprConfig;
+
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class VendorPermissionsCacheTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new VendorPermissionsCache(-1, 60, metrics));
+        assertThatIllegalArgumentException().isThrownBy(() -> new VendorPermissionsCache(10, 0, metrics));
+    }
+
+    @Test
+    public void keyShouldReturnNullWhenCacheIsDisabledOrConsentStringIsMissing() {
+        // given
+        final List<VendorPermission> vendors = singletonList(vendorPermission(1, "b1"));
+
+        // when and then
+        assertThat(new VendorPermissionsCache(0, 0, metrics).key("consent", null, vendors)).isNull();
+        assertThat(new VendorPermissionsCache(10, 60, metrics).key(null, null, vendors)).isNull();
+    }
+
+    @Test
+    public void keyShouldNotDependOnVendorsOrder() {
+        // given
+        final VendorPermissionsCache cache = new VendorPermissionsCache(10, 60, metrics);
+
+        // when and then
+        assertThat(cache.key("consent", null, asList(vendorPermission(1, "b1"), vendorPermission(2, "b2"))))
+                .isEqualTo(cache.key("consent", null, asList(vendorPermission(2, "b2"), vendorPermission(1, "b1"))));
+    }
+
+    @Test
+    public void getShouldReturnCopyOfCachedPermissionsForEqualKey() {
+        // given
+        final VendorPermissionsCache cache = new VendorPermissionsCache(10, 60, metrics);
+        final AccountGdprConfig accountGdprConfig = AccountGdprConfig.builder().enabled(true).build();
+        final List<VendorPermission> vendors = singletonList(vendorPermission(1, "b1"));
+        final VendorPermissionsCache.Key key = cache.key("consent", accountGdprConfig, vendors);
+
+        cache.put(key, vendors);
+        vendors.get(0).getPrivacyEnforcementAction().setBlockBidderRequest(false);
+
+        // when
+        final Collection<VendorPermission> result = cache.get(
+                cache.key("consent", AccountGdprConfig.builder().enabled(true).build(), vendors));
+
+        // then
+        assertThat(result).containsExactly(vendorPermission(1, "b1"));
+        assertThat(result).doesNotContainAnyElementsOf(vendors);
+        verify(metrics).updatePrivacyTcfPermissionsCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void getShouldReturnNullForDifferentAccountConfig() {
+        // given
+        final VendorPermissionsCache cache = new VendorPermissionsCache(10, 60, metrics);
+        final List<VendorPermission> vendors = singletonList(vendorPermission(1, "b1"));
+        cache.put(cache.key("consent", null, vendors), vendors);
+
+        // when
+        final Collection<VendorPermission> result = cache.get(
+                cache.key("consent", AccountGdprConfig.builder().enabled(true).build(), vendors));
+
+        // then
+        assertThat(result).isNull();
+        verify(metrics).updatePrivacyTcfPermissionsCacheMetric(MetricName.miss);
+    }
+
+    @Test
+    public void getShouldReturnNullAndNotUpdateMetricsForNullKey() {
+        // when and then
+        assertThat(new VendorPermissionsCache(10, 60, metrics).get(null)).isNull();
+        verifyNoInteractions(metrics);
+    }
+
+    private static VendorPermission vendorPermission(Integer vendorId, String bidderName) {
+        return VendorPermission.of(vendorId, bidderName, PrivacyEnforcementAction.restrictAll());
+    }
+}
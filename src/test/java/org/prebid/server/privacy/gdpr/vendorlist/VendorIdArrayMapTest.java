@@ -0,0 +1,77 @@
+package org.prebid.server.privacy.gdpr.vendorlist;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class VendorIdArrayMapTest {
+
+    @Test
+    public void ofShouldReturnMapEqualToGivenOne() {
+        // given
+        final Map<Integer, String> idToVendor = new HashMap<>();
+        idToVendor.put(3, "third");
+        idToVendor.put(1, "first");
+        idToVendor.put(7, "seventh");
+
+        // when
+        final Map<Integer, String> result = VendorIdArrayMap.of(idToVendor, UnaryOperator.identity());
+
+        // then
+        assertThat(result).isInstanceOf(VendorIdArrayMap.class)
+                .isEqualTo(idToVendor)
+                .hasSameHashCodeAs(idToVendor);
+        assertThat(result.keySet()).containsExactly(1, 3, 7);
+        assertThat(result.get(3)).isEqualTo("third");
+        assertThat(result.get(2)).isNull();
+        assertThat(result.get(100)).isNull();
+        assertThat(result.get(-1)).isNull();
+        assertThat(result.containsKey(7)).isTrue();
+        assertThat(result.containsKey(8)).isFalse();
+    }
+
+    @Test
+    public void ofShouldApplyVendorMapper() {
+        // given
+        final Map<Integer, String> idToVendor = new HashMap<>();
+        idToVendor.put(1, "first");
+
+        // when
+        final Map<Integer, String> result = VendorIdArrayMap.of(idToVendor, String::toUpperCase);
+
+        // then
+        assertThat(result.get(1)).isEqualTo("FIRST");
+    }
+
+    @Test
+    public void ofShouldFallbackToHashMapForSparseIds() {
+        // given
+        final Map<Integer, String> idToVendor = new HashMap<>();
+        idToVendor.put(1, "first");
+        idToVendor.put(100_000, "last");
+
+        // when
+        final Map<Integer, String> result = VendorIdArrayMap.of(idToVendor, UnaryOperator.identity());
+
+        // then
+        assertThat(result).isNotInstanceOf(VendorIdArrayMap.class).isEqualTo(idToVendor);
+    }
+
+    @Test
+    public void resultShouldBeReadOnly() {
+        // given
+        final Map<Integer, String> idToVendor = new HashMap<>();
+        idToVendor.put(1, "first");
+
+        // when
+        final Map<Integer, String> result = VendorIdArrayMap.of(idToVendor, UnaryOperator.identity());
+
+        // then
+        assertThatThrownBy(() -> result.put(2, "second")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -37,6 +37,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -487,6 +488,25 @@ public class VendorListServiceV2Test extends VertxTest {
         assertThat(future).succeededWith(idToVendor);
     }
 
+    @Test
+    public void shouldShareEqualVendorsBetweenVersions() throws JsonProcessingException {
+        // given
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(givenVendorList()));
+
+        given(fileSystem.writeFile(anyString(), any(), any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Future.succeededFuture()));
+
+        // when
+        vendorListService.forVersion(1); // populate cache
+        vendorListService.forVersion(2); // populate cache
+        final Future<Map<Integer, VendorV2>> future1 = vendorListService.forVersion(1);
+        final Future<Map<Integer, VendorV2>> future2 = vendorListService.forVersion(2);
+
+        // then
+        assertThat(future1.result().get(52)).isSameAs(future2.result().get(52));
+        assertThat(future1.result().get(53)).isNull();
+    }
+
     @Test
     public void shouldReturnFallbackIfVendorListNotFound() {
         // given
@@ -21,6 +21,7 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
@@ -65,8 +66,12 @@ public class CachingApplicationSettingsTest {
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
                 metrics,
+                new TimeoutFactory(Clock.systemUTC()),
+                Clock.systemUTC(),
                 360,
-                100);
+                100,
+                0,
+                1000L);
     }
 
     @Test
@@ -171,6 +176,21 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldReturnResultFromDelegateAfterInvalidation() {
+        // given
+        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+                .willReturn(Future.succeededFuture(Account.empty("accountId")));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        cachingApplicationSettings.invalidateAccountCache("accountId");
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
     @Test
     public void getCategoriesShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
@@ -189,6 +209,39 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void getCategoriesShouldCacheMappingWithMoreEntriesThanCacheSize() {
+        // given
+        cachingApplicationSettings = new CachingApplicationSettings(
+                applicationSettings,
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                metrics,
+                new TimeoutFactory(Clock.systemUTC()),
+                Clock.systemUTC(),
+                360,
+                1,
+                0,
+                1000L);
+
+        final Map<String, String> categories = new HashMap<>();
+        categories.put("iab1", "id1");
+        categories.put("iab2", "id2");
+        categories.put("iab3", "id3");
+        given(applicationSettings.getCategories(eq("adServer"), eq("publisher"), same(timeout)))
+                .willReturn(Future.succeededFuture(categories));
+
+        // when
+        cachingApplicationSettings.getCategories("adServer", "publisher", timeout);
+        final Future<Map<String, String>> future =
+                cachingApplicationSettings.getCategories("adServer", "publisher", timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(categories);
+        verify(applicationSettings).getCategories(eq("adServer"), eq("publisher"), same(timeout));
+    }
+
     @Test
     public void getCategoriesShouldPropagateFailure() {
         // given
@@ -202,10 +202,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_QUERY,
                 SELECT_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
     }
 
     @After
@@ -332,10 +335,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_UNION_QUERY,
                 SELECT_UNION_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredDataResult> storedRequestResultFuture =
@@ -365,10 +371,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_UNION_QUERY,
                 SELECT_UNION_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredDataResult> storedRequestResultFuture =
@@ -398,10 +407,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_UNION_QUERY,
                 SELECT_UNION_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredDataResult> storedRequestResultFuture =
@@ -473,10 +485,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_FROM_ONE_COLUMN_TABLE_QUERY,
                 SELECT_FROM_ONE_COLUMN_TABLE_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredDataResult> storedRequestResultFuture =
@@ -498,10 +513,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_FROM_ONE_COLUMN_TABLE_QUERY,
                 SELECT_FROM_ONE_COLUMN_TABLE_QUERY,
-                SELECT_RESPONSE_QUERY);
+                SELECT_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredDataResult> storedRequestResultFuture =
@@ -564,6 +582,40 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void getStoredDataShouldResolveResultForEachFetchWhenBatchingEnabled(TestContext context) {
+        // given
+        jdbcApplicationSettings = new JdbcApplicationSettings(
+                jdbcClient(),
+                jacksonMapper,
+                vertx,
+                SELECT_ACCOUNT_QUERY,
+                SELECT_QUERY,
+                SELECT_QUERY,
+                SELECT_RESPONSE_QUERY,
+                10,
+                500);
+
+        // when
+        final Future<StoredDataResult> firstFuture =
+                jdbcApplicationSettings.getStoredData("1001", singleton("1"), singleton("4"), timeout);
+        final Future<StoredDataResult> secondFuture =
+                jdbcApplicationSettings.getStoredData("1001", singleton("2"), singleton("3"), timeout);
+
+        // then
+        final Async async = context.async(2);
+        firstFuture.onComplete(context.asyncAssertSuccess(storedRequestResult -> {
+            assertThat(storedRequestResult).isEqualTo(StoredDataResult.of(
+                    singletonMap("1", "value1"), singletonMap("4", "value4"), emptyList()));
+            async.countDown();
+        }));
+        secondFuture.onComplete(context.asyncAssertSuccess(storedRequestResult -> {
+            assertThat(storedRequestResult).isEqualTo(StoredDataResult.of(
+                    singletonMap("2", "value2"), emptyMap(), singletonList("No stored imp found for id: 3")));
+            async.countDown();
+        }));
+    }
+
     @Test
     public void getStoredResponseShouldReturnExpectedResult(TestContext context) {
         // when
@@ -604,10 +656,13 @@ public class JdbcApplicationSettingsTest extends VertxTest {
         jdbcApplicationSettings = new JdbcApplicationSettings(
                 jdbcClient(),
                 jacksonMapper,
+                vertx,
                 SELECT_ACCOUNT_QUERY,
                 SELECT_QUERY,
                 SELECT_QUERY,
-                SELECT_ONE_COLUMN_RESPONSE_QUERY);
+                SELECT_ONE_COLUMN_RESPONSE_QUERY,
+                0,
+                500);
 
         // when
         final Future<StoredResponseDataResult> storedResponseDataResultFuture =
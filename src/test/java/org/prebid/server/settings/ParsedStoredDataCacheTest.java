@@ -0,0 +1,120 @@
+package org.prebid.server.settings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ParsedStoredDataCacheTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    @Test
+    public void creationShouldFailOnNegativeMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ParsedStoredDataCache(-1, jacksonMapper, metrics));
+    }
+
+    @Test
+    public void parseShouldReturnSameNodeForSameJson() {
+        // given
+        final ParsedStoredDataCache cache = new ParsedStoredDataCache(1024, jacksonMapper, metrics);
+
+        // when
+        final JsonNode first = cache.parse("{\"id\":\"1\"}");
+        final JsonNode second = cache.parse(new String("{\"id\":\"1\"}"));
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.path("id").asText()).isEqualTo("1");
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.parsed_stored_data, MetricName.hit);
+    }
+
+    @Test
+    public void parseShouldParseAgainWhenJsonChanged() {
+        // given
+        final ParsedStoredDataCache cache = new ParsedStoredDataCache(1024, jacksonMapper, metrics);
+
+        // when
+        cache.parse("{\"id\":\"1\"}");
+        final JsonNode result = cache.parse("{\"id\":\"2\"}");
+
+        // then
+        assertThat(result.path("id").asText()).isEqualTo("2");
+    }
+
+    @Test
+    public void parseShouldNotCacheJsonWhenCacheIsDisabled() {
+        // given
+        final ParsedStoredDataCache cache = new ParsedStoredDataCache(0, jacksonMapper, metrics);
+
+        // when
+        final JsonNode first = cache.parse("{\"id\":\"1\"}");
+        final JsonNode second = cache.parse("{\"id\":\"1\"}");
+
+        // then
+        assertThat(first).isNotSameAs(second).isEqualTo(second);
+        verify(metrics, never()).updateSettingsCacheEventMetric(any(), any());
+        verify(metrics, never()).createSettingsCacheGauge(any(), any(), any());
+    }
+
+    @Test
+    public void parseShouldThrowDecodeExceptionOnInvalidJson() {
+        // given
+        final ParsedStoredDataCache cache = new ParsedStoredDataCache(1024, jacksonMapper, metrics);
+
+        // when and then
+        assertThatThrownBy(() -> cache.parse("{invalid")).isInstanceOf(DecodeException.class);
+        assertThatThrownBy(() -> cache.parse(null)).isInstanceOf(DecodeException.class);
+    }
+
+    @Test
+    public void creationShouldRegisterSizeGauges() {
+        // when
+        new ParsedStoredDataCache(1024, jacksonMapper, metrics);
+
+        // then
+        verify(metrics).createSettingsCacheGauge(eq(MetricName.parsed_stored_data), eq(MetricName.bytes), any());
+        verify(metrics).createSettingsCacheGauge(eq(MetricName.parsed_stored_data), eq(MetricName.entries), any());
+    }
+
+    @Test
+    public void bytesGaugeShouldReportEstimatedHeapSizeRatherThanJsonLength() {
+        // given
+        final ParsedStoredDataCache cache = new ParsedStoredDataCache(1024 * 1024, jacksonMapper, metrics);
+
+        final ArgumentCaptor<LongSupplier> gaugeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createSettingsCacheGauge(same(MetricName.parsed_stored_data), same(MetricName.bytes),
+                gaugeCaptor.capture());
+
+        final String json = "{\"a\":[1,2,3],\"b\":{\"c\":\"d\"},\"e\":true}";
+
+        // when
+        cache.parse(json);
+
+        // then
+        assertThat(gaugeCaptor.getValue().getAsLong()).isGreaterThan(json.length() * 5L);
+    }
+}
@@ -0,0 +1,211 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SettingsLoadingCacheTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private BiFunction<String, Timeout, Future<String>> loader;
+    @Mock
+    private Clock clock;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private TimeoutFactory timeoutFactory;
+
+    private Timeout timeout;
+    private Timeout refreshTimeout;
+
+    private SettingsLoadingCache<String> cache;
+
+    @Before
+    public void setUp() {
+        final TimeoutFactory fixedTimeoutFactory =
+                new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = fixedTimeoutFactory.create(500L);
+        refreshTimeout = fixedTimeoutFactory.create(1000L);
+        given(timeoutFactory.create(anyLong())).willReturn(refreshTimeout);
+
+        cache = new SettingsLoadingCache<>(
+                360, 100, 10, 1000L, String::length, timeoutFactory, clock, metrics, MetricName.account);
+    }
+
+    @Test
+    public void creationShouldFailOnNegativeRefreshAfterWrite() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SettingsLoadingCache<>(
+                        360, 100, -1, 1000L, String::length, timeoutFactory, clock, metrics, MetricName.account))
+                .withMessage("refresh after write must be non-negative");
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveRefreshTimeout() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SettingsLoadingCache<>(
+                        360, 100, 10, 0L, String::length, timeoutFactory, clock, metrics, MetricName.account))
+                .withMessage("refresh timeout must be positive");
+    }
+
+    @Test
+    public void getShouldLoadValueOnlyOnceForConcurrentMisses() {
+        // given
+        final Promise<String> promise = Promise.promise();
+        given(loader.apply(any(), any())).willReturn(promise.future());
+
+        // when
+        final Future<String> first = cache.get("key", timeout, loader);
+        final Future<String> second = cache.get("key", timeout, loader);
+        promise.complete("value");
+
+        // then
+        verify(loader).apply("key", timeout);
+        assertThat(first.result()).isEqualTo("value");
+        assertThat(second.result()).isEqualTo("value");
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.account, MetricName.miss);
+    }
+
+    @Test
+    public void getShouldReturnStaleValueAndReloadItInBackground() {
+        // given
+        given(clock.millis()).willReturn(0L, 0L, 10_000L, 10_000L, 10_010L);
+        final Promise<String> promise = Promise.promise();
+        given(loader.apply(any(), any())).willReturn(Future.succeededFuture("value"), promise.future());
+
+        cache.get("key", timeout, loader);
+
+        // when
+        final Future<String> staleResult = cache.get("key", timeout, loader);
+        promise.complete("updated");
+        final Future<String> result = cache.get("key", timeout, loader);
+
+        // then
+        assertThat(staleResult.result()).isEqualTo("value");
+        assertThat(result.result()).isEqualTo("updated");
+        verify(loader).apply("key", timeout);
+        verify(timeoutFactory).create(1000L);
+        verify(loader).apply("key", refreshTimeout);
+        verify(metrics, times(2)).updateSettingsCacheLoadTime(eq(MetricName.account), anyLong());
+    }
+
+    @Test
+    public void getShouldNotReloadFreshValue() {
+        // given
+        given(clock.millis()).willReturn(0L, 0L, 9_999L);
+        given(loader.apply(any(), any())).willReturn(Future.succeededFuture("value"));
+
+        // when
+        cache.get("key", timeout, loader);
+        final Future<String> result = cache.get("key", timeout, loader);
+
+        // then
+        assertThat(result.result()).isEqualTo("value");
+        verify(loader).apply("key", timeout);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.account, MetricName.hit);
+    }
+
+    @Test
+    public void getShouldKeepStaleValueIfReloadFailed() {
+        // given
+        given(clock.millis()).willReturn(0L, 0L, 10_000L, 10_000L, 10_010L);
+        given(loader.apply(any(), any()))
+                .willReturn(Future.succeededFuture("value"), Future.failedFuture(new TimeoutException("timeout")));
+
+        cache.get("key", timeout, loader);
+        cache.get("key", timeout, loader);
+
+        // when
+        final Future<String> result = cache.get("key", timeout, loader);
+
+        // then
+        assertThat(result.result()).isEqualTo("value");
+    }
+
+    @Test
+    public void getShouldCachePreBidException() {
+        // given
+        given(loader.apply(any(), any())).willReturn(Future.failedFuture(new PreBidException("error")));
+
+        // when
+        cache.get("key", timeout, loader);
+        final Future<String> result = cache.get("key", timeout, loader);
+
+        // then
+        verify(loader).apply("key", timeout);
+        assertThat(result.cause()).isInstanceOf(PreBidException.class).hasMessage("error");
+        verify(metrics, times(2)).updateSettingsCacheEventMetric(MetricName.account, MetricName.miss);
+    }
+
+    @Test
+    public void getShouldCompleteSharedLoadOnContextOfEachCaller() throws Exception {
+        // given
+        final Vertx vertx = Vertx.vertx();
+        final Context firstContext = vertx.getOrCreateContext();
+        final Context secondContext = vertx.getOrCreateContext();
+
+        final Promise<String> promise = Promise.promise();
+        given(loader.apply(any(), any())).willReturn(promise.future());
+
+        final CompletableFuture<Context> firstCompletionContext = new CompletableFuture<>();
+        final CompletableFuture<Context> secondCompletionContext = new CompletableFuture<>();
+        final CountDownLatch firstLoadStarted = new CountDownLatch(1);
+        final CountDownLatch secondLoadStarted = new CountDownLatch(1);
+
+        firstContext.runOnContext(ignored -> {
+            cache.get("key", timeout, loader)
+                    .onComplete(result -> firstCompletionContext.complete(Vertx.currentContext()));
+            firstLoadStarted.countDown();
+        });
+        assertThat(firstLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        secondContext.runOnContext(ignored -> {
+            cache.get("key", timeout, loader)
+                    .onComplete(result -> secondCompletionContext.complete(Vertx.currentContext()));
+            secondLoadStarted.countDown();
+        });
+        assertThat(secondLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        firstContext.runOnContext(ignored -> promise.complete("value"));
+
+        // then
+        assertThat(firstCompletionContext.get(5, TimeUnit.SECONDS)).isSameAs(firstContext);
+        assertThat(secondCompletionContext.get(5, TimeUnit.SECONDS)).isSameAs(secondContext);
+        verify(loader).apply("key", timeout);
+
+        vertx.close();
+    }
+}
@@ -0,0 +1,230 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.sql.ResultSet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class StoredDataQueryBatcherTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private StoredDataQueryBatcher.StoredDataQuery query;
+    @Mock
+    private Vertx vertx;
+
+    private Timeout timeout;
+
+    private StoredDataQueryBatcher batcher;
+
+    @Before
+    public void setUp() {
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+
+        batcher = new StoredDataQueryBatcher(query, vertx, 0, 10);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveBatchMaxIds() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new StoredDataQueryBatcher(query, vertx, 0, 0))
+                .withMessage("Batch maximum number of ids should be positive");
+    }
+
+    @Test
+    public void fetchShouldShareQueryBetweenConcurrentFetchesOfTheSameIds() {
+        // given
+        final Promise<ResultSet> promise = Promise.promise();
+        given(query.execute(any(), any(), any())).willReturn(promise.future());
+
+        // when
+        final Future<StoredDataResult> first = batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+        final Future<StoredDataResult> second = batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+        promise.complete(givenResultSet("1001", "1", "value1", "request"));
+
+        // then
+        verify(query).execute(singleton("1"), emptySet(), timeout);
+        assertThat(first.result()).isEqualTo(StoredDataResult.of(singletonMap("1", "value1"), emptyMap(), emptyList()));
+        assertThat(second.result()).isSameAs(first.result());
+        verifyNoInteractions(vertx);
+    }
+
+    @Test
+    public void fetchShouldQueryAgainWhenPreviousFetchIsCompleted() {
+        // given
+        given(query.execute(any(), any(), any()))
+                .willReturn(Future.succeededFuture(givenResultSet("1001", "1", "value1", "request")));
+
+        // when
+        batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+        batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+
+        // then
+        verify(query, times(2)).execute(singleton("1"), emptySet(), timeout);
+    }
+
+    @Test
+    public void fetchShouldQueryAllIdsRequestedWithinBatchWindowAtOnce() {
+        // given
+        batcher = new StoredDataQueryBatcher(query, vertx, 5, 10);
+        given(query.execute(any(), any(), any()))
+                .willReturn(Future.succeededFuture(givenResultSet("1001", "1", "value1", "request")));
+
+        // when
+        final Future<StoredDataResult> first = batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+        final Future<StoredDataResult> second = batcher.fetch("1002", singleton("2"), singleton("3"), timeout);
+
+        // then
+        assertThat(first.isComplete()).isFalse();
+        verifyNoInteractions(query);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        verify(query).execute(new HashSet<>(asList("1", "2")), singleton("3"), timeout);
+        assertThat(first.result()).isEqualTo(StoredDataResult.of(singletonMap("1", "value1"), emptyMap(), emptyList()));
+        assertThat(second.result()).isEqualTo(StoredDataResult.of(emptyMap(), emptyMap(), asList(
+                "No stored request found for id: 2",
+                "No stored imp found for id: 3")));
+    }
+
+    @Test
+    public void fetchShouldResolveOnlyIdsRequestedByEachFetchOfBatch() {
+        // given
+        batcher = new StoredDataQueryBatcher(query, vertx, 5, 10);
+        given(query.execute(any(), any(), any())).willReturn(Future.succeededFuture(new ResultSet().setResults(asList(
+                new JsonArray(asList("1001", "1", "value1", "request")),
+                new JsonArray(asList("1001", "2", "value2", "imp"))))));
+
+        final Future<StoredDataResult> first = batcher.fetch("1001", singleton("1"), singleton("2"), timeout);
+        final Future<StoredDataResult> second = batcher.fetch("1002", singleton("1"), emptySet(), timeout);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(first.result()).isEqualTo(StoredDataResult.of(
+                singletonMap("1", "value1"), singletonMap("2", "value2"), emptyList()));
+        assertThat(second.result()).isEqualTo(StoredDataResult.of(emptyMap(), emptyMap(),
+                singletonList("No stored request found for id: 1 for account: 1002")));
+    }
+
+    @Test
+    public void fetchShouldFailOnItsOwnTimeoutWhileBatchIsAwaited() {
+        // given
+        batcher = new StoredDataQueryBatcher(query, vertx, 5, 10);
+        final Promise<ResultSet> queryPromise = Promise.promise();
+        given(query.execute(any(), any(), any())).willReturn(queryPromise.future());
+
+        final Timeout shortTimeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()))
+                .create(100L);
+        final Future<StoredDataResult> first = batcher.fetch("1001", singleton("1"), emptySet(), shortTimeout);
+        final Future<StoredDataResult> second = batcher.fetch("1001", singleton("2"), emptySet(), timeout);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> batchTimerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), batchTimerHandlerCaptor.capture());
+        batchTimerHandlerCaptor.getValue().handle(1L);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> deadlineTimerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(100L), deadlineTimerHandlerCaptor.capture());
+
+        // when
+        deadlineTimerHandlerCaptor.getValue().handle(2L);
+
+        // then
+        verify(query).execute(new HashSet<>(asList("1", "2")), emptySet(), timeout);
+        assertThat(first.failed()).isTrue();
+        assertThat(first.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(second.isComplete()).isFalse();
+
+        queryPromise.complete(givenResultSet("1001", "2", "value2", "request"));
+        assertThat(second.result()).isEqualTo(StoredDataResult.of(singletonMap("2", "value2"), emptyMap(),
+                emptyList()));
+    }
+
+    @Test
+    public void fetchShouldQueryBatchImmediatelyWhenMaxIdsReached() {
+        // given
+        batcher = new StoredDataQueryBatcher(query, vertx, 5, 2);
+        given(vertx.setTimer(eq(5L), any())).willReturn(7L);
+        given(query.execute(any(), any(), any()))
+                .willReturn(Future.succeededFuture(givenResultSet("1001", "1", "value1", "request")));
+
+        // when
+        final Future<StoredDataResult> result = batcher.fetch("1001", singleton("1"), singleton("2"), timeout);
+
+        // then
+        verify(vertx).cancelTimer(7L);
+        verify(query).execute(singleton("1"), singleton("2"), timeout);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void fetchShouldPropagateQueryFailureToAllFetchesInBatch() {
+        // given
+        batcher = new StoredDataQueryBatcher(query, vertx, 5, 10);
+        given(query.execute(any(), any(), any())).willReturn(Future.failedFuture("error"));
+
+        final Future<StoredDataResult> first = batcher.fetch("1001", singleton("1"), emptySet(), timeout);
+        final Future<StoredDataResult> second = batcher.fetch("1001", singleton("2"), emptySet(), timeout);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Long>> timerHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(5L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(first.cause()).hasMessage("error");
+        assertThat(second.cause()).hasMessage("error");
+    }
+
+    private static ResultSet givenResultSet(String accountId, String id, String data, String type) {
+        return new ResultSet().setResults(singletonList(new JsonArray(asList(accountId, id, data, type))));
+    }
+}
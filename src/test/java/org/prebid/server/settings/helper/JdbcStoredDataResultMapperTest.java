@@ -289,4 +289,22 @@ public class JdbcStoredDataResultMapperTest {
                 .containsOnly(entry("id2", "data2"));
         assertThat(result.getErrors()).isEmpty();
     }
+
+    @Test
+    public void mapRequestedIdsShouldNotResolveStoredItemsOfTypeWithoutRequestedIds() {
+        // given
+        given(resultSet.getResults()).willReturn(asList(
+                new JsonArray(asList("accountId", "id1", "data1", "request")),
+                new JsonArray(asList("otherAccountId", "id2", "data2", "imp"))));
+
+        // when
+        final StoredDataResult result = JdbcStoredDataResultMapper.mapRequestedIds(resultSet, "accountId",
+                singleton("id1"), emptySet());
+
+        // then
+        assertThat(result.getStoredIdToRequest()).hasSize(1)
+                .containsOnly(entry("id1", "data1"));
+        assertThat(result.getStoredIdToImp()).isEmpty();
+        assertThat(result.getErrors()).isEmpty();
+    }
 }
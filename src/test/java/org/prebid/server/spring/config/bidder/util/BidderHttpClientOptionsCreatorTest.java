@@ -0,0 +1,71 @@
+package org.prebid.server.spring.config.bidder.util;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import org.junit.Test;
+import org.prebid.server.spring.config.bidder.model.BidderConfigurationProperties;
+import org.prebid.server.spring.config.bidder.model.BidderHttpClientProperties;
+
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class BidderHttpClientOptionsCreatorTest {
+
+    @Test
+    public void hostToPropertiesShouldReturnPropertiesOfEnabledBiddersWithConcreteHost() {
+        // given
+        final BidderHttpClientProperties first = new BidderHttpClientProperties();
+        final BidderHttpClientProperties second = new BidderHttpClientProperties();
+
+        // when
+        final Map<String, BidderHttpClientProperties> result = BidderHttpClientOptionsCreator.hostToProperties(asList(
+                givenBidderProperties(true, "https://Bidder.com:8443/openrtb2", first),
+                givenBidderProperties(true, "https://bidder.com/other", second),
+                givenBidderProperties(false, "https://disabled.com/openrtb2", second),
+                givenBidderProperties(true, "https://{{Host}}/openrtb2", second),
+                givenBidderProperties(true, "https://default.com/openrtb2", null)));
+
+        // then
+        assertThat(result).containsOnly(entry("bidder.com", first));
+    }
+
+    @Test
+    public void createShouldOverrideDefaultOptions() {
+        // given
+        final HttpClientOptions defaultOptions = new HttpClientOptions()
+                .setMaxPoolSize(4000)
+                .setConnectTimeout(2500);
+
+        final BidderHttpClientProperties properties = new BidderHttpClientProperties();
+        properties.setMaxPoolSize(100);
+        properties.setHttp2(true);
+        properties.setHttp2MultiplexingLimit(50);
+        properties.setPipelining(true);
+
+        // when
+        final HttpClientOptions result = BidderHttpClientOptionsCreator.create(defaultOptions, properties);
+
+        // then
+        assertThat(result.getMaxPoolSize()).isEqualTo(100);
+        assertThat(result.getConnectTimeout()).isEqualTo(2500);
+        assertThat(result.getProtocolVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(result.isHttp2ClearTextUpgrade()).isFalse();
+        assertThat(result.getHttp2MultiplexingLimit()).isEqualTo(50);
+        assertThat(result.isPipelining()).isTrue();
+        assertThat(defaultOptions.getMaxPoolSize()).isEqualTo(4000);
+    }
+
+    private static BidderConfigurationProperties givenBidderProperties(boolean enabled,
+                                                                        String endpoint,
+                                                                        BidderHttpClientProperties httpClient) {
+
+        final BidderConfigurationProperties properties = new BidderConfigurationProperties();
+        properties.setEnabled(enabled);
+        properties.setEndpoint(endpoint);
+        properties.setHttpClient(httpClient);
+        return properties;
+    }
+}
@@ -1,6 +1,8 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -97,6 +99,68 @@ public class BidderParamValidatorTest extends VertxTest {
                         bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
     }
 
+    @Test
+    public void createShouldFailOnNegativeCacheSize() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper, -1));
+    }
+
+    @Test
+    public void validateShouldReturnCachedMessagesForEqualParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper, 10);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, mapper.convertValue(ext, JsonNode.class));
+        final Set<String> cachedMessages =
+                bidderParamValidator.validate(RUBICON, mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(messages).hasSize(1);
+        assertThat(cachedMessages).isSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotCacheLargeParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper, 10);
+
+        final ObjectNode node = mapper.convertValue(
+                ExtImpRubicon.builder().siteId(2).zoneId(3).build(), ObjectNode.class);
+        node.put("padding", StringUtils.repeat('a', 512));
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> nextMessages = bidderParamValidator.validate(RUBICON, node.deepCopy());
+
+        // then
+        assertThat(messages).hasSize(1);
+        assertThat(nextMessages).isEqualTo(messages).isNotSameAs(messages);
+    }
+
+    @Test
+    public void validateShouldNotReturnCachedMessagesForValidatedParamsModifiedLater() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper, 10);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().accountId(1).siteId(2).zoneId(3).build();
+        final ObjectNode node = mapper.convertValue(ext, ObjectNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+        node.remove("accountId");
+        final Set<String> modifiedNodeMessages = bidderParamValidator.validate(RUBICON, node);
+        final Set<String> originalNodeMessages =
+                bidderParamValidator.validate(RUBICON, mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(messages).isEmpty();
+        assertThat(modifiedNodeMessages).hasSize(1);
+        assertThat(originalNodeMessages).isEmpty();
+    }
+
     @Test
     public void validateShouldNotReturnValidationMessagesWhenRubiconImpExtIsOk() {
         // given
@@ -1,5 +1,6 @@
 package org.prebid.server.vertx;
 
+import io.vertx.circuitbreaker.TimeoutException;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -136,6 +137,20 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldFailIfOperationIsNotCompletedWithinTimeout(TestContext context) {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 1, 100L, 200L, 50L, clock);
+
+        // when
+        final Future<?> future = execute(context, operationPromise -> {
+        });
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+    }
+
     private Future<String> executeWithSuccess(TestContext context, String result) {
         return execute(context, operationPromise -> operationPromise.complete(result));
     }
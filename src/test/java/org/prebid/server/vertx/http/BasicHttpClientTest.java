@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -84,6 +86,24 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).end(eq("body"));
     }
 
+    @Test
+    public void requestShouldUseDedicatedHttpClientOfUrlHost() {
+        // given
+        final io.vertx.core.http.HttpClient dedicatedHttpClient = mock(io.vertx.core.http.HttpClient.class);
+        given(dedicatedHttpClient.requestAbs(any(), any())).willReturn(httpClientRequest);
+
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient,
+                Collections.singletonMap("Bidder.com", dedicatedHttpClient));
+
+        // when
+        httpClient.request(HttpMethod.POST, "https://bidder.COM:8443/path?query", null, "body", 500L);
+        httpClient.request(HttpMethod.POST, "https://other.com/bidder.com", null, "body", 500L);
+
+        // then
+        verify(dedicatedHttpClient).requestAbs(eq(HttpMethod.POST), eq("https://bidder.COM:8443/path?query"));
+        verify(wrappedHttpClient).requestAbs(eq(HttpMethod.POST), eq("https://other.com/bidder.com"));
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -100,6 +120,28 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldReturnResponseWithReceivedBodyBytes() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        given(httpClientResponse.statusCode()).willReturn(200);
+        given(httpClientResponse.bodyHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("{\"key\":\"значение\"}")));
+
+        // when
+        final Future<?> future = httpClient.request(HttpMethod.GET, null, null, (String) null, 1L);
+
+        // then
+        assertThat(future.result())
+                .extracting("statusCode", "bodyBytes", "body")
+                .containsExactly(
+                        200,
+                        "{\"key\":\"значение\"}".getBytes(StandardCharsets.UTF_8),
+                        "{\"key\":\"значение\"}");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // when
@@ -194,6 +194,24 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void requestShouldUseSameCircuitBreakerForUrlsWithSameSchemeHostAndPort(TestContext context) {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+
+        // when
+        doRequest(context, "http://url:8080");
+        doRequest(context, "http://url:8080/path?query=value");
+        doRequest(context, "HTTP://url:8080#fragment");
+        doRequest(context, "http://user@url:8080/path");
+        doRequest(context, "https://url:8080/path");
+
+        // then
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_url_8080"), any());
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("https_url_8080"), any());
+        verify(metrics, times(2)).createHttpClientCircuitBreakerGauge(anyString(), any());
+    }
+
     @Test
     public void circuitBreakerNumberGaugeShouldReportActualNumber(TestContext context) {
         // when
@@ -260,8 +278,11 @@ public class CircuitBreakerSecuredHttpClientTest {
     }
 
     private Future<HttpClientResponse> doRequest(TestContext context) {
-        final Future<HttpClientResponse> future = httpClient.request(HttpMethod.GET, "http://url", null, (String) null,
-                0L);
+        return doRequest(context, "http://url");
+    }
+
+    private Future<HttpClientResponse> doRequest(TestContext context, String url) {
+        final Future<HttpClientResponse> future = httpClient.request(HttpMethod.GET, url, null, (String) null, 0L);
 
         final Async async = context.async();
         future.onComplete(ar -> async.complete());